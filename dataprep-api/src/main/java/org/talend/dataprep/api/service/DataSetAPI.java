@@ -19,6 +19,7 @@ import java.io.OutputStream;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -39,7 +40,7 @@ import org.talend.dataprep.api.preparation.Preparation;
 import org.talend.dataprep.api.service.api.EnrichedDataSetMetadata;
 import org.talend.dataprep.api.service.command.dataset.*;
 import org.talend.dataprep.api.service.command.preparation.PreparationList;
-import org.talend.dataprep.api.service.command.preparation.PreparationSearchByDataSetId;
+import org.talend.dataprep.api.service.command.preparation.PreparationSearchByDataSetIds;
 import org.talend.dataprep.api.service.command.transformation.SuggestDataSetActions;
 import org.talend.dataprep.api.service.command.transformation.SuggestLookupActions;
 import org.talend.dataprep.command.CommandHelper;
@@ -62,6 +63,9 @@ import static org.talend.dataprep.exception.error.APIErrorCodes.UNABLE_TO_SEARCH
 @RestController
 public class DataSetAPI extends APIService {
 
+    /** Number of data sets whose preparations are retrieved at once when listing data sets summary. */
+    private static final int SUMMARY_BATCH_SIZE = 500;
+
     @InitBinder
     private void initBinder(WebDataBinder binder) {
         // This allow to bind Sort and Order parameters in lower-case even if the key is uppercase.
@@ -279,9 +283,14 @@ public class DataSetAPI extends APIService {
             });
             numberOfDataSets = datasets.size();
             generator.writeStartArray();
-            for (DataSetMetadata dataSetMetadata : datasets) {
-                EnrichedDataSetMetadata enrichedDataSet = enrichDataSetMetadata(dataSetMetadata);
-                generator.writeObject(enrichedDataSet);
+            // preparations are retrieved by batches of data sets, each batch is written as soon as it is enriched
+            for (int start = 0; start < numberOfDataSets; start += SUMMARY_BATCH_SIZE) {
+                final List<DataSetMetadata> batch = datasets.subList(start,
+                        Math.min(start + SUMMARY_BATCH_SIZE, numberOfDataSets));
+                for (EnrichedDataSetMetadata enrichedDataSet : enrichDataSetMetadata(batch)) {
+                    generator.writeObject(enrichedDataSet);
+                }
+                generator.flush();
             }
             generator.writeEndArray();
         } catch (IOException e) {
@@ -292,22 +301,28 @@ public class DataSetAPI extends APIService {
     }
 
     /**
-     * Add the related preparations list to the given dataset metadata.
+     * Add the related preparations list to the given datasets metadata (preparations of all the datasets are retrieved
+     * in a single call).
      *
-     * @param dataSetMetadata the dataset metadata to enrich.
-     * @return the enriched dataset metadata.
+     * @param dataSetsMetadata the datasets metadata to enrich.
+     * @return the enriched datasets metadata.
      */
-    private EnrichedDataSetMetadata enrichDataSetMetadata(DataSetMetadata dataSetMetadata) {
-        final PreparationSearchByDataSetId getPreparations = getCommand(PreparationSearchByDataSetId.class,
-                dataSetMetadata.getId());
+    private List<EnrichedDataSetMetadata> enrichDataSetMetadata(List<DataSetMetadata> dataSetsMetadata) {
+        final List<String> dataSetIds = dataSetsMetadata.stream().map(DataSetMetadata::getId).collect(Collectors.toList());
+        Map<String, List<Preparation>> preparations;
+        final PreparationSearchByDataSetIds getPreparations = getCommand(PreparationSearchByDataSetIds.class, dataSetIds);
         try (InputStream input = getPreparations.execute()) {
-            List<Preparation> preparations = mapper.readValue(input, new TypeReference<List<Preparation>>() {
+            preparations = mapper.readValue(input, new TypeReference<Map<String, List<Preparation>>>() {
             });
-            return new EnrichedDataSetMetadata(dataSetMetadata, preparations);
         } catch (IOException e) {
-            LOG.warn("error reading related preparations for {}, let's skip this one", dataSetMetadata.getId(), e);
-            return new EnrichedDataSetMetadata(dataSetMetadata, Collections.emptyList());
+            LOG.warn("error reading related preparations for {} datasets, let's skip them", dataSetIds.size(), e);
+            preparations = Collections.emptyMap();
         }
+        final Map<String, List<Preparation>> preparationsByDataSet = preparations;
+        return dataSetsMetadata.stream() //
+                .map(metadata -> new EnrichedDataSetMetadata(metadata,
+                        preparationsByDataSet.getOrDefault(metadata.getId(), Collections.emptyList()))) //
+                .collect(Collectors.toList());
     }
 
     /**
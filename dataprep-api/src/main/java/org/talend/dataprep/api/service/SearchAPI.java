@@ -20,8 +20,13 @@ import static org.talend.dataprep.exception.error.APIErrorCodes.UNABLE_TO_SEARCH
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.commons.io.IOUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -33,14 +38,15 @@ import org.talend.dataprep.api.service.command.dataset.SearchDataSets;
 import org.talend.dataprep.api.service.command.folder.SearchFolders;
 import org.talend.dataprep.api.service.command.preparation.LocatePreparation;
 import org.talend.dataprep.api.service.command.preparation.PreparationSearchByName;
+import org.talend.dataprep.command.GenericCommand;
 import org.talend.dataprep.exception.TDPException;
 import org.talend.dataprep.metrics.Timed;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.type.TypeReference;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
+import rx.Observable;
 
 /**
  * API in charge of the search.
@@ -50,11 +56,13 @@ public class SearchAPI extends APIService {
 
 
     /**
-     * Search dataprep folders, preparations and datasets.
+     * Search dataprep folders, preparations and datasets. The searches are sent at once to the services (each one in
+     * its own command group), and each section of the result is written as soon as its search completes.
      *
      * @param name the name searched.
      * @param filter the types of items to search. It can be (dataset, preparation, folder).
      * @param strict strict mode means that the name should be the full name (still case insensitive).
+     * @param limit the maximum number of items returned for each type (negative for no limit).
      */
     //@formatter:off
     @RequestMapping(value = "/api/search", method = GET, produces = APPLICATION_JSON_VALUE)
@@ -64,6 +72,7 @@ public class SearchAPI extends APIService {
             @ApiParam(value = "name") @RequestParam(defaultValue = "", required = false) final String name,
             @ApiParam(value = "filter") @RequestParam(required = false) final List<String> filter,
             @ApiParam(value = "strict") @RequestParam(defaultValue = "false", required = false) final boolean strict,
+            @ApiParam(value = "maximum number of items of each type") @RequestParam(defaultValue = "-1", required = false) final int limit,
             final OutputStream output) {
     //@formatter:on
 
@@ -71,24 +80,35 @@ public class SearchAPI extends APIService {
             LOG.debug("Searching dataprep for '{}' (pool: {})...", name, getConnectionStats());
         }
 
-        int foldersFound = 0;
-        int datasetsFound = 0;
-        int preparationsFound = 0;
+        final List<Observable<Section>> searches = new ArrayList<>(3);
+        if (filter == null || filter.contains("folder")) {
+            searches.add(search("folders", getCommand(SearchFolders.class, name, strict), this::writeFolders));
+        }
+        if (filter == null || filter.contains("dataset")) {
+            searches.add(search("datasets", getCommand(SearchDataSets.class, name, strict), this::writeDatasets));
+        }
+        if (filter == null || filter.contains("preparation")) {
+            searches.add(search("preparations", getCommand(PreparationSearchByName.class, name, strict), this::writePreparations));
+        }
+
+        final Map<String, Integer> found = new HashMap<>();
         try (final JsonGenerator generator = mapper.getFactory().createGenerator(output)) {
             generator.writeStartObject();
-
-            if(filter == null || filter.contains("folder")) {
-                foldersFound = searchAndWriteFolders(name, strict, generator);
-            }
-            if(filter == null || filter.contains("dataset")) {
-                datasetsFound = searchAndWriteDatasets(name, strict, generator);
-            }
-            if(filter == null || filter.contains("preparation")) {
-                preparationsFound = searchAndWritePreparations(name, strict, generator);
+            // searches run concurrently on the command pools, sections are written by the request thread (not by a
+            // command thread, as writing preparations runs other commands) in the order searches complete
+            final Iterator<Section> sections = Observable.mergeDelayError(Observable.from(searches)).toBlocking()
+                    .getIterator();
+            try {
+                while (sections.hasNext()) {
+                    final Section section = sections.next();
+                    found.put(section.name, section.write(generator, limit));
+                    generator.flush();
+                }
+            } finally {
+                // in case of error, results of the searches not written yet must still be released
+                release(sections);
             }
-
             generator.writeEndObject();
-
         } catch (IOException e) {
             throw new TDPException(UNABLE_TO_SEARCH_DATAPREP, e);
         }
@@ -97,76 +117,96 @@ public class SearchAPI extends APIService {
                 name,
                 filter,
                 strict,
-                datasetsFound,
-                foldersFound,
-                preparationsFound
+                found.getOrDefault("folders", 0),
+                found.getOrDefault("datasets", 0),
+                found.getOrDefault("preparations", 0)
         );
 
     }
 
     /**
-     * Search for the given name in the folders and write the result straight to output in json.
-     * @param name the name searched.
-     * @param strict strict mode (the name should be the full name)
-     * @param output where to write the json.  @return the number of folders that match the searched name.
+     * @param name the name of the section in the result.
+     * @param command the search command.
+     * @param writer how to write the search result.
+     * @return an observable that runs the search when subscribed and emits the section to write.
      */
-    private int searchAndWriteFolders(final String name, final boolean strict, final JsonGenerator output) throws IOException {
-        final int foldersFound;
-        final SearchFolders commandListFolders = getCommand(SearchFolders.class, name, strict);
-        try (InputStream input = commandListFolders.execute()) {
-            List<Folder> folders= mapper.readValue(input, new TypeReference<List<Folder>>(){});
-            foldersFound = folders.size();
-            output.writeArrayFieldStart("folders");
-            for (Folder folder : folders) {
-                output.writeObject(folder);
+    private static Observable<Section> search(String name, GenericCommand<InputStream> command, SectionWriter writer) {
+        return command.toObservable().map(input -> new Section(name, input, writer));
+    }
+
+    /**
+     * Releases the results of the remaining sections (without writing them).
+     *
+     * @param sections the sections not written.
+     */
+    private static void release(Iterator<Section> sections) {
+        try {
+            while (sections.hasNext()) {
+                IOUtils.closeQuietly(sections.next().input);
             }
-            output.writeEndArray();
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to release all search results.", e);
+        }
+    }
+
+    /**
+     * Write the folders found straight to output in json.
+     *
+     * @param input the search result.
+     * @param output where to write the json.
+     * @param limit the maximum number of folders to write (negative for no limit).
+     * @return the number of folders written.
+     */
+    private int writeFolders(final InputStream input, final JsonGenerator output, final int limit) throws IOException {
+        int foldersFound = 0;
+        final Iterator<Folder> folders = mapper.readerFor(Folder.class).readValues(input);
+        output.writeArrayFieldStart("folders");
+        while (folders.hasNext() && (limit < 0 || foldersFound < limit)) {
+            output.writeObject(folders.next());
+            foldersFound++;
         }
+        output.writeEndArray();
         return foldersFound;
     }
 
     /**
-     * Search for the given name in the datasets and write the result straight to output in json.
-     * @param name the name searched.
-     * @param strict strict mode (the name should be the full name)
-     *@param output where to write the json.  @return the number of datasets that match the searched name.
+     * Write the datasets found straight to output in json.
+     *
+     * @param input the search result.
+     * @param output where to write the json.
+     * @param limit the maximum number of datasets to write (negative for no limit).
+     * @return the number of datasets written.
      */
-    private int searchAndWriteDatasets(final String name, final boolean strict, final JsonGenerator output) throws IOException {
-
-        final int datasetsFound;
-        final SearchDataSets command = getCommand(SearchDataSets.class, name, strict);
-        try (InputStream input = command.execute()) {
-            List<DataSetMetadata> datasets= mapper.readValue(input, new TypeReference<List<DataSetMetadata>>(){});
-            datasetsFound = datasets.size();
-            output.writeArrayFieldStart("datasets");
-            for (DataSetMetadata metadata: datasets) {
-                output.writeObject(metadata);
-            }
-            output.writeEndArray();
+    private int writeDatasets(final InputStream input, final JsonGenerator output, final int limit) throws IOException {
+        int datasetsFound = 0;
+        final Iterator<DataSetMetadata> datasets = mapper.readerFor(DataSetMetadata.class).readValues(input);
+        output.writeArrayFieldStart("datasets");
+        while (datasets.hasNext() && (limit < 0 || datasetsFound < limit)) {
+            output.writeObject(datasets.next());
+            datasetsFound++;
         }
+        output.writeEndArray();
         return datasetsFound;
     }
 
     /**
-     * Search for the given name in preparations and write them straight to the ouput on json.
-     * @param name the searched name.
-     * @param strict strict mode (the name should be the full name)
-     *@param output where to write the preparations.  @return the number of preparation found.
+     * Write the preparations found (with their location) straight to output in json.
+     *
+     * @param input the search result.
+     * @param output where to write the json.
+     * @param limit the maximum number of preparations to write (negative for no limit), preparations after the limit
+     * are not located.
+     * @return the number of preparations written.
      */
-    private int searchAndWritePreparations(final String name, final boolean strict, final JsonGenerator output) throws IOException {
-
-        final int preparationsFound;
-        final PreparationSearchByName command = getCommand(PreparationSearchByName.class, name, strict);
-        try (InputStream input = command.execute()) {
-            List<Preparation> preparations= mapper.readValue(input, new TypeReference<List<Preparation>>(){});
-            preparationsFound = preparations.size();
-            output.writeArrayFieldStart("preparations");
-            for (Preparation preparation: preparations) {
-                EnrichedPreparation locatedPreparation = locatePreparation(preparation);
-                output.writeObject(locatedPreparation);
-            }
-            output.writeEndArray();
+    private int writePreparations(final InputStream input, final JsonGenerator output, final int limit) throws IOException {
+        int preparationsFound = 0;
+        final Iterator<Preparation> preparations = mapper.readerFor(Preparation.class).readValues(input);
+        output.writeArrayFieldStart("preparations");
+        while (preparations.hasNext() && (limit < 0 || preparationsFound < limit)) {
+            output.writeObject(locatePreparation(preparations.next()));
+            preparationsFound++;
         }
+        output.writeEndArray();
         return preparationsFound;
     }
 
@@ -181,4 +221,46 @@ public class SearchAPI extends APIService {
         final Folder folder = command.execute();
         return new EnrichedPreparation(preparation, folder);
     }
+
+    /**
+     * Writes the result of a search in a section of the json output.
+     */
+    @FunctionalInterface
+    private interface SectionWriter {
+
+        /**
+         * @param input the search result.
+         * @param output where to write the json.
+         * @param limit the maximum number of items to write (negative for no limit).
+         * @return the number of items written.
+         */
+        int write(InputStream input, JsonGenerator output, int limit) throws IOException;
+    }
+
+    /**
+     * The result of a search, ready to be written.
+     */
+    private static class Section {
+
+        private final String name;
+
+        private final InputStream input;
+
+        private final SectionWriter writer;
+
+        private Section(String name, InputStream input, SectionWriter writer) {
+            this.name = name;
+            this.input = input;
+            this.writer = writer;
+        }
+
+        /**
+         * Writes the section and releases the search result (items after the limit are not read).
+         */
+        private int write(JsonGenerator output, int limit) throws IOException {
+            try (InputStream content = input) {
+                return writer.write(content, output, limit);
+            }
+        }
+    }
 }
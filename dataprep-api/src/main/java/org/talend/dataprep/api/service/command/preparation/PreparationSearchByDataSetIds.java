@@ -13,13 +13,14 @@
 
 package org.talend.dataprep.api.service.command.preparation;
 
+import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 import static org.talend.dataprep.command.Defaults.pipeStream;
 
 import java.io.InputStream;
-import java.net.URISyntaxException;
+import java.util.Collection;
 
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
 import org.springframework.context.annotation.Scope;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -27,26 +28,29 @@ import org.talend.dataprep.command.GenericCommand;
 import org.talend.dataprep.exception.TDPException;
 import org.talend.dataprep.exception.error.CommonErrorCodes;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 /**
- * Command used to retrieve the preparations based on a dataset.
+ * Command used to retrieve the preparations based on several datasets in a single call (preparations are returned by
+ * dataset id).
  */
 @Component
 @Scope("prototype")
-public class PreparationSearchByDataSetId extends GenericCommand<InputStream> {
+public class PreparationSearchByDataSetIds extends GenericCommand<InputStream> {
 
     /**
-     * Private constructor used to construct the generic command used to list of preparations based on a dataset id.
+     * Private constructor used to construct the generic command used to list the preparations based on dataset ids.
      *
-     * @param datasetId the dataset id.
+     * @param dataSetIds the dataset ids.
      */
-    private PreparationSearchByDataSetId(String datasetId) {
+    private PreparationSearchByDataSetIds(Collection<String> dataSetIds) {
         super(GenericCommand.PREPARATION_GROUP);
         execute(() -> {
             try {
-                URIBuilder uriBuilder = new URIBuilder(preparationServiceUrl + "/preparations/search");
-                uriBuilder.addParameter("dataSetId", datasetId);
-                return new HttpGet(uriBuilder.build());
-            } catch (URISyntaxException e) {
+                final HttpPost post = new HttpPost(preparationServiceUrl + "/preparations/search/datasets");
+                post.setEntity(new StringEntity(objectMapper.writer().writeValueAsString(dataSetIds), APPLICATION_JSON));
+                return post;
+            } catch (JsonProcessingException e) {
                 throw new TDPException(CommonErrorCodes.UNEXPECTED_EXCEPTION, e);
             }
         });
@@ -139,6 +139,30 @@ public class SearchAPITest extends ApiServiceTestBase {
         assertSearch("menu", strict, new String[] { "/menu" }, new String[] { datasetId2 }, new String[] { preparationId2 });
     }
 
+    @Test
+    public void shouldLimitSearchResultsOfEachType() throws Exception {
+        // given
+        folderRepository.addFolder(home.getId(), "/whisky/McCallan Sherry Oak");
+        folderRepository.addFolder(home.getId(), "/whisky/McCallan Fine Oak");
+        folderRepository.addFolder(home.getId(), "/whisky/McCallan 1824 Collection");
+        createDataset("dataset/dataset.csv", "MacCallan collection", "text/csv");
+        createDataset("dataset/dataset.csv", "MacCallan tasting", "text/csv");
+
+        // when
+        final Response response = given() //
+                .queryParam("name", "callan") //
+                .queryParam("limit", 2) //
+                .when()//
+                .expect().statusCode(200).log().ifError() //
+                .get("/api/search");
+
+        // then
+        final JsonNode rootNode = mapper.readTree(response.asInputStream());
+        assertThat(rootNode.get("folders").size(), is(2));
+        assertThat(rootNode.get("datasets").size(), is(2));
+        assertThat(rootNode.get("preparations").size(), is(0));
+    }
+
     private void assertSearch(final String name, final boolean strict, final String[] expectedFoldersPath,
                               final String[] expectedDatasetsId, final String[] expectedPreparationsId) throws IOException {
         // when
@@ -0,0 +1,219 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.api.dataset.row;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.dataset.RowMetadata;
+
+/**
+ * Positions of column ids in {@link RowValues}. An index is immutable and shared by all the rows that have the same
+ * columns: it is computed once from the {@link RowMetadata} and rows that get a new column move to an index derived
+ * (and cached) from their current one, so rows that evolve the same way keep on sharing their index.
+ */
+class ColumnIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Maximum number of derived indexes kept by an index (guards against rows with unrelated column ids). */
+    private static final int MAX_CACHED_CHILDREN = 16;
+
+    /** Column ids, in iteration order. */
+    private final String[] ids;
+
+    /** Position of each column id in {@link #ids}. */
+    private final Map<String, Integer> positions;
+
+    /**
+     * <code>true</code> if ids are alphabetically sorted (new ids are inserted at their sorted position),
+     * <code>false</code> if ids follow an explicit order (new ids are appended).
+     */
+    private final boolean sorted;
+
+    /** Position of the id added to the parent index to get this index (-1 if not derived from another index). */
+    private final int insertedAt;
+
+    /** Indexes derived from this one by {@link #with(String)}. */
+    private transient volatile Map<String, ColumnIndex> children;
+
+    /** Last index computed by {@link #order(List)} (with the columns used to compute it). */
+    private transient volatile OrderedIndex lastOrder;
+
+    private ColumnIndex(String[] ids, boolean sorted, int insertedAt) {
+        this.ids = ids;
+        this.sorted = sorted;
+        this.insertedAt = insertedAt;
+        this.positions = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            positions.put(ids[i], i);
+        }
+    }
+
+    /**
+     * @param rowMetadata The row metadata to index (may be <code>null</code>).
+     * @return An index for the columns of <code>rowMetadata</code>, ids being alphabetically sorted.
+     */
+    static ColumnIndex of(RowMetadata rowMetadata) {
+        if (rowMetadata == null) {
+            return new ColumnIndex(new String[0], true, -1);
+        }
+        final List<ColumnMetadata> columns = rowMetadata.getColumns();
+        final String[] ids = new String[columns.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = columns.get(i).getId();
+        }
+        return new ColumnIndex(distinctSorted(ids), true, -1);
+    }
+
+    /**
+     * @param columnIds Column ids.
+     * @return An index for <code>columnIds</code>, ids being alphabetically sorted.
+     */
+    static ColumnIndex sorted(Collection<String> columnIds) {
+        return new ColumnIndex(distinctSorted(columnIds.toArray(new String[columnIds.size()])), true, -1);
+    }
+
+    /**
+     * @param columnIds The column ids in iteration order.
+     * @return An index that keeps the <code>columnIds</code> order.
+     */
+    static ColumnIndex ordered(Collection<String> columnIds) {
+        return new ColumnIndex(columnIds.stream().distinct().toArray(String[]::new), false, -1);
+    }
+
+    private static String[] distinctSorted(String[] ids) {
+        return Arrays.stream(ids).filter(id -> id != null).distinct().sorted().toArray(String[]::new);
+    }
+
+    /**
+     * @param id A column id.
+     * @return The position of <code>id</code> or -1 if id is not in this index.
+     */
+    int position(String id) {
+        final Integer position = positions.get(id);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * @param position A position in this index.
+     * @return The column id at <code>position</code>.
+     */
+    String id(int position) {
+        return ids[position];
+    }
+
+    /**
+     * @return The number of column ids in this index.
+     */
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * @return The position of the id added to the parent index to get this index (values after this position are
+     * shifted by one).
+     */
+    int insertedAt() {
+        return insertedAt;
+    }
+
+    /**
+     * @param id A column id that is not in this index.
+     * @return An index with all the ids of this index plus <code>id</code>.
+     */
+    ColumnIndex with(String id) {
+        final Map<String, ColumnIndex> derived = children();
+        final ColumnIndex cached = derived.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        final ColumnIndex child = createChild(id);
+        if (derived.size() < MAX_CACHED_CHILDREN) {
+            final ColumnIndex previous = derived.putIfAbsent(id, child);
+            return previous == null ? child : previous;
+        }
+        return child;
+    }
+
+    private ColumnIndex createChild(String id) {
+        int insertion = ids.length;
+        if (sorted) {
+            insertion = -Arrays.binarySearch(ids, id) - 1;
+        }
+        final String[] childIds = new String[ids.length + 1];
+        System.arraycopy(ids, 0, childIds, 0, insertion);
+        childIds[insertion] = id;
+        System.arraycopy(ids, insertion, childIds, insertion + 1, ids.length - insertion);
+        return new ColumnIndex(childIds, sorted, insertion);
+    }
+
+    /**
+     * @param columns Columns in the expected iteration order.
+     * @return An index that follows <code>columns</code> order (reused as long as the same columns list is used).
+     */
+    ColumnIndex order(List<ColumnMetadata> columns) {
+        final OrderedIndex last = lastOrder;
+        if (last != null && last.columns == columns) {
+            return last.index;
+        }
+        final String[] orderedIds = new String[columns.size()];
+        for (int i = 0; i < orderedIds.length; i++) {
+            orderedIds[i] = columns.get(i).getId();
+        }
+        final ColumnIndex index = ordered(Arrays.asList(orderedIds));
+        lastOrder = new OrderedIndex(columns, index);
+        return index;
+    }
+
+    private Map<String, ColumnIndex> children() {
+        Map<String, ColumnIndex> current = children;
+        if (current == null) {
+            synchronized (this) {
+                current = children;
+                if (current == null) {
+                    current = new ConcurrentHashMap<>(4);
+                    children = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnIndex{" + Arrays.toString(ids) + '}';
+    }
+
+    /**
+     * An index computed for a list of columns.
+     */
+    private static class OrderedIndex {
+
+        private final List<ColumnMetadata> columns;
+
+        private final ColumnIndex index;
+
+        private OrderedIndex(List<ColumnMetadata> columns, ColumnIndex index) {
+            this.columns = columns;
+            this.index = index;
+        }
+    }
+}
@@ -14,21 +14,22 @@
 package org.talend.dataprep.api.dataset.row;
 
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.StreamSupport.stream;
 import static org.talend.dataprep.api.dataset.row.FlagNames.INTERNAL_PROPERTY_PREFIX;
 import static org.talend.dataprep.api.dataset.row.FlagNames.TDP_INVALID;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.commons.lang.StringUtils;
 import org.talend.dataprep.api.dataset.ColumnMetadata;
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.type.Type;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 /**
  * A DataSetRow is a row of a dataset. Values in data set row are <b>alphabetically</b> ordered by name.
  */
@@ -51,7 +52,7 @@ public class DataSetRow implements Cloneable, Serializable {
     private RowMetadata rowMetadata;
 
     /** Values of the dataset row. */
-    private Map<String, String> values = new TreeMap<>();
+    private RowValues values;
 
     /** True if this row is deleted. */
     private boolean deleted;
@@ -70,6 +71,7 @@ public class DataSetRow implements Cloneable, Serializable {
      */
     public DataSetRow(RowMetadata rowMetadata) {
         this.rowMetadata = rowMetadata;
+        this.values = new RowValues(rowMetadata);
         this.deleted = false;
     }
 
@@ -84,6 +86,7 @@ public class DataSetRow implements Cloneable, Serializable {
     }
 
     public DataSetRow(Map<String, String> values) {
+        this.values = new RowValues(ColumnIndex.sorted(values.keySet()));
         for (Map.Entry<String, String> entry : values.entrySet()) {
             set(entry.getKey(), entry.getValue());
         }
@@ -173,11 +176,7 @@ public class DataSetRow implements Cloneable, Serializable {
         final Map<String, Object> result = new LinkedHashMap<>(values.size() + 1);
 
         // put all invalid column ids
-        getInternalValues().entrySet().forEach(e -> {
-            if (!StringUtils.isEmpty(e.getValue())) {
-                values.put(e.getKey(), e.getValue());
-            }
-        });
+        putInternalValues();
 
         // if not old value, no diff to compute
         if (this.oldValue == null) {
@@ -236,6 +235,150 @@ public class DataSetRow implements Cloneable, Serializable {
         return result;
     }
 
+    /**
+     * Puts the non empty internal values (see {@link #getInternalValues()}) in row values.
+     */
+    private void putInternalValues() {
+        if (!invalidColumnIds.isEmpty()) {
+            values.put(TDP_INVALID, String.join(",", invalidColumnIds));
+        }
+    }
+
+    /**
+     * Writes this row to <code>generator</code> as a JSON object with the same content as {@link #valuesWithId()}
+     * (values, diff flags and tdp id), without building the intermediate maps.
+     *
+     * @param generator The generator to write to.
+     * @throws IOException In case of write error.
+     */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        writeTo(generator, true);
+    }
+
+    /**
+     * @param generator The generator to write to.
+     * @param includeInternalValues <code>false</code> to skip values whose name starts with
+     * {@link FlagNames#INTERNAL_PROPERTY_PREFIX} (tdp id is always written).
+     * @throws IOException In case of write error.
+     * @see #writeTo(JsonGenerator)
+     */
+    protected void writeTo(JsonGenerator generator, boolean includeInternalValues) throws IOException {
+        if (oldValue != null && !oldValue.isDeleted() && isDeleted()) {
+            // Deleted row: values are the ones of the old row, this is not the common case, write what values() says
+            writeEntries(generator, valuesWithId().entrySet(), includeInternalValues);
+            return;
+        }
+        generator.writeStartObject();
+        putInternalValues();
+        if (oldValue == null) {
+            writeValues(generator, includeInternalValues);
+        } else {
+            writeDiff(generator, includeInternalValues);
+        }
+        if (rowId != null) {
+            generator.writeNumberField(FlagNames.TDP_ID, rowId);
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeValues(JsonGenerator generator, boolean includeInternalValues) throws IOException {
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (includeInternalValues || !isInternal(entry.getKey())) {
+                generator.writeStringField(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Writes values and diff flags the same way {@link #values()} computes them.
+     */
+    private void writeDiff(JsonGenerator generator, boolean includeInternalValues) throws IOException {
+        if (oldValue.isDeleted() && !isDeleted() && includeInternalValues) {
+            generator.writeStringField(FlagNames.ROW_DIFF_KEY, Flag.NEW.getValue());
+        }
+        final DataSetRow original = oldValue.modifiable();
+        original.putInternalValues();
+        final RowValues originalValues = original.values;
+
+        // put back the deleted values so that they can be displayed
+        List<String> deletedIds = null;
+        for (Map.Entry<String, String> entry : originalValues.entrySet()) {
+            if (!values.containsKey(entry.getKey())) {
+                if (deletedIds == null) {
+                    deletedIds = new ArrayList<>();
+                }
+                deletedIds.add(entry.getKey());
+            }
+        }
+        if (deletedIds != null) {
+            for (String deletedId : deletedIds) {
+                set(deletedId, originalValues.get(deletedId));
+            }
+        }
+        writeValues(generator, includeInternalValues);
+        if (includeInternalValues) {
+            writeFlags(generator, originalValues, deletedIds);
+        }
+    }
+
+    /**
+     * Writes the {@link FlagNames#DIFF_KEY diff flags} of values (values deleted then put back are flagged as
+     * deleted).
+     */
+    private void writeFlags(JsonGenerator generator, RowValues originalValues, List<String> deletedIds) throws IOException {
+        boolean hasDiff = false;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            final String id = entry.getKey();
+            final Flag flag;
+            if (deletedIds != null && deletedIds.contains(id)) {
+                flag = Flag.DELETE;
+            } else if (!originalValues.containsKey(id)) {
+                flag = Flag.NEW;
+            } else if (!StringUtils.equals(entry.getValue(), originalValues.get(id))) {
+                flag = Flag.UPDATE;
+            } else {
+                continue;
+            }
+            hasDiff = startDiff(generator, hasDiff);
+            generator.writeStringField(id, flag.getValue());
+        }
+        if (deletedIds != null) {
+            // deleted ids that did not make it into values (e.g. invalid markers)
+            for (String deletedId : deletedIds) {
+                if (!values.containsKey(deletedId)) {
+                    hasDiff = startDiff(generator, hasDiff);
+                    generator.writeStringField(deletedId, Flag.DELETE.getValue());
+                }
+            }
+        }
+        if (hasDiff) {
+            generator.writeEndObject();
+        }
+    }
+
+    private static boolean startDiff(JsonGenerator generator, boolean started) throws IOException {
+        if (!started) {
+            generator.writeObjectFieldStart(FlagNames.DIFF_KEY);
+        }
+        return true;
+    }
+
+    private static void writeEntries(JsonGenerator generator, Set<Map.Entry<String, Object>> entries,
+            boolean includeInternalValues) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, Object> entry : entries) {
+            if (includeInternalValues || !isInternal(entry.getKey()) || FlagNames.TDP_ID.equals(entry.getKey())) {
+                generator.writeFieldName(entry.getKey());
+                generator.writeObject(entry.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static boolean isInternal(String id) {
+        return id != null && id.startsWith(INTERNAL_PROPERTY_PREFIX);
+    }
+
     public Map<String, Object> valuesWithId() {
         final Map<String, Object> temp = values();
         if (getTdpId() != null) {
@@ -261,7 +404,8 @@ public class DataSetRow implements Cloneable, Serializable {
      */
     @Override
     public DataSetRow clone() {
-        final DataSetRow clone = new DataSetRow(rowMetadata, values);
+        final DataSetRow clone = new DataSetRow(rowMetadata);
+        clone.values = values.copy();
         clone.invalidColumnIds.addAll(invalidColumnIds);
         clone.setDeleted(this.isDeleted());
         clone.setTdpId(this.rowId);
@@ -329,14 +473,8 @@ public class DataSetRow implements Cloneable, Serializable {
             throw new IllegalArgumentException("Expected " + values.size() + " columns but got " + columns.size());
         }
 
-        Map<String, String> orderedValues = new LinkedHashMap<>();
-        for (ColumnMetadata column : columns) {
-            final String id = column.getId();
-            orderedValues.put(id, values.get(id));
-        }
-
         final DataSetRow dataSetRow = new DataSetRow(rowMetadata);
-        dataSetRow.values = orderedValues;
+        dataSetRow.values = values.order(columns);
         return dataSetRow;
     }
 
@@ -377,18 +515,24 @@ public class DataSetRow implements Cloneable, Serializable {
      */
     @SafeVarargs
     public final String[] toArray(Predicate<Map.Entry<String, String>>... filters) {
-        Stream<Map.Entry<String, String>> stream = stream(values.entrySet().spliterator(), false);
-        // Apply filters
-        for (Predicate<Map.Entry<String, String>> filter : filters) {
-            stream = stream.filter(filter);
+        final List<String> strings = new ArrayList<>(values.size());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (accept(entry, filters)) {
+                strings.add(String.valueOf(entry.getValue()));
+            }
         }
-        // Get as string array the selected columns
-        final List<String> strings = stream.map(Map.Entry::getValue) //
-                .map(String::valueOf) //
-                .collect(Collectors.toList());
         return strings.toArray(new String[strings.size()]);
     }
 
+    private static boolean accept(Map.Entry<String, String> entry, Predicate<Map.Entry<String, String>>[] filters) {
+        for (Predicate<Map.Entry<String, String>> filter : filters) {
+            if (!filter.test(entry)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Long getTdpId() {
         return rowId;
     }
@@ -417,6 +561,15 @@ public class DataSetRow implements Cloneable, Serializable {
         return this;
     }
 
+    /**
+     * @return A view of this {@link DataSetRow} without the internal values (the ones whose name starts with
+     * {@link FlagNames#INTERNAL_PROPERTY_PREFIX}), values are filtered out when the row is read or written (no copy of
+     * the values).
+     */
+    public DataSetRow withoutInternalValues() {
+        return new WithoutInternalValuesDataSetRow(this);
+    }
+
     public DataSetRow filter(List<ColumnMetadata> filteredColumns) {
         final Set<String> columnsToKeep = filteredColumns.stream().map(ColumnMetadata::getId).collect(Collectors.toSet());
         final Set<String> columnsToDelete = values.entrySet().stream()
@@ -424,12 +577,13 @@ public class DataSetRow implements Cloneable, Serializable {
                 .map(Map.Entry::getKey)
                 .collect(Collectors.toSet());
         final RowMetadata rowMetadataClone = rowMetadata.clone();
-        final LinkedHashMap<String, String> filteredValues = new LinkedHashMap<>(this.values);
+        final RowValues filteredValues = values.copy();
         for (String columnId : columnsToDelete) {
             filteredValues.remove(columnId);
             rowMetadataClone.deleteColumnById(columnId);
         }
-        final DataSetRow filteredDataSetRow = new DataSetRow(rowMetadataClone, filteredValues);
+        final DataSetRow filteredDataSetRow = new DataSetRow(rowMetadataClone);
+        filteredDataSetRow.values = filteredValues;
         filteredDataSetRow.invalidColumnIds.addAll(invalidColumnIds);
         return filteredDataSetRow;
     }
@@ -597,5 +751,86 @@ public class DataSetRow implements Cloneable, Serializable {
         public DataSetRow modifiable() {
             return delegate;
         }
+
+        @Override
+        protected void writeTo(JsonGenerator generator, boolean includeInternalValues) throws IOException {
+            delegate.writeTo(generator, includeInternalValues);
+        }
+    }
+
+    /**
+     * A read only view of a {@link DataSetRow} that hides internal values.
+     *
+     * @see #withoutInternalValues()
+     */
+    private static class WithoutInternalValuesDataSetRow extends DataSetRow {
+
+        private final DataSetRow delegate;
+
+        private WithoutInternalValuesDataSetRow(DataSetRow delegate) {
+            super(delegate.rowMetadata);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public RowMetadata getRowMetadata() {
+            return delegate.getRowMetadata();
+        }
+
+        @Override
+        public String get(String id) {
+            return isInternal(id) ? null : delegate.get(id);
+        }
+
+        @Override
+        public boolean isDeleted() {
+            return delegate.isDeleted();
+        }
+
+        @Override
+        public Map<String, Object> values() {
+            final Map<String, Object> values = delegate.values();
+            values.keySet().removeIf(DataSetRow::isInternal);
+            return values;
+        }
+
+        @Override
+        public Map<String, Object> valuesWithId() {
+            final Map<String, Object> values = values();
+            if (getTdpId() != null) {
+                values.put(FlagNames.TDP_ID, getTdpId());
+            }
+            return values;
+        }
+
+        @Override
+        public Long getTdpId() {
+            return delegate.getTdpId();
+        }
+
+        @Override
+        public boolean shouldWrite() {
+            return delegate.shouldWrite();
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+
+        @Override
+        public DataSetRow modifiable() {
+            return delegate;
+        }
+
+        @Override
+        public DataSetRow withoutInternalValues() {
+            return this;
+        }
+
+        @Override
+        protected void writeTo(JsonGenerator generator, boolean includeInternalValues) throws IOException {
+            delegate.writeTo(generator, false);
+        }
     }
 }
@@ -0,0 +1,338 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.api.dataset.row;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.dataset.RowMetadata;
+
+/**
+ * Values of a {@link DataSetRow}: a {@link Map} of column id to value stored in an array indexed by the position of the
+ * column in a shared {@link ColumnIndex}, so reading or writing a value is an array access (no tree walk on column
+ * ids) and copying values is an array copy. Like the previous tree map, entries are iterated in column id order (or in
+ * the explicit order given to {@link #order(List)}).
+ */
+class RowValues extends AbstractMap<String, String> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Stored for <code>null</code> values (a <code>null</code> slot means no value for the column). */
+    private static final String NULL = new String(); // NOSONAR instance identity is what matters here
+
+    /** Metadata used to create the index on first write (avoids index creation for rows that remain empty). */
+    private transient RowMetadata seed;
+
+    private transient ColumnIndex index;
+
+    private transient String[] values;
+
+    private transient int size;
+
+    private transient Set<Map.Entry<String, String>> entrySet;
+
+    /**
+     * @param rowMetadata The metadata of the row (used to index values, may be <code>null</code>).
+     */
+    RowValues(RowMetadata rowMetadata) {
+        this.seed = rowMetadata;
+    }
+
+    /**
+     * @param index The index to use for values.
+     */
+    RowValues(ColumnIndex index) {
+        this.index = index;
+        this.values = new String[index.size()];
+    }
+
+    private RowValues(ColumnIndex index, String[] values, int size) {
+        this.index = index;
+        this.values = values;
+        this.size = size;
+    }
+
+    private void ensureIndex() {
+        if (index == null) {
+            index = ColumnIndex.of(seed);
+            values = new String[index.size()];
+            seed = null;
+        }
+    }
+
+    private int position(Object id) {
+        if (index == null || !(id instanceof String)) {
+            return -1;
+        }
+        return index.position((String) id);
+    }
+
+    private static String encode(String value) {
+        return value == null ? NULL : value;
+    }
+
+    private static String decode(String value) {
+        return value == NULL ? null : value; // NOSONAR identity comparison is intended
+    }
+
+    @Override
+    public String get(Object id) {
+        final int position = position(id);
+        return position < 0 ? null : decode(values[position]);
+    }
+
+    @Override
+    public boolean containsKey(Object id) {
+        final int position = position(id);
+        return position >= 0 && values[position] != null;
+    }
+
+    @Override
+    public String put(String id, String value) {
+        ensureIndex();
+        int position = index.position(id);
+        if (position < 0) {
+            addColumn(id);
+            position = index.position(id);
+        }
+        final String previous = values[position];
+        values[position] = encode(value);
+        if (previous == null) {
+            size++;
+        }
+        return decode(previous);
+    }
+
+    /**
+     * Moves values to the index derived from current one with <code>id</code>.
+     */
+    private void addColumn(String id) {
+        final ColumnIndex newIndex = index.with(id);
+        final int insertedAt = newIndex.insertedAt();
+        final String[] newValues = new String[newIndex.size()];
+        System.arraycopy(values, 0, newValues, 0, insertedAt);
+        System.arraycopy(values, insertedAt, newValues, insertedAt + 1, values.length - insertedAt);
+        index = newIndex;
+        values = newValues;
+    }
+
+    @Override
+    public String remove(Object id) {
+        final int position = position(id);
+        if (position < 0 || values[position] == null) {
+            return null;
+        }
+        final String previous = values[position];
+        values[position] = null;
+        size--;
+        return decode(previous);
+    }
+
+    /**
+     * Removes all values but keeps the index, so a row reused for the next record does not compute it again.
+     */
+    @Override
+    public void clear() {
+        if (values != null) {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return A copy of these values (sharing the same index).
+     */
+    RowValues copy() {
+        if (index == null) {
+            return new RowValues(seed);
+        }
+        return new RowValues(index, values.clone(), size);
+    }
+
+    /**
+     * @param columns The columns to order values.
+     * @return A copy of these values iterated in <code>columns</code> order. Columns with no value get a
+     * <code>null</code> value.
+     */
+    RowValues order(List<ColumnMetadata> columns) {
+        ensureIndex();
+        final ColumnIndex orderedIndex = index.order(columns);
+        final String[] orderedValues = new String[orderedIndex.size()];
+        for (int i = 0; i < orderedValues.length; i++) {
+            final int position = index.position(orderedIndex.id(i));
+            orderedValues[i] = position < 0 || values[position] == null ? NULL : values[position];
+        }
+        return new RowValues(orderedIndex, orderedValues, orderedValues.length);
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (Map.Entry<String, String> entry : entrySet()) {
+            out.writeObject(entry.getKey());
+            out.writeObject(entry.getValue());
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        final int count = in.readInt();
+        final Map<String, String> read = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            read.put((String) in.readObject(), (String) in.readObject());
+        }
+        index = ColumnIndex.ordered(read.keySet());
+        values = new String[index.size()];
+        read.forEach(this::put);
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            RowValues.this.clear();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, String>> {
+
+        private final ColumnIndex iteratedIndex = index;
+
+        private int next = -1;
+
+        private int last = -1;
+
+        private EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            next++;
+            while (iteratedIndex != null && next < values.length && values[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iteratedIndex != null && next < values.length;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (index != iteratedIndex) {
+                throw new ConcurrentModificationException();
+            }
+            last = next;
+            advance();
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0 || values[last] == null) {
+                throw new IllegalStateException();
+            }
+            values[last] = null;
+            size--;
+            last = -1;
+        }
+    }
+
+    /**
+     * An entry that reads and writes the values array (entries remain valid until a new column is added).
+     */
+    private class Entry implements Map.Entry<String, String> {
+
+        private final String key;
+
+        private final int position;
+
+        private Entry(int position) {
+            this.key = index.id(position);
+            this.position = position;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public String getValue() {
+            return decode(values[position]);
+        }
+
+        @Override
+        public String setValue(String value) {
+            final String previous = values[position];
+            values[position] = encode(value);
+            return decode(previous);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.api.dataset.statistics;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Error bounds of statistics computed with approximate (bounded memory) analysis.
+ */
+public class Approximation implements Serializable {
+
+    /** Serialization UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** Relative standard error of distinct and duplicate counts. */
+    @JsonProperty("distinctCountError")
+    private double distinctCountError;
+
+    /** Maximum overestimation of the occurrences in frequency table. */
+    @JsonProperty("frequencyError")
+    private long frequencyError;
+
+    /** Maximum error (fraction of the values count) on the rank of quantiles, with a 99% confidence. */
+    @JsonProperty("quantileRankError")
+    private double quantileRankError;
+
+    /** Number of rows not analyzed (statistics computed on a sample of the rows). */
+    @JsonProperty("skippedCount")
+    private long skippedCount;
+
+    public double getDistinctCountError() {
+        return distinctCountError;
+    }
+
+    public void setDistinctCountError(double distinctCountError) {
+        this.distinctCountError = distinctCountError;
+    }
+
+    public long getFrequencyError() {
+        return frequencyError;
+    }
+
+    public void setFrequencyError(long frequencyError) {
+        this.frequencyError = frequencyError;
+    }
+
+    public double getQuantileRankError() {
+        return quantileRankError;
+    }
+
+    public void setQuantileRankError(double quantileRankError) {
+        this.quantileRankError = quantileRankError;
+    }
+
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(long skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "Approximation{" + "distinctCountError=" + distinctCountError + ", frequencyError=" + frequencyError
+                + ", quantileRankError=" + quantileRankError + ", skippedCount=" + skippedCount + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Approximation)) {
+            return false;
+        }
+
+        Approximation that = (Approximation) o;
+
+        if (Double.compare(that.distinctCountError, distinctCountError) != 0) {
+            return false;
+        }
+        if (frequencyError != that.frequencyError) {
+            return false;
+        }
+        if (skippedCount != that.skippedCount) {
+            return false;
+        }
+        return Double.compare(that.quantileRankError, quantileRankError) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result;
+        long temp;
+        temp = Double.doubleToLongBits(distinctCountError);
+        result = (int) (temp ^ (temp >>> 32));
+        result = 31 * result + (int) (frequencyError ^ (frequencyError >>> 32));
+        temp = Double.doubleToLongBits(quantileRankError);
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        result = 31 * result + (int) (skippedCount ^ (skippedCount >>> 32));
+        return result;
+    }
+}
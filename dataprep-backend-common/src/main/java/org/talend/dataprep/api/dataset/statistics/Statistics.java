@@ -17,7 +17,9 @@ import java.io.Serializable;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -74,6 +76,11 @@ public class Statistics implements Serializable {
     @JsonProperty("textLengthSummary")
     private TextLengthSummary textLengthSummary = new TextLengthSummary();
 
+    /** Error bounds of approximate statistics (<code>null</code> if statistics are exact). */
+    @JsonProperty("approximation")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Approximation approximation;
+
     public long getCount() {
         return count;
     }
@@ -194,13 +201,21 @@ public class Statistics implements Serializable {
         this.textLengthSummary = textLengthSummary;
     }
 
+    public Approximation getApproximation() {
+        return approximation;
+    }
+
+    public void setApproximation(Approximation approximation) {
+        this.approximation = approximation;
+    }
+
     @Override
     public String toString() {
         return "Statistics{" + "count=" + count + ", valid=" + valid + ", invalid=" + invalid + ", empty=" + empty + ", max="
                 + max + ", min=" + min + ", mean=" + mean + ", variance=" + variance + ", duplicateCount=" + duplicateCount
                 + ", distinctCount=" + distinctCount + ", dataFrequencies=" + dataFrequencies + ", patternFrequencies="
                 + patternFrequencies + ", quantiles=" + quantiles + ", histogram=" + histogram + ", textLengthSummary="
-                + textLengthSummary + '}';
+                + textLengthSummary + ", approximation=" + approximation + '}';
     }
 
     @Override
@@ -254,6 +269,9 @@ public class Statistics implements Serializable {
         if ((histogram == null && that.histogram != null) || (histogram != null && !histogram.equals(that.histogram))) {
             return false;
         }
+        if (!Objects.equals(approximation, that.approximation)) {
+            return false;
+        }
         return textLengthSummary.equals(that.textLengthSummary);
 
     }
@@ -281,6 +299,7 @@ public class Statistics implements Serializable {
         result = 31 * result + quantiles.hashCode();
         result = 31 * result + histogram.hashCode();
         result = 31 * result + textLengthSummary.hashCode();
+        result = 31 * result + Objects.hashCode(approximation);
         return result;
     }
 }
@@ -0,0 +1,67 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+package org.talend.dataprep.api.dataset.statistics.approximate;
+
+import java.util.List;
+
+import org.apache.commons.lang.NotImplementedException;
+import org.talend.dataquality.common.inference.Analyzer;
+import org.talend.dataquality.common.inference.ResizableList;
+
+/**
+ * Cardinality analyzer (distinct and duplicate counts) with a memory use that does not depend on the number of
+ * distinct values.
+ *
+ * @see ApproximateCardinalityStatistics
+ */
+public class ApproximateCardinalityAnalyzer implements Analyzer<ApproximateCardinalityStatistics> {
+
+    private static final long serialVersionUID = 3201957341716378341L;
+
+    private final ResizableList<ApproximateCardinalityStatistics> stats = new ResizableList<>(
+            ApproximateCardinalityStatistics.class);
+
+    @Override
+    public void init() {
+        // Nothing to do
+    }
+
+    @Override
+    public boolean analyze(String... record) {
+        stats.resize(record.length);
+        for (int i = 0; i < record.length; i++) {
+            stats.get(i).add(record[i]);
+        }
+        return true;
+    }
+
+    @Override
+    public Analyzer<ApproximateCardinalityStatistics> merge(Analyzer<ApproximateCardinalityStatistics> another) {
+        throw new NotImplementedException();
+    }
+
+    @Override
+    public void end() {
+        // Nothing to do
+    }
+
+    @Override
+    public List<ApproximateCardinalityStatistics> getResult() {
+        return stats;
+    }
+
+    @Override
+    public void close() throws Exception {
+        // Nothing to do
+    }
+}
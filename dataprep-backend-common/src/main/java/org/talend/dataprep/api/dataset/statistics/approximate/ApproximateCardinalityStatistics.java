@@ -0,0 +1,100 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+package org.talend.dataprep.api.dataset.statistics.approximate;
+
+/**
+ * Distinct and duplicate counts estimated with a HyperLogLog sketch: memory is a fixed array of 2^{@link #PRECISION}
+ * bytes whatever the number of distinct values is.
+ */
+public class ApproximateCardinalityStatistics {
+
+    /** Number of hash bits used to select a register. */
+    static final int PRECISION = 14;
+
+    private static final int REGISTERS = 1 << PRECISION;
+
+    /** Bias correction constant for 2^14 registers. */
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers = new byte[REGISTERS];
+
+    /** Number of values added (including duplicates). */
+    private long count;
+
+    /**
+     * Add the specified value to the sketch.
+     *
+     * @param value the value to add (<code>null</code> is counted as an empty value).
+     */
+    public void add(String value) {
+        final long hash = hash(value == null ? "" : value);
+        final int register = (int) (hash >>> (64 - PRECISION));
+        // Rank is the position of the first 1 bit in remaining bits (a sentinel bit bounds it)
+        final int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        if (registers[register] < rank) {
+            registers[register] = (byte) rank;
+        }
+        count++;
+    }
+
+    /**
+     * @return The estimated number of distinct values.
+     */
+    public long getDistinctCount() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            // Small cardinalities: linear counting is more accurate
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.min(count, Math.round(estimate));
+    }
+
+    /**
+     * @return The estimated number of duplicate values (values minus distinct values).
+     */
+    public long getDuplicateCount() {
+        return count - getDistinctCount();
+    }
+
+    /**
+     * @return The relative standard error of {@link #getDistinctCount()}.
+     */
+    public double getRelativeError() {
+        return 1.04 / Math.sqrt(REGISTERS);
+    }
+
+    /**
+     * 64 bits hash of <code>value</code> (FNV-1a on chars with MurmurHash3 final mix for better bit dispersion).
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,67 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+package org.talend.dataprep.api.dataset.statistics.approximate;
+
+import java.util.List;
+
+import org.apache.commons.lang.NotImplementedException;
+import org.talend.dataquality.common.inference.Analyzer;
+import org.talend.dataquality.common.inference.ResizableList;
+
+/**
+ * Frequency analyzer (most frequent values) with a memory use that does not depend on the number of distinct
+ * values.
+ *
+ * @see ApproximateFrequencyStatistics
+ */
+public class ApproximateFrequencyAnalyzer implements Analyzer<ApproximateFrequencyStatistics> {
+
+    private static final long serialVersionUID = -6230542391286725125L;
+
+    private final ResizableList<ApproximateFrequencyStatistics> stats = new ResizableList<>(
+            ApproximateFrequencyStatistics.class);
+
+    @Override
+    public void init() {
+        // Nothing to do
+    }
+
+    @Override
+    public boolean analyze(String... record) {
+        stats.resize(record.length);
+        for (int i = 0; i < record.length; i++) {
+            stats.get(i).add(record[i]);
+        }
+        return true;
+    }
+
+    @Override
+    public Analyzer<ApproximateFrequencyStatistics> merge(Analyzer<ApproximateFrequencyStatistics> another) {
+        throw new NotImplementedException();
+    }
+
+    @Override
+    public void end() {
+        // Nothing to do
+    }
+
+    @Override
+    public List<ApproximateFrequencyStatistics> getResult() {
+        return stats;
+    }
+
+    @Override
+    public void close() throws Exception {
+        // Nothing to do
+    }
+}
@@ -0,0 +1,155 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+package org.talend.dataprep.api.dataset.statistics.approximate;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Most frequent values estimated with the space saving algorithm: at most {@link #CAPACITY} values are counted. When a
+ * new value comes and all counters are used, the value takes the counter with the lowest count (and inherits its
+ * count). Any value more frequent than <code>count / CAPACITY</code> is guaranteed to be counted, and a count
+ * overestimates the actual occurrences by at most {@link #getMaximumError()}.
+ */
+public class ApproximateFrequencyStatistics {
+
+    /** Maximum number of counted values. */
+    static final int CAPACITY = 1000;
+
+    /** Counters by value. */
+    private final Map<String, Counter> counters = new HashMap<>(CAPACITY * 2);
+
+    /** Counters in a min heap on their count (lowest count first). */
+    private final Counter[] heap = new Counter[CAPACITY];
+
+    private int size;
+
+    /**
+     * Add the specified value.
+     *
+     * @param value the value to add (<code>null</code> is counted as an empty value).
+     */
+    public void add(String value) {
+        final String key = value == null ? "" : value;
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count++;
+            siftDown(counter.position);
+        } else if (size < CAPACITY) {
+            counter = new Counter(key, size);
+            counter.count = 1;
+            heap[size++] = counter;
+            counters.put(key, counter);
+            siftUp(counter.position);
+        } else {
+            // Replace the least frequent value
+            counter = heap[0];
+            counters.remove(counter.value);
+            counter.value = key;
+            counter.error = counter.count;
+            counter.count++;
+            counters.put(key, counter);
+            siftDown(counter.position);
+        }
+    }
+
+    /**
+     * Moves the counter at <code>position</code> up the heap until its parent has a lower count.
+     */
+    private void siftUp(int position) {
+        int current = position;
+        while (current > 0) {
+            final int parent = (current - 1) / 2;
+            if (heap[parent].count <= heap[current].count) {
+                return;
+            }
+            swap(current, parent);
+            current = parent;
+        }
+    }
+
+    /**
+     * Moves the counter at <code>position</code> down the heap until its children have higher counts.
+     */
+    private void siftDown(int position) {
+        int current = position;
+        while (true) {
+            final int left = 2 * current + 1;
+            if (left >= size) {
+                return;
+            }
+            final int right = left + 1;
+            final int child = right < size && heap[right].count < heap[left].count ? right : left;
+            if (heap[current].count <= heap[child].count) {
+                return;
+            }
+            swap(current, child);
+            current = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        final Counter counter = heap[i];
+        heap[i] = heap[j];
+        heap[j] = counter;
+        heap[i].position = i;
+        heap[j].position = j;
+    }
+
+    /**
+     * @param k the number of values to return.
+     * @return The <code>k</code> most frequent values with their (estimated) number of occurrences, most frequent first.
+     */
+    public Map<String, Long> getTopK(int k) {
+        final Counter[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted, Comparator.comparingLong((Counter c) -> c.count).reversed());
+        final Map<String, Long> topK = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(k, sorted.length); i++) {
+            topK.put(sorted[i].value, sorted[i].count);
+        }
+        return topK;
+    }
+
+    /**
+     * @return The maximum overestimation of a count returned by {@link #getTopK(int)} (0 if counts are exact).
+     */
+    public long getMaximumError() {
+        long error = 0;
+        for (int i = 0; i < size; i++) {
+            error = Math.max(error, heap[i].error);
+        }
+        return error;
+    }
+
+    /**
+     * Occurrences of a value (and the count inherited from the value it replaced).
+     */
+    private static class Counter {
+
+        private String value;
+
+        private long count;
+
+        private long error;
+
+        private int position;
+
+        private Counter(String value, int position) {
+            this.value = value;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+package org.talend.dataprep.api.dataset.statistics.approximate;
+
+import java.util.List;
+
+import org.apache.commons.lang.NotImplementedException;
+import org.talend.daikon.number.BigDecimalParser;
+import org.talend.dataquality.common.inference.Analyzer;
+import org.talend.dataquality.common.inference.ResizableList;
+import org.talend.dataquality.statistics.numeric.NumericalStatisticsAnalyzer;
+import org.talend.dataquality.statistics.type.DataTypeEnum;
+import org.talend.dataquality.statistics.type.TypeInferenceUtils;
+
+/**
+ * Quantile analyzer for numeric columns with a memory use that does not depend on the number of values.
+ *
+ * @see ApproximateQuantileStatistics
+ */
+public class ApproximateQuantileAnalyzer extends NumericalStatisticsAnalyzer<ApproximateQuantileStatistics> {
+
+    private static final long serialVersionUID = 8475913270372283913L;
+
+    private final ResizableList<ApproximateQuantileStatistics> stats = new ResizableList<>(
+            ApproximateQuantileStatistics.class);
+
+    /**
+     * Constructor
+     *
+     * @param types data types
+     */
+    public ApproximateQuantileAnalyzer(DataTypeEnum[] types) {
+        super(types);
+    }
+
+    @Override
+    public boolean analyze(String... record) {
+        DataTypeEnum[] types = getTypes();
+
+        if (record.length != types.length) {
+            throw new IllegalArgumentException("Each column of the record should be declared a DataType.Type corresponding! \n"
+                    + types.length + " type(s) declared in this quantile analyzer but " + record.length
+                    + " column(s) was found in this record. \n"
+                    + "Using method: setTypes(DataType.Type[] types) to set the types. ");
+        }
+
+        stats.resize(record.length);
+        for (int index : this.getStatColIdx()) { // analysis each numerical column in the record
+            final String value = record[index];
+            if (!TypeInferenceUtils.isValid(types[index], value)) {
+                continue;
+            }
+            stats.get(index).add(BigDecimalParser.toBigDecimal(value).doubleValue());
+        }
+        return true;
+    }
+
+    @Override
+    public Analyzer<ApproximateQuantileStatistics> merge(Analyzer<ApproximateQuantileStatistics> another) {
+        throw new NotImplementedException();
+    }
+
+    @Override
+    public void end() {
+        // nothing to do here
+    }
+
+    @Override
+    public List<ApproximateQuantileStatistics> getResult() {
+        return stats;
+    }
+
+}
@@ -0,0 +1,101 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+package org.talend.dataprep.api.dataset.statistics.approximate;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Quartiles estimated on a uniform random sample (reservoir sampling) of at most {@link #CAPACITY} values: quartiles
+ * are exact as long as less than {@link #CAPACITY} values were added.
+ */
+public class ApproximateQuantileStatistics {
+
+    /** Maximum number of sampled values. */
+    static final int CAPACITY = 10000;
+
+    /** Fixed seed so that the same content always gives the same quartiles. */
+    private final Random random = new Random(CAPACITY);
+
+    /** Sampled values (allocated on first value, as columns that are not numeric get no value). */
+    private double[] sample;
+
+    /** Number of values added (may be greater than sample size). */
+    private long count;
+
+    private double[] sorted;
+
+    /**
+     * Add the specified value.
+     *
+     * @param value the value to add.
+     */
+    public void add(double value) {
+        if (sample == null) {
+            sample = new double[CAPACITY];
+        }
+        if (count < CAPACITY) {
+            sample[(int) count] = value;
+        } else {
+            // Keep each value with probability CAPACITY / count
+            final long position = (long) (random.nextDouble() * (count + 1));
+            if (position < CAPACITY) {
+                sample[(int) position] = value;
+            }
+        }
+        count++;
+        sorted = null;
+    }
+
+    public double getLowerQuartile() {
+        return quantile(0.25);
+    }
+
+    public double getMedian() {
+        return quantile(0.5);
+    }
+
+    public double getUpperQuartile() {
+        return quantile(0.75);
+    }
+
+    /**
+     * @return The maximum error on the rank of the quartiles (as a fraction of the number of values) with a 99%
+     * confidence (0 if quartiles are exact).
+     */
+    public double getRankError() {
+        if (count <= CAPACITY) {
+            return 0;
+        }
+        // Dvoretzky-Kiefer-Wolfowitz inequality
+        return Math.sqrt(Math.log(2 / 0.01) / (2 * CAPACITY));
+    }
+
+    /**
+     * @param p the quantile to compute (between 0 and 1).
+     * @return The quantile of sampled values (linear interpolation between closest ranks), NaN if no value was added.
+     */
+    private double quantile(double p) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (sorted == null) {
+            sorted = Arrays.copyOf(sample, (int) Math.min(count, CAPACITY));
+            Arrays.sort(sorted);
+        }
+        final double rank = p * (sorted.length - 1);
+        final int lower = (int) Math.floor(rank);
+        final int upper = (int) Math.ceil(rank);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+}
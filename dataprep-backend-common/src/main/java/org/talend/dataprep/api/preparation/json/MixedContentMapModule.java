@@ -77,7 +77,10 @@ public class MixedContentMapModule extends SimpleModule {
                             realJson = node.isArray() && value.endsWith("]");
                         }
 
-                        if (realJson) {
+                        if (realJson && jsonGenerator.canWriteBinaryNatively()) {
+                            // binary formats (e.g. Smile) can not embed raw json, write the parsed content instead
+                            serializerProvider.defaultSerializeValue(node, jsonGenerator);
+                        } else if (realJson) {
                             jsonGenerator.writeRawValue(value);
                         } else {
                             // otherwise, it is written as a string (may be a regular expression, e.g. [A-Za-z0-9]*)
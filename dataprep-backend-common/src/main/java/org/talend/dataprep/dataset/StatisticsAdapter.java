@@ -28,6 +28,9 @@ import org.slf4j.LoggerFactory;
 import org.talend.dataprep.api.dataset.ColumnMetadata;
 import org.talend.dataprep.api.dataset.Quality;
 import org.talend.dataprep.api.dataset.statistics.*;
+import org.talend.dataprep.api.dataset.statistics.approximate.ApproximateCardinalityStatistics;
+import org.talend.dataprep.api.dataset.statistics.approximate.ApproximateFrequencyStatistics;
+import org.talend.dataprep.api.dataset.statistics.approximate.ApproximateQuantileStatistics;
 import org.talend.dataprep.api.dataset.statistics.date.DateHistogram;
 import org.talend.dataprep.api.dataset.statistics.date.StreamDateHistogramStatistics;
 import org.talend.dataprep.api.dataset.statistics.number.NumberHistogram;
@@ -120,6 +123,7 @@ public class StatisticsAdapter {
         injectDataFrequency(currentColumn, result);
         injectPatternFrequency(currentColumn, result);
         injectQuantile(currentColumn, result);
+        injectApproximation(currentColumn, result);
         injectNumberSummary(currentColumn, result); // min, max, mean, variance
         injectTextLength(currentColumn, result);
         injectNumberHistogram(currentColumn, result);
@@ -266,6 +270,47 @@ public class StatisticsAdapter {
         }
     }
 
+    /**
+     * Injects statistics computed by approximate analyzers (used instead of exact ones for large data sets) and their
+     * error bounds.
+     *
+     * @param column the specified column metadata
+     * @param result the analyzer result
+     */
+    private void injectApproximation(final ColumnMetadata column, final Analyzers.Result result) {
+        final Statistics statistics = column.getStatistics();
+        Approximation approximation = null;
+        if (result.exist(ApproximateCardinalityStatistics.class)) {
+            final ApproximateCardinalityStatistics cardinalityStatistics = result.get(ApproximateCardinalityStatistics.class);
+            statistics.setDistinctCount(cardinalityStatistics.getDistinctCount());
+            statistics.setDuplicateCount(cardinalityStatistics.getDuplicateCount());
+            approximation = new Approximation();
+            approximation.setDistinctCountError(cardinalityStatistics.getRelativeError());
+        }
+        if (result.exist(ApproximateFrequencyStatistics.class)) {
+            final ApproximateFrequencyStatistics frequencyStatistics = result.get(ApproximateFrequencyStatistics.class);
+            statistics.getDataFrequencies().clear();
+            frequencyStatistics.getTopK(15).forEach((s, o) -> statistics.getDataFrequencies().add(new DataFrequency(s, o)));
+            approximation = approximation == null ? new Approximation() : approximation;
+            approximation.setFrequencyError(frequencyStatistics.getMaximumError());
+        }
+        if (result.exist(ApproximateQuantileStatistics.class)) {
+            final ApproximateQuantileStatistics quantileStatistics = result.get(ApproximateQuantileStatistics.class);
+            final Quantiles quantiles = statistics.getQuantiles();
+            quantiles.setLowerQuantile(quantileStatistics.getLowerQuartile());
+            quantiles.setMedian(quantileStatistics.getMedian());
+            quantiles.setUpperQuantile(quantileStatistics.getUpperQuartile());
+            approximation = approximation == null ? new Approximation() : approximation;
+            approximation.setQuantileRankError(quantileStatistics.getRankError());
+        }
+        if (approximation != null) {
+            statistics.setApproximation(approximation);
+        } else if (result.exist(CardinalityStatistics.class) || result.exist(DataTypeFrequencyStatistics.class)) {
+            // Exact statistics replace previous approximate ones
+            statistics.setApproximation(null);
+        }
+    }
+
     /**
      * Injects numerical statistics like max, min to statistics of the specified column metadata.
      *
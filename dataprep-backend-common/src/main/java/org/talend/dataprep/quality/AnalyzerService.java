@@ -16,6 +16,7 @@ package org.talend.dataprep.quality;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.StringUtils;
@@ -23,6 +24,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.talend.dataprep.api.dataset.ColumnMetadata;
 import org.talend.dataprep.api.dataset.row.RowMetadataUtils;
+import org.talend.dataprep.api.dataset.statistics.approximate.ApproximateCardinalityAnalyzer;
+import org.talend.dataprep.api.dataset.statistics.approximate.ApproximateFrequencyAnalyzer;
+import org.talend.dataprep.api.dataset.statistics.approximate.ApproximateQuantileAnalyzer;
 import org.talend.dataprep.api.dataset.statistics.date.StreamDateHistogramAnalyzer;
 import org.talend.dataprep.api.dataset.statistics.date.StreamDateHistogramStatistics;
 import org.talend.dataprep.api.dataset.statistics.number.StreamNumberHistogramAnalyzer;
@@ -80,6 +84,15 @@ public class AnalyzerService {
 
     private final CategoryRecognizerBuilder builder;
 
+    /** Maximum number of column shards analyzed in parallel by {@link #sharded(List, Function)} analyzers. */
+    private int shards = 1;
+
+    /**
+     * Number of records after which cardinality, frequency and quantile analysis switch to approximate analyzers with a
+     * bounded memory (0 to always use exact analyzers).
+     */
+    private long approximateThreshold;
+
     public AnalyzerService() {
         this(CategoryRecognizerBuilder.newBuilder().lucene());
     }
@@ -117,6 +130,49 @@ public class AnalyzerService {
         return indexesLocation;
     }
 
+    /**
+     * @return The maximum number of column shards analyzed in parallel by {@link #sharded(List, Function)} analyzers.
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * @param shards The maximum number of column shards analyzed in parallel by {@link #sharded(List, Function)}
+     * analyzers (1 to analyze all columns on the calling thread).
+     */
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * @return The number of records after which cardinality, frequency and quantile analysis are approximate.
+     */
+    public long getApproximateThreshold() {
+        return approximateThreshold;
+    }
+
+    /**
+     * @param approximateThreshold The number of records after which cardinality, frequency and quantile analysis switch
+     * to approximate analyzers with a bounded memory (0 to always use exact analyzers).
+     */
+    public void setApproximateThreshold(long approximateThreshold) {
+        this.approximateThreshold = approximateThreshold;
+    }
+
+    /**
+     * @param exact the exact analyzer.
+     * @param approximate the approximate analyzer.
+     * @return <code>exact</code> if approximate analysis is disabled, an analyzer that switches from <code>exact</code>
+     * to <code>approximate</code> after {@link #getApproximateThreshold()} records otherwise.
+     */
+    private Analyzer<?> withThreshold(Analyzer<?> exact, Analyzer<?> approximate) {
+        if (approximateThreshold <= 0) {
+            return exact;
+        }
+        return new ThresholdAnalyzer(exact, approximate, approximateThreshold);
+    }
+
     private static AbstractFrequencyAnalyzer buildPatternAnalyzer(List<ColumnMetadata> columns) {
         // deal with specific date, even custom date pattern
         final DateTimePatternRecognizer dateTimePatternFrequencyAnalyzer = new DateTimePatternRecognizer();
@@ -228,7 +284,7 @@ public class AnalyzerService {
                         new SemanticQualityAnalyzer(builder, domains, false), true)); // NOSONAR
                 break;
             case CARDINALITY:
-                analyzers.add(new CardinalityAnalyzer());
+                analyzers.add(withThreshold(new CardinalityAnalyzer(), new ApproximateCardinalityAnalyzer()));
                 break;
             case PATTERNS:
                 analyzers.add(buildPatternAnalyzer(columns));
@@ -245,7 +301,7 @@ public class AnalyzerService {
                     }
                 }
                 if (acceptQuantiles) {
-                    analyzers.add(new QuantileAnalyzer(types));
+                    analyzers.add(withThreshold(new QuantileAnalyzer(types), new ApproximateQuantileAnalyzer(types)));
                 }
                 break;
             case SUMMARY:
@@ -267,7 +323,7 @@ public class AnalyzerService {
                 }
                 break;
             case FREQUENCY:
-                analyzers.add(new DataTypeFrequencyAnalyzer());
+                analyzers.add(withThreshold(new DataTypeFrequencyAnalyzer(), new ApproximateFrequencyAnalyzer()));
                 break;
             default:
                 throw new IllegalArgumentException("Missing support for '" + setting + "'.");
@@ -291,6 +347,25 @@ public class AnalyzerService {
                 Analysis.SEMANTIC, Analysis.QUANTILES, Analysis.SUMMARY, Analysis.HISTOGRAM);
     }
 
+    /**
+     * Builds an analyzer that splits <code>columns</code> in shards analyzed in parallel (each shard with its own
+     * analyzer created by <code>analyzer</code>). Results are available once {@link Analyzer#end()} or
+     * {@link Analyzer#getResult()} is called, so this is only suited to analyzers whose results are not read while
+     * records are analyzed.
+     *
+     * @param columns the columns to analyze.
+     * @param analyzer creates the analyzer for the columns of a shard (e.g. <code>this::full</code>).
+     * @return An analyzer for <code>columns</code> (not sharded if shards setting or number of columns is less than 2).
+     * @see #setShards(int)
+     */
+    public Analyzer<Analyzers.Result> sharded(List<ColumnMetadata> columns,
+            Function<List<ColumnMetadata>, Analyzer<Analyzers.Result>> analyzer) {
+        if (shards < 2 || columns == null || columns.size() < 2) {
+            return analyzer.apply(columns);
+        }
+        return new ShardedAnalyzer(columns, shards, analyzer);
+    }
+
     public Analyzer<Analyzers.Result> qualityAnalysis(List<ColumnMetadata> columns) {
         return build(columns, Analysis.QUALITY, Analysis.SUMMARY, Analysis.SEMANTIC);
     }
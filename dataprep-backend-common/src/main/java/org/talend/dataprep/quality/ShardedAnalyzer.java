@@ -0,0 +1,204 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.quality;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.apache.commons.lang.NotImplementedException;
+import org.talend.daikon.exception.TalendRuntimeException;
+import org.talend.dataprep.BaseErrorCodes;
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataquality.common.inference.Analyzer;
+import org.talend.dataquality.common.inference.Analyzers;
+
+/**
+ * An analyzer that splits columns in shards, each shard being analyzed by its own analyzer on a {@link ForkJoinPool}.
+ * Records are buffered and sent to all shards by batches: each shard analyzes its part of the records while next batch
+ * is filled. As all analysis are done per column, results are the results of the shards in column order (no partial
+ * results to merge).
+ * <p>
+ * Like other analyzers, this analyzer must be called by one thread at a time.
+ */
+class ShardedAnalyzer implements Analyzer<Analyzers.Result> {
+
+    /** Number of records sent at once to shards. */
+    static final int BATCH_SIZE = 512;
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Shard> shards;
+
+    /** Records waiting to be sent to shards. */
+    private transient String[][] batch = new String[BATCH_SIZE][];
+
+    private transient int batchSize;
+
+    /**
+     * @param columns The columns to analyze.
+     * @param shardCount The maximum number of shards (there are never more shards than columns).
+     * @param analyzer Creates the analyzer for the columns of a shard.
+     */
+    ShardedAnalyzer(List<ColumnMetadata> columns, int shardCount, Function<List<ColumnMetadata>, Analyzer<Analyzers.Result>> analyzer) {
+        final int count = Math.max(1, Math.min(shardCount, columns.size()));
+        this.shards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int from = i * columns.size() / count;
+            final int to = (i + 1) * columns.size() / count;
+            shards.add(new Shard(from, to, analyzer.apply(columns.subList(from, to))));
+        }
+    }
+
+    @Override
+    public void init() {
+        // Shard analyzers are initialized on creation
+    }
+
+    @Override
+    public boolean analyze(String... record) {
+        batch[batchSize++] = record;
+        if (batchSize == BATCH_SIZE) {
+            submit();
+        }
+        return true;
+    }
+
+    /**
+     * Sends records waiting in current batch to all shards.
+     */
+    private void submit() {
+        if (batchSize == 0) {
+            return;
+        }
+        final String[][] records = batchSize == BATCH_SIZE ? batch : Arrays.copyOf(batch, batchSize);
+        for (Shard shard : shards) {
+            shard.submit(records);
+        }
+        batch = new String[BATCH_SIZE][];
+        batchSize = 0;
+    }
+
+    /**
+     * Sends pending records to shards and waits until shards have analyzed them.
+     */
+    private void flush() {
+        submit();
+        shards.forEach(Shard::await);
+    }
+
+    @Override
+    public void end() {
+        flush();
+        shards.forEach(shard -> shard.analyzer.end());
+    }
+
+    @Override
+    public List<Analyzers.Result> getResult() {
+        flush();
+        final List<Analyzers.Result> results = new ArrayList<>();
+        for (Shard shard : shards) {
+            results.addAll(shard.analyzer.getResult());
+        }
+        return results;
+    }
+
+    @Override
+    public Analyzer<Analyzers.Result> merge(Analyzer<Analyzers.Result> another) {
+        throw new NotImplementedException();
+    }
+
+    @Override
+    public void close() throws Exception {
+        Exception error = null;
+        for (Shard shard : shards) {
+            try {
+                shard.awaitQuietly();
+                shard.analyzer.close();
+            } catch (Exception e) {
+                error = e;
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ShardedAnalyzer{" + shards.size() + " shard(s)}";
+    }
+
+    /**
+     * An analyzer for columns [from, to[ and the analysis of the last batch sent to it.
+     */
+    private static class Shard {
+
+        private final int from;
+
+        private final int to;
+
+        private final Analyzer<Analyzers.Result> analyzer;
+
+        /** Analysis of the last batch (a shard analyzes one batch at a time). */
+        private Future<?> pending;
+
+        private Shard(int from, int to, Analyzer<Analyzers.Result> analyzer) {
+            this.from = from;
+            this.to = to;
+            this.analyzer = analyzer;
+        }
+
+        private void submit(String[][] records) {
+            await();
+            pending = ForkJoinPool.commonPool().submit(() -> {
+                for (String[] record : records) {
+                    analyzer.analyze(Arrays.copyOfRange(record, from, to));
+                }
+            });
+        }
+
+        private void await() {
+            if (pending == null) {
+                return;
+            }
+            try {
+                pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TalendRuntimeException(BaseErrorCodes.UNEXPECTED_EXCEPTION, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new TalendRuntimeException(BaseErrorCodes.UNEXPECTED_EXCEPTION, e.getCause());
+            } finally {
+                pending = null;
+            }
+        }
+
+        private void awaitQuietly() {
+            // Analyzer must not be closed while analyzing
+            try {
+                await();
+            } catch (RuntimeException e) { // NOSONAR analysis error is not relevant when closing
+                // Nothing to do
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.quality;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang.NotImplementedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.talend.dataquality.common.inference.Analyzer;
+
+/**
+ * An analyzer that runs an exact analyzer (whose memory grows with the analyzed values) and an approximate analyzer
+ * (with a bounded memory) side by side. Once more than <code>threshold</code> records are analyzed, exact analyzer is
+ * closed and results are the approximate ones: small data sets get exact results and memory remains bounded for large
+ * ones.
+ */
+class ThresholdAnalyzer implements Analyzer<Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThresholdAnalyzer.class);
+
+    private final long threshold;
+
+    private final Analyzer<?> approximate;
+
+    private Analyzer<?> exact;
+
+    private long count;
+
+    /**
+     * @param exact the exact analyzer.
+     * @param approximate the approximate analyzer.
+     * @param threshold the number of records after which only approximate analyzer is used.
+     */
+    ThresholdAnalyzer(Analyzer<?> exact, Analyzer<?> approximate, long threshold) {
+        this.exact = exact;
+        this.approximate = approximate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void init() {
+        exact.init();
+        approximate.init();
+    }
+
+    @Override
+    public boolean analyze(String... record) {
+        if (exact != null) {
+            if (++count > threshold) {
+                LOGGER.debug("More than {} records, switch to approximate analysis ({}).", threshold, approximate);
+                closeExact();
+            } else {
+                exact.analyze(record);
+            }
+        }
+        return approximate.analyze(record);
+    }
+
+    private void closeExact() {
+        try {
+            exact.close();
+        } catch (Exception e) {
+            LOGGER.debug("Unable to close exact analyzer {}.", exact, e);
+        }
+        exact = null;
+    }
+
+    @Override
+    public void end() {
+        if (exact != null) {
+            exact.end();
+        }
+        approximate.end();
+    }
+
+    @Override
+    public List<Object> getResult() {
+        return Collections.unmodifiableList(exact != null ? exact.getResult() : approximate.getResult());
+    }
+
+    @Override
+    public Analyzer<Object> merge(Analyzer<Object> another) {
+        throw new NotImplementedException();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (exact != null) {
+            closeExact();
+        }
+        approximate.close();
+    }
+}
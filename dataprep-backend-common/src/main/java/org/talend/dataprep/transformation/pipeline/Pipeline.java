@@ -4,6 +4,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -23,6 +24,7 @@ import org.talend.dataprep.transformation.pipeline.builder.ActionNodesBuilder;
 import org.talend.dataprep.transformation.pipeline.builder.NodeBuilder;
 import org.talend.dataprep.transformation.pipeline.node.BasicNode;
 import org.talend.dataprep.transformation.pipeline.node.FilteredNode;
+import org.talend.dataprep.transformation.pipeline.node.StatisticsNode;
 
 public class Pipeline implements Node, RuntimeNode, Serializable {
 
@@ -31,6 +33,9 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
 
     private Node node;
 
+    /** Number of rows sent at once to the nodes (1 sends rows one by one). */
+    private int batchSize = 1;
+
     /** Flag used to know if the pipeline is stopped or not. */
     private final AtomicBoolean isStopped = new AtomicBoolean();
 
@@ -58,6 +63,10 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
     }
 
     public void execute(DataSet dataSet) {
+        if (batchSize > 1) {
+            executeBatches(dataSet);
+            return;
+        }
         final RowMetadata rowMetadata = dataSet.getMetadata().getRowMetadata().clone();
         try (Stream<DataSetRow> records = dataSet.getRecords()) {
 
@@ -80,9 +89,59 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
                 LOG.debug("{} rows sent in the pipeline", counter.get());
                 node.exec().signal(Signal.END_OF_STREAM);
             }
+        } finally {
+            stopAnalysis();
+        }
+    }
+
+    /**
+     * Sends the data set rows to the nodes by batches of {@link #batchSize} rows, so the per-row costs (dispatch
+     * through links, metadata checks, timing...) are paid once per batch.
+     *
+     * @param dataSet The data set to process.
+     */
+    private void executeBatches(DataSet dataSet) {
+        final RowMetadata rowMetadata = dataSet.getMetadata().getRowMetadata().clone();
+        try (Stream<DataSetRow> records = dataSet.getRecords()) {
+
+            // get the lock on isFinished to make the signal(STOP) method wait for the whole pipeline to finish
+            synchronized (isFinished) {
+                long counter = 0;
+                final Iterator<DataSetRow> iterator = records.iterator();
+                while (iterator.hasNext() && !isStopped.get()) {
+                    final List<DataSetRow> batch = new ArrayList<>(batchSize);
+                    while (iterator.hasNext() && batch.size() < batchSize) {
+                        // Records may reuse the same row instance, rows of a batch must be distinct
+                        batch.add(iterator.next().clone());
+                    }
+                    node.exec().receive(batch, rowMetadata);
+                    counter += batch.size();
+                }
+                LOG.debug("{} rows sent in the pipeline", counter);
+                node.exec().signal(Signal.END_OF_STREAM);
+            }
+        } finally {
+            stopAnalysis();
         }
     }
 
+    /**
+     * Stops the analysis threads of the statistics nodes, in case pipeline failed before the end of the stream (does
+     * nothing for nodes that received the end of the stream).
+     */
+    private void stopAnalysis() {
+        accept(new Visitor() {
+
+            @Override
+            public void visitNode(Node visited) {
+                if (visited instanceof StatisticsNode) {
+                    ((StatisticsNode) visited).stopAnalysis();
+                }
+                super.visitNode(visited);
+            }
+        });
+    }
+
     public void setNode(Node node) {
         this.node = node;
     }
@@ -99,6 +158,11 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
         node.exec().receive(row, metadata);
     }
 
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        node.exec().receive(rows, metadata);
+    }
+
     @Override
     public void receive(DataSetRow[] rows, RowMetadata[] metadatas) {
         throw new UnsupportedOperationException("Pipeline only manage single rows as input");
@@ -152,10 +216,20 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
         return node;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
     public static class Builder {
 
         private final List<Action> actions = new ArrayList<>();
 
+        private final List<Action> previousActions = new ArrayList<>();
+
         private RowMetadata rowMetadata;
 
         private boolean completeMetadata;
@@ -178,6 +252,12 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
 
         private AnalyzerService analyzerService;
 
+        private int parallelism = 1;
+
+        private int batchSize = 1;
+
+        private StatisticsNode.Mode statisticsMode = StatisticsNode.Mode.SYNCHRONOUS;
+
         public static Builder builder() {
             return new Builder();
         }
@@ -208,6 +288,16 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
             return this;
         }
 
+        /**
+         * @param previousActions The actions already applied (by another pipeline) to the rows this pipeline receives,
+         * so that columns they modify are analyzed again when the actions of this pipeline need statistics.
+         * @return the builder to chain calls.
+         */
+        public Builder withPreviousActions(List<Action> previousActions) {
+            this.previousActions.addAll(previousActions);
+            return this;
+        }
+
         public Builder withMonitor(Supplier<Node> monitorSupplier) {
             this.monitorSupplier = monitorSupplier;
             return this;
@@ -228,6 +318,33 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
             return this;
         }
 
+        /**
+         * @param parallelism The number of threads that can apply actions (when actions only need the current row).
+         * @return the builder to chain calls.
+         */
+        public Builder withParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param batchSize The number of rows sent at once to the nodes (1 to send rows one by one).
+         * @return the builder to chain calls.
+         */
+        public Builder withBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param statisticsMode How statistics nodes analyze values (on the pipeline thread or on a dedicated thread).
+         * @return the builder to chain calls.
+         */
+        public Builder withStatisticsMode(StatisticsNode.Mode statisticsMode) {
+            this.statisticsMode = statisticsMode;
+            return this;
+        }
+
         public Builder withFilter(Predicate<DataSetRow> filter) {
             this.inFilter = filter;
             return this;
@@ -248,9 +365,11 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
 
             // Apply actions
             final Node actionsNode = ActionNodesBuilder.builder().initialMetadata(rowMetadata).actions(actions)
+                    .previousActions(previousActions)
                     // statistics requests
                     .needStatisticsBefore(!completeMetadata).needStatisticsAfter(needGlobalStatistics)
-                    .allowSchemaAnalysis(allowMetadataChange)
+                    .allowSchemaAnalysis(allowMetadataChange).parallelism(parallelism)
+                    .statisticsMode(statisticsMode)
                     // statistics dependencies/arguments
                     .actionRegistry(actionRegistry).analyzerService(analyzerService).statisticsAdapter(adapter).build();
             current.to(actionsNode);
@@ -262,7 +381,9 @@ public class Pipeline implements Node, RuntimeNode, Serializable {
             current.to(outputSupplier.get());
             current.to(monitorSupplier.get());
             // Finally build pipeline
-            return new Pipeline(current.build());
+            final Pipeline pipeline = new Pipeline(current.build());
+            pipeline.setBatchSize(batchSize);
+            return pipeline;
         }
     }
 }
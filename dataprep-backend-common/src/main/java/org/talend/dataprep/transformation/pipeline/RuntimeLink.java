@@ -1,6 +1,7 @@
 package org.talend.dataprep.transformation.pipeline;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
@@ -27,6 +28,19 @@ public interface RuntimeLink extends Serializable {
      */
     void emit(DataSetRow[] rows, RowMetadata[] metadatas);
 
+    /**
+     * Emits a batch of rows sharing the same metadata. Default implementation emits rows one by one.
+     *
+     * @param rows The {@link DataSetRow rows} to emit to the next {@link RuntimeNode}.
+     * @param metadata The {@link RowMetadata row metadata} to be used by the next {@link RuntimeNode}.
+     * @see RuntimeNode#receive(List, RowMetadata)
+     */
+    default void emit(List<DataSetRow> rows, RowMetadata metadata) {
+        for (DataSetRow row : rows) {
+            emit(row, metadata);
+        }
+    }
+
     /**
      * Sends a {@link Signal event} to the {@link RuntimeNode}. Signals are data-independent events to indicate external
      * events (such as end of the stream).
@@ -1,5 +1,7 @@
 package org.talend.dataprep.transformation.pipeline;
 
+import java.util.List;
+
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
 
@@ -24,6 +26,19 @@ public interface RuntimeNode {
      */
     void receive(DataSetRow[] rows, RowMetadata[] metadatas);
 
+    /**
+     * Called by an incoming {@link RuntimeLink} when a batch of rows is submitted to the pipeline. Rows in a batch are
+     * distinct instances and share the same metadata. Default implementation processes rows one by one.
+     *
+     * @param rows The {@link DataSetRow rows} to be processed by this node.
+     * @param metadata The {@link RowMetadata row metadata} to be used when processing the <code>rows</code>.
+     */
+    default void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        for (DataSetRow row : rows) {
+            receive(row, metadata);
+        }
+    }
+
     /**
      * Sends a {@link Signal event} to the node. Signals are data-independent events to indicate external events (such
      * as end of the stream). Node implementations are responsible of the signal propagation using the
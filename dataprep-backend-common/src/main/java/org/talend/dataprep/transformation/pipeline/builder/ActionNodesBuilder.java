@@ -15,6 +15,8 @@ import org.talend.dataprep.transformation.pipeline.Node;
 import org.talend.dataprep.transformation.pipeline.node.ActionNode;
 import org.talend.dataprep.transformation.pipeline.node.CleanUpNode;
 import org.talend.dataprep.transformation.pipeline.node.CompileNode;
+import org.talend.dataprep.transformation.pipeline.node.ParallelNode;
+import org.talend.dataprep.transformation.pipeline.node.StatisticsNode;
 
 public class ActionNodesBuilder {
 
@@ -24,6 +26,9 @@ public class ActionNodesBuilder {
 
     private final List<Action> actions = new ArrayList<>();
 
+    // actions already applied to the rows (their modified columns need fresh statistics too)
+    private final List<Action> previousActions = new ArrayList<>();
+
     // analyze requests
     private boolean needStatisticsBefore = false;
 
@@ -31,6 +36,12 @@ public class ActionNodesBuilder {
 
     private boolean allowSchemaAnalysis = true;
 
+    // number of threads that can run actions
+    private int parallelism = 1;
+
+    // how statistics nodes analyze values
+    private StatisticsNode.Mode statisticsMode = StatisticsNode.Mode.SYNCHRONOUS;
+
     // analyse dependencies
     private ActionRegistry actionRegistry;
 
@@ -52,6 +63,11 @@ public class ActionNodesBuilder {
         return this;
     }
 
+    public ActionNodesBuilder previousActions(final List<Action> previousActions) {
+        this.previousActions.addAll(previousActions);
+        return this;
+    }
+
     public ActionNodesBuilder needStatisticsBefore(final boolean needStatisticsBefore) {
         this.needStatisticsBefore = needStatisticsBefore;
         return this;
@@ -67,6 +83,16 @@ public class ActionNodesBuilder {
         return this;
     }
 
+    public ActionNodesBuilder parallelism(final int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public ActionNodesBuilder statisticsMode(final StatisticsNode.Mode statisticsMode) {
+        this.statisticsMode = statisticsMode;
+        return this;
+    }
+
     public ActionNodesBuilder actionRegistry(final ActionRegistry actionRegistry) {
         this.actionRegistry = actionRegistry;
         return this;
@@ -86,19 +112,32 @@ public class ActionNodesBuilder {
      * Build the actions pipeline
      */
     public Node build() {
+        final List<Action> profiledActions = new ArrayList<>(previousActions);
+        profiledActions.addAll(actions);
         final StatisticsNodesBuilder statisticsNodesBuilder = StatisticsNodesBuilder.builder().analyzerService(analyzerService)
                 .actionRegistry(actionRegistry).statisticsAdapter(statisticsAdapter).allowSchemaAnalysis(allowSchemaAnalysis)
-                .actions(actions).columns(initialMetadata.getColumns());
+                .actions(profiledActions).columns(initialMetadata.getColumns()).statisticsMode(statisticsMode);
 
         final NodeBuilder builder = NodeBuilder.source();
 
         // first node doesn't need reservoir analysis
         // unless we don't have initial metadata or we explicitly ask it
-        if (needStatisticsBefore || initialMetadata.getColumns().isEmpty()) {
+        if (needPreStatistics()) {
             LOGGER.debug("No initial metadata submitted for transformation, computing new one.");
             builder.to(statisticsNodesBuilder.buildPreStatistics());
         }
 
+        // when actions only depend on current row, copies of the actions can process rows in parallel
+        if (parallelism > 1 && !actions.isEmpty() && !needPreStatistics()
+                && new ActionsStaticProfiler(actionRegistry).isRowLocal(actions)) {
+            LOGGER.debug("Actions are row local, running them with parallelism {}.", parallelism);
+            builder.to(new ParallelNode(this::buildRowActions, parallelism));
+            if (needStatisticsAfter) {
+                builder.to(statisticsNodesBuilder.buildPostStatistics());
+            }
+            return builder.build();
+        }
+
         // transformation context is the parent of every action context
         // it will hold all the action context
         // that makes it the perfect entry point to clean up all the contexts
@@ -135,4 +174,22 @@ public class ActionNodesBuilder {
 
         return builder.build();
     }
+
+    private boolean needPreStatistics() {
+        return needStatisticsBefore || initialMetadata.getColumns().isEmpty();
+    }
+
+    /**
+     * Build a copy of the actions (with its own contexts) for actions that don't need statistics.
+     */
+    private Node buildRowActions() {
+        final TransformationContext context = new TransformationContext();
+        final NodeBuilder builder = NodeBuilder.source();
+        for (final Action action : actions) {
+            builder.to(new CompileNode(action, context.create(action.getRowAction(), initialMetadata)));
+            builder.to(new ActionNode(action, context.in(action.getRowAction())));
+        }
+        builder.to(new CleanUpNode(context));
+        return builder.build();
+    }
 }
@@ -2,11 +2,13 @@ package org.talend.dataprep.transformation.pipeline.builder;
 
 import static java.util.stream.Collectors.toSet;
 import static org.talend.dataprep.transformation.actions.common.ImplicitParameters.COLUMN_ID;
+import static org.talend.dataprep.transformation.actions.common.ImplicitParameters.FILTER;
 
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang.StringUtils;
 import org.talend.dataprep.api.action.ActionDefinition;
 import org.talend.dataprep.api.dataset.ColumnMetadata;
 import org.talend.dataprep.api.preparation.Action;
@@ -34,6 +36,41 @@ class ActionsStaticProfiler {
         return actionToMetadata;
     }
 
+    /**
+     * Checks whether actions only depend on the row they process: no statistics needed (nor filter on valid or invalid
+     * values, as invalid values are detected before such actions) and no context shared between rows. Such actions
+     * give the same result whatever the order (or the part of the rows) they process.
+     *
+     * @param actions The actions to check.
+     * @return <code>true</code> if rows can be processed by independent copies of the actions.
+     */
+    public boolean isRowLocal(final List<Action> actions) {
+        for (final Action action : actions) {
+            final ActionDefinition actionMetadata = actionRegistry.get(action.getName());
+            if (actionMetadata == null) {
+                return false;
+            }
+            final Set<ActionDefinition.Behavior> behavior = actionMetadata.getBehavior();
+            if (behavior.contains(ActionDefinition.Behavior.FORBID_DISTRIBUTED)
+                    || behavior.contains(ActionDefinition.Behavior.NEED_STATISTICS_PATTERN)
+                    || behavior.contains(ActionDefinition.Behavior.NEED_STATISTICS_INVALID)
+                    || hasValidityFilter(action)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param action An action.
+     * @return <code>true</code> if the action filter is on valid or invalid values (invalid values must then be
+     * detected again before the action).
+     */
+    static boolean hasValidityFilter(final Action action) {
+        final String filterAsString = action.getParameters().get(FILTER.getKey());
+        return StringUtils.contains(filterAsString, "valid") || StringUtils.contains(filterAsString, "invalid");
+    }
+
     public ActionsProfile profile(final List<ColumnMetadata> columns, final List<Action> actions,
             final Map<Action, ActionDefinition> actionToMetadata) {
         final Map<Action, ActionDefinition> metadataByAction = actionToMetadata == null ? getActionMetadataByAction(actions)
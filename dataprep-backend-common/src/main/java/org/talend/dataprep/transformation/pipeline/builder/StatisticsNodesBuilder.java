@@ -2,7 +2,6 @@ package org.talend.dataprep.transformation.pipeline.builder;
 
 import static org.talend.dataprep.api.action.ActionDefinition.Behavior.NEED_STATISTICS_INVALID;
 import static org.talend.dataprep.api.action.ActionDefinition.Behavior.NEED_STATISTICS_PATTERN;
-import static org.talend.dataprep.transformation.actions.common.ImplicitParameters.FILTER;
 
 import java.util.List;
 import java.util.Map;
@@ -11,7 +10,6 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import org.apache.commons.lang.StringUtils;
 import org.talend.dataprep.api.action.ActionDefinition;
 import org.talend.dataprep.api.dataset.ColumnMetadata;
 import org.talend.dataprep.api.preparation.Action;
@@ -46,6 +44,8 @@ public class StatisticsNodesBuilder {
 
     private Map<Action, ActionDefinition> actionToMetadata;
 
+    private StatisticsNode.Mode statisticsMode = StatisticsNode.Mode.SYNCHRONOUS;
+
     private StatisticsNodesBuilder() {
     }
 
@@ -83,6 +83,11 @@ public class StatisticsNodesBuilder {
         return this;
     }
 
+    public StatisticsNodesBuilder statisticsMode(final StatisticsNode.Mode statisticsMode) {
+        this.statisticsMode = statisticsMode;
+        return this;
+    }
+
     public Node buildPreStatistics() {
         // TODO remove this and fix tests
         if (analyzerService == null) {
@@ -150,13 +155,7 @@ public class StatisticsNodesBuilder {
         }
 
         // action has filter that is on valid/invalid
-        if (nextAction.getParameters().containsKey(FILTER.getKey())) {
-            // action has a filterForFullAnalysis, to cover cases where filters are on invalid values
-            final String filterAsString = nextAction.getParameters().get(FILTER.getKey());
-            return StringUtils.contains(filterAsString, "valid") || StringUtils.contains(filterAsString, "invalid");
-        }
-
-        return false;
+        return ActionsStaticProfiler.hasValidityFilter(nextAction);
     }
 
     private void performActionsProfiling() {
@@ -214,10 +213,10 @@ public class StatisticsNodesBuilder {
     }
 
     private Node getQualityStatisticsNode(final Predicate<ColumnMetadata> columnFilter) {
-        return new StatisticsNode(getQualityAnalyzer(), columnFilter, statisticsAdapter);
+        return new StatisticsNode(getQualityAnalyzer(), columnFilter, statisticsAdapter, statisticsMode);
     }
 
     private Node getFullStatisticsNode(final Predicate<ColumnMetadata> columnFilter) {
-        return new StatisticsNode(getFullAnalyzer(), columnFilter, statisticsAdapter);
+        return new StatisticsNode(getFullAnalyzer(), columnFilter, statisticsAdapter, statisticsMode);
     }
 }
@@ -1,5 +1,7 @@
 package org.talend.dataprep.transformation.pipeline.link;
 
+import java.util.List;
+
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
 import org.talend.dataprep.transformation.pipeline.*;
@@ -22,6 +24,11 @@ public class BasicLink implements Link, RuntimeLink {
         target.exec().receive(rows, metadatas);
     }
 
+    @Override
+    public void emit(List<DataSetRow> rows, RowMetadata metadata) {
+        target.exec().receive(rows, metadata);
+    }
+
     @Override
     public void accept(Visitor visitor) {
         visitor.visitBasicLink(this);
@@ -1,6 +1,8 @@
 package org.talend.dataprep.transformation.pipeline.link;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
@@ -36,6 +38,15 @@ public class CloneLink implements Link, RuntimeLink {
         }
     }
 
+    @Override
+    public void emit(List<DataSetRow> rows, RowMetadata metadata) {
+        initClonedMetadata(metadata);
+        for (int i = 0; i < nodes.length; ++i) {
+            final List<DataSetRow> clonedRows = rows.stream().map(DataSetRow::clone).collect(Collectors.toList());
+            nodes[i].exec().receive(clonedRows, clonedMetadata[i]);
+        }
+    }
+
     @Override
     public void signal(Signal signal) {
         for (Node node : nodes) {
@@ -1,5 +1,8 @@
 package org.talend.dataprep.transformation.pipeline.node;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
 import org.talend.dataprep.api.preparation.Action;
@@ -27,17 +30,7 @@ public class ActionNode extends BasicNode implements Monitored {
         final DataSetRow actionRow;
         final long start = System.currentTimeMillis();
         try {
-            switch (actionContext.getActionStatus()) {
-            case NOT_EXECUTED:
-            case OK:
-                actionRow = action.getRowAction().apply(row, actionContext);
-                break;
-            case DONE:
-            case CANCELED:
-            default:
-                actionRow = row;
-                break;
-            }
+            actionRow = apply(row);
         } finally {
             totalTime += System.currentTimeMillis() - start;
             count++;
@@ -46,6 +39,34 @@ public class ActionNode extends BasicNode implements Monitored {
         link.exec().emit(actionRow, actionContext.getRowMetadata());
     }
 
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        final List<DataSetRow> actionRows = new ArrayList<>(rows.size());
+        final long start = System.currentTimeMillis();
+        try {
+            for (DataSetRow row : rows) {
+                actionRows.add(apply(row));
+                row.setRowMetadata(actionContext.getRowMetadata());
+            }
+        } finally {
+            totalTime += System.currentTimeMillis() - start;
+            count += rows.size();
+        }
+        link.exec().emit(actionRows, actionContext.getRowMetadata());
+    }
+
+    private DataSetRow apply(DataSetRow row) {
+        switch (actionContext.getActionStatus()) {
+        case NOT_EXECUTED:
+        case OK:
+            return action.getRowAction().apply(row, actionContext);
+        case DONE:
+        case CANCELED:
+        default:
+            return row;
+        }
+    }
+
     @Override
     public void accept(Visitor visitor) {
         visitor.visitAction(this);
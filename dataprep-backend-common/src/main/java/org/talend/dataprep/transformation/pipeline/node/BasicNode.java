@@ -1,5 +1,7 @@
 package org.talend.dataprep.transformation.pipeline.node;
 
+import java.util.List;
+
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
 import org.talend.dataprep.transformation.pipeline.*;
@@ -22,6 +24,20 @@ public class BasicNode implements Node, RuntimeNode {
         }
     }
 
+    /**
+     * Sends a batch of rows to next node. Batches received by this node are processed row by row (see
+     * {@link RuntimeNode#receive(List, RowMetadata)}), subclasses that process batches at once call this method to
+     * emit their output.
+     *
+     * @param rows The rows to emit (all sharing <code>metadata</code>).
+     * @param metadata The metadata of the rows.
+     */
+    protected void forward(List<DataSetRow> rows, RowMetadata metadata) {
+        if (link != null) {
+            link.exec().emit(rows, metadata);
+        }
+    }
+
     @Override
     public Link getLink() {
         return link;
@@ -1,7 +1,11 @@
 package org.talend.dataprep.transformation.pipeline.node;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.talend.dataprep.api.dataset.RowMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
 import org.talend.dataprep.transformation.api.action.context.TransformationContext;
 import org.talend.dataprep.transformation.pipeline.Signal;
 
@@ -18,6 +22,11 @@ public class CleanUpNode extends BasicNode {
         this.context = context;
     }
 
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        forward(rows, metadata);
+    }
+
     @Override
     public void signal(Signal signal) {
         if (signal == Signal.END_OF_STREAM || signal == Signal.CANCEL || signal == Signal.STOP) {
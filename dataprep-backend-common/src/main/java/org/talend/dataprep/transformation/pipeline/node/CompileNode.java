@@ -1,5 +1,7 @@
 package org.talend.dataprep.transformation.pipeline.node;
 
+import java.util.List;
+
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
 import org.talend.dataprep.api.preparation.Action;
@@ -21,6 +23,30 @@ public class CompileNode extends BasicNode {
 
     @Override
     public void receive(DataSetRow row, RowMetadata metadata) {
+        if (compile(metadata)) {
+            row.setRowMetadata(actionContext.getRowMetadata());
+        }
+        link.exec().emit(row, actionContext.getRowMetadata());
+    }
+
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        // rows of a batch share the same metadata: check it once for all of them
+        if (compile(metadata)) {
+            for (DataSetRow row : rows) {
+                row.setRowMetadata(actionContext.getRowMetadata());
+            }
+        }
+        link.exec().emit(rows, actionContext.getRowMetadata());
+    }
+
+    /**
+     * Compiles the action if not already compiled or if metadata changed.
+     *
+     * @param metadata The metadata of the rows to process.
+     * @return <code>true</code> if action was compiled.
+     */
+    private boolean compile(RowMetadata metadata) {
         boolean needCompile = actionContext.getActionStatus() == ActionContext.ActionStatus.NOT_EXECUTED;
         if (actionContext.getRowMetadata() == null || hashCode != metadata.hashCode()) {
             actionContext.setRowMetadata(metadata.clone());
@@ -29,9 +55,8 @@ public class CompileNode extends BasicNode {
         }
         if (needCompile) {
             action.getRowAction().compile(actionContext);
-            row.setRowMetadata(actionContext.getRowMetadata());
         }
-        link.exec().emit(row, actionContext.getRowMetadata());
+        return needCompile;
     }
 
     @Override
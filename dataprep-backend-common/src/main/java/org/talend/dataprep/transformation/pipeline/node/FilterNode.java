@@ -1,5 +1,7 @@
 package org.talend.dataprep.transformation.pipeline.node;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiPredicate;
 
 import org.talend.dataprep.api.dataset.RowMetadata;
@@ -25,6 +27,22 @@ public class FilterNode extends BasicNode {
         }
     }
 
+    @Override
+    public void receive(final List<DataSetRow> rows, final RowMetadata metadata) {
+        if (filters == null) {
+            return;
+        }
+        final List<DataSetRow> filtered = new ArrayList<>(rows.size());
+        for (DataSetRow row : rows) {
+            if (filters[0].test(row, metadata)) {
+                filtered.add(row);
+            }
+        }
+        if (!filtered.isEmpty()) {
+            forward(filtered, metadata);
+        }
+    }
+
     @Override
     public void receive(final DataSetRow[] rows, final RowMetadata[] metadatas) {
         if (test(rows, metadatas)) {
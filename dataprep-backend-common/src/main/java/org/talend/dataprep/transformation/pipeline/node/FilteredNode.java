@@ -1,5 +1,7 @@
 package org.talend.dataprep.transformation.pipeline.node;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -18,13 +20,31 @@ public class FilteredNode extends BasicNode {
 
     @Override
     public void receive(DataSetRow row, RowMetadata metadata) {
+        if (getInstance(metadata).test(row)) {
+            super.receive(row, metadata);
+        }
+    }
+
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        final Predicate<DataSetRow> predicate = getInstance(metadata);
+        final List<DataSetRow> filtered = new ArrayList<>(rows.size());
+        for (DataSetRow row : rows) {
+            if (predicate.test(row)) {
+                filtered.add(row);
+            }
+        }
+        if (!filtered.isEmpty()) {
+            forward(filtered, metadata);
+        }
+    }
+
+    private Predicate<DataSetRow> getInstance(RowMetadata metadata) {
         synchronized (filter) {
             if (instance == null) {
                 instance = filter.apply(metadata);
             }
-        }
-        if (instance.test(row)) {
-            super.receive(row, metadata);
+            return instance;
         }
     }
 }
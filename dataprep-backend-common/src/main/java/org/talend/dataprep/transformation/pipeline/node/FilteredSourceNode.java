@@ -1,5 +1,7 @@
 package org.talend.dataprep.transformation.pipeline.node;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.talend.dataprep.api.dataset.RowMetadata;
@@ -20,4 +22,17 @@ public class FilteredSourceNode extends SourceNode {
         }
     }
 
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        final List<DataSetRow> filtered = new ArrayList<>(rows.size());
+        for (DataSetRow row : rows) {
+            if (filter.test(row)) {
+                filtered.add(row);
+            }
+        }
+        if (!filtered.isEmpty()) {
+            forward(filtered, metadata);
+        }
+    }
+
 }
@@ -0,0 +1,303 @@
+package org.talend.dataprep.transformation.pipeline.node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.talend.daikon.exception.TalendRuntimeException;
+import org.talend.dataprep.BaseErrorCodes;
+import org.talend.dataprep.api.dataset.RowMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
+import org.talend.dataprep.transformation.pipeline.Node;
+import org.talend.dataprep.transformation.pipeline.Signal;
+import org.talend.dataprep.transformation.pipeline.builder.NodeBuilder;
+
+/**
+ * A node that processes rows with copies of a sub pipeline (typically actions) running in parallel. Rows are grouped in
+ * chunks, each chunk is processed by one copy of the sub pipeline on a {@link ForkJoinPool}, and the output of the
+ * chunks is emitted to next node in the order rows were received (i.e. next nodes see rows in <code>tdpId</code>
+ * order, on the thread that calls this node).
+ * <p>
+ * Sub pipeline must only depend on the current row: each copy sees an arbitrary part of the rows.
+ */
+public class ParallelNode extends BasicNode {
+
+    /** Default number of rows in a chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelNode.class);
+
+    /** Creates new copies of the sub pipeline. */
+    private final transient Supplier<Node> supplier;
+
+    /** Maximum number of chunks processed at the same time. */
+    private final int parallelism;
+
+    /** Number of rows in a chunk. */
+    private final int chunkSize;
+
+    /** Available copies of the sub pipeline. */
+    private final transient BlockingQueue<Copy> available;
+
+    /** All the copies of the sub pipeline created so far. */
+    private final transient List<Copy> copies = new ArrayList<>();
+
+    /** Chunks submitted for processing, in reception order. */
+    private final transient Deque<Future<Chunk>> pending = new ArrayDeque<>();
+
+    /** Chunk being filled. */
+    private transient Chunk current;
+
+    private volatile boolean canceled;
+
+    /**
+     * @param supplier Creates copies of the sub pipeline to run in parallel.
+     * @param parallelism Maximum number of copies to run at the same time.
+     */
+    public ParallelNode(Supplier<Node> supplier, int parallelism) {
+        this(supplier, parallelism, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param supplier Creates copies of the sub pipeline to run in parallel.
+     * @param parallelism Maximum number of copies to run at the same time.
+     * @param chunkSize Number of rows processed at once by a copy.
+     */
+    public ParallelNode(Supplier<Node> supplier, int parallelism, int chunkSize) {
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Parallelism and chunk size must be positive.");
+        }
+        this.supplier = supplier;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.available = new ArrayBlockingQueue<>(parallelism);
+    }
+
+    @Override
+    public void receive(DataSetRow row, RowMetadata metadata) {
+        if (canceled) {
+            return;
+        }
+        // Source may reuse the same row instance for all rows
+        add(row.clone(), metadata);
+    }
+
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        if (canceled) {
+            return;
+        }
+        // Rows of a batch are distinct instances, no need to clone them
+        for (DataSetRow row : rows) {
+            add(row, metadata);
+        }
+    }
+
+    private void add(DataSetRow row, RowMetadata metadata) {
+        if (current != null && current.source != metadata) {
+            // Rows of a chunk share the same source metadata
+            submit();
+        }
+        if (current == null) {
+            current = new Chunk(metadata, chunkSize);
+        }
+        current.add(row, metadata);
+        if (current.size() >= chunkSize) {
+            submit();
+        }
+    }
+
+    @Override
+    public void receive(DataSetRow[] rows, RowMetadata[] metadatas) {
+        throw new UnsupportedOperationException("Parallel node only manages single rows as input");
+    }
+
+    @Override
+    public void signal(Signal signal) {
+        switch (signal) {
+        case CANCEL:
+            canceled = true;
+            break;
+        case END_OF_STREAM:
+        case STOP:
+            flush();
+            copies.forEach(copy -> copy.signal(signal));
+            break;
+        default:
+            break;
+        }
+        super.signal(signal);
+    }
+
+    /**
+     * Submits the current chunk for processing, emitting output of the oldest chunks if too many chunks are pending.
+     */
+    private void submit() {
+        if (current == null || current.size() == 0) {
+            return;
+        }
+        while (pending.size() >= parallelism) {
+            emit(waitFor(pending.poll()));
+        }
+        final Chunk chunk = current;
+        current = null;
+        final Copy copy = acquire();
+        pending.add(ForkJoinPool.commonPool().submit(() -> {
+            try {
+                return copy.process(chunk);
+            } finally {
+                available.add(copy);
+            }
+        }));
+    }
+
+    /**
+     * Submits the current chunk and waits for all the pending chunks.
+     */
+    private void flush() {
+        submit();
+        while (!pending.isEmpty()) {
+            emit(waitFor(pending.poll()));
+        }
+    }
+
+    private Chunk waitFor(Future<Chunk> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TalendRuntimeException(BaseErrorCodes.UNEXPECTED_EXCEPTION, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new TalendRuntimeException(BaseErrorCodes.UNEXPECTED_EXCEPTION, e.getCause());
+        }
+    }
+
+    private void emit(Chunk chunk) {
+        if (canceled || link == null) {
+            return;
+        }
+        // Emit consecutive rows sharing the same metadata as a batch
+        int start = 0;
+        for (int i = 1; i <= chunk.size(); i++) {
+            if (i == chunk.size() || chunk.metadata.get(i) != chunk.metadata.get(start)) {
+                link.exec().emit(chunk.rows.subList(start, i), chunk.metadata.get(start));
+                start = i;
+            }
+        }
+    }
+
+    /**
+     * @return A copy of the sub pipeline (created if less than parallelism copies exist).
+     */
+    private Copy acquire() {
+        Copy copy = available.poll();
+        if (copy == null) {
+            if (copies.size() < parallelism) {
+                copy = new Copy(supplier.get());
+                copies.add(copy);
+                LOGGER.debug("New copy #{} of parallel sub pipeline.", copies.size());
+            } else {
+                try {
+                    copy = available.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TalendRuntimeException(BaseErrorCodes.UNEXPECTED_EXCEPTION, e);
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Rows (and their metadata) processed together.
+     */
+    private static class Chunk {
+
+        private final RowMetadata source;
+
+        private final List<DataSetRow> rows;
+
+        private final List<RowMetadata> metadata;
+
+        private Chunk(RowMetadata source, int size) {
+            this.source = source;
+            this.rows = new ArrayList<>(size);
+            this.metadata = new ArrayList<>(size);
+        }
+
+        private void add(DataSetRow row, RowMetadata rowMetadata) {
+            rows.add(row);
+            metadata.add(rowMetadata);
+        }
+
+        private int size() {
+            return rows.size();
+        }
+    }
+
+    /**
+     * A copy of the sub pipeline, followed by a node that collects its output. A copy processes one chunk at a time.
+     */
+    private static class Copy {
+
+        private final Node node;
+
+        private final Collector collector = new Collector();
+
+        private Copy(Node node) {
+            this.node = NodeBuilder.from(node).to(collector).build();
+        }
+
+        private Chunk process(Chunk chunk) {
+            final Chunk output = collector.start(chunk.source, chunk.size());
+            node.exec().receive(chunk.rows, chunk.source);
+            return output;
+        }
+
+        private void signal(Signal signal) {
+            node.exec().signal(signal);
+        }
+    }
+
+    /**
+     * Last node of a sub pipeline copy: collects output in the chunk being processed.
+     */
+    private static class Collector extends BasicNode {
+
+        private transient Chunk output;
+
+        private Chunk start(RowMetadata source, int size) {
+            output = new Chunk(source, size);
+            return output;
+        }
+
+        @Override
+        public void receive(DataSetRow row, RowMetadata metadata) {
+            output.add(row, metadata);
+        }
+
+        @Override
+        public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+            for (DataSetRow row : rows) {
+                output.add(row, metadata);
+            }
+        }
+
+        @Override
+        public void signal(Signal signal) {
+            // Signals are sent to next nodes by the parallel node.
+        }
+    }
+}
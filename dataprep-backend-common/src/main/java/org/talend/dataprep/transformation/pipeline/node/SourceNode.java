@@ -1,9 +1,18 @@
 package org.talend.dataprep.transformation.pipeline.node;
 
+import java.util.List;
+
+import org.talend.dataprep.api.dataset.RowMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
 import org.talend.dataprep.transformation.pipeline.Visitor;
 
 public class SourceNode extends BasicNode {
 
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        forward(rows, metadata);
+    }
+
     @Override
     public void accept(Visitor visitor) {
         visitor.visitSource(this);
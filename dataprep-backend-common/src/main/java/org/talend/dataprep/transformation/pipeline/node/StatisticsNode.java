@@ -1,14 +1,23 @@
 package org.talend.dataprep.transformation.pipeline.node;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.talend.daikon.exception.TalendRuntimeException;
+import org.talend.dataprep.BaseErrorCodes;
 import org.talend.dataprep.api.dataset.ColumnMetadata;
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
+import org.talend.dataprep.api.dataset.statistics.Approximation;
+import org.talend.dataprep.api.dataset.statistics.Statistics;
 import org.talend.dataprep.dataset.StatisticsAdapter;
 import org.talend.dataprep.quality.AnalyzerService;
 import org.talend.dataprep.transformation.pipeline.Signal;
@@ -22,22 +31,53 @@ import org.talend.dataquality.common.inference.Analyzers;
  * <p>
  * Please note this class does not perform invalid values detection (see {@link InvalidDetectionNode} for this).
  * </p>
+ * <p>
+ * In {@link Mode#ASYNCHRONOUS asynchronous} modes, values of the rows are queued to a dedicated analysis thread, so next
+ * nodes (e.g. the writer) do not wait for the analysis of each row: statistics are only waited for at the end of the
+ * stream.
+ * </p>
  */
 public class StatisticsNode extends ColumnFilteredNode {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StatisticsNode.class);
 
+    /** Number of rows sent at once to the analysis thread. */
+    private static final int ASYNC_BATCH_SIZE = 256;
+
+    /** Maximum number of batches waiting for the analysis thread. */
+    private static final int ASYNC_QUEUE_SIZE = 64;
+
+    /** Marks the end of the batches sent to the analysis thread. */
+    private static final String[][] END = new String[0][];
+
     private final Function<List<ColumnMetadata>, Analyzer<Analyzers.Result>> analyzer;
 
     private final StatisticsAdapter adapter;
 
+    private final Mode mode;
+
     private Analyzer<Analyzers.Result> configuredAnalyzer;
 
+    /** Analysis thread (in asynchronous modes), may be ended by a signal sent from another thread. */
+    private volatile AsyncAnalysis asyncAnalysis;
+
     public StatisticsNode(Function<List<ColumnMetadata>, Analyzer<Analyzers.Result>> analyzer, Predicate<ColumnMetadata> filter,
             StatisticsAdapter adapter) {
+        this(analyzer, filter, adapter, Mode.SYNCHRONOUS);
+    }
+
+    /**
+     * @param analyzer creates the analyzer for the filtered columns.
+     * @param filter the filter to apply on columns.
+     * @param adapter the adapter used to retrieve statistical information.
+     * @param mode how values are analyzed.
+     */
+    public StatisticsNode(Function<List<ColumnMetadata>, Analyzer<Analyzers.Result>> analyzer, Predicate<ColumnMetadata> filter,
+            StatisticsAdapter adapter, Mode mode) {
         super(filter);
         this.analyzer = analyzer;
         this.adapter = adapter;
+        this.mode = mode;
     }
 
     /**
@@ -54,12 +94,13 @@ public class StatisticsNode extends ColumnFilteredNode {
 
     /**
      * Creates a default analyzer with te specified analyzer service.
-     * This analyzer performs quality, cardinality, frequency, patterns, the length, quantiles, summary and histogram analysis.
+     * This analyzer performs quality, cardinality, frequency, patterns, the length, quantiles, summary and histogram analysis
+     * (columns being analyzed in parallel if analyzer service is configured with more than one shard).
      *
      * @param analyzerService the provided analyzer service
      */
     public static Function<List<ColumnMetadata>, Analyzer<Analyzers.Result>> getDefaultAnalyzer(AnalyzerService analyzerService) {
-        return c -> analyzerService.build(c, //
+        return columns -> analyzerService.sharded(columns, c -> analyzerService.build(c, //
                 AnalyzerService.Analysis.QUALITY, //
                 AnalyzerService.Analysis.CARDINALITY, //
                 AnalyzerService.Analysis.FREQUENCY, //
@@ -67,30 +108,253 @@ public class StatisticsNode extends ColumnFilteredNode {
                 AnalyzerService.Analysis.LENGTH, //
                 AnalyzerService.Analysis.QUANTILES, //
                 AnalyzerService.Analysis.SUMMARY, //
-                AnalyzerService.Analysis.HISTOGRAM);
+                AnalyzerService.Analysis.HISTOGRAM));
     }
 
     @Override
     public void receive(DataSetRow row, RowMetadata metadata) {
         performColumnFilter(row, metadata);
+        configure();
+        if (!row.isDeleted()) {
+            analyze(values(row));
+        }
+        super.receive(row, metadata);
+    }
+
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        // rows of a batch share the same metadata: filter columns once for all of them
+        performColumnFilter(rows.get(0), metadata);
+        configure();
+        for (DataSetRow row : rows) {
+            if (!row.isDeleted()) {
+                analyze(values(row));
+            }
+        }
+        forward(rows, metadata);
+    }
+
+    private void configure() {
         if (configuredAnalyzer == null) {
             this.configuredAnalyzer = analyzer.apply(filteredColumns);
+            if (mode != Mode.SYNCHRONOUS) {
+                asyncAnalysis = new AsyncAnalysis(configuredAnalyzer, mode == Mode.ASYNCHRONOUS_SAMPLED);
+            }
         }
-        if (!row.isDeleted()) {
-            configuredAnalyzer.analyze(row.filter(filteredColumns).order(filteredColumns).toArray(DataSetRow.SKIP_TDP_ID));
+    }
+
+    /**
+     * @return The values of the filtered columns of <code>row</code>, in filtered columns order (same as
+     * <code>row.filter(filteredColumns).order(filteredColumns).toArray(SKIP_TDP_ID)</code> without copying the row).
+     */
+    private String[] values(DataSetRow row) {
+        final String[] values = new String[filteredColumns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = String.valueOf(row.get(filteredColumns.get(i).getId()));
+        }
+        return values;
+    }
+
+    private void analyze(String[] values) {
+        final AsyncAnalysis analysis = asyncAnalysis;
+        if (analysis != null) {
+            analysis.add(values);
+        } else {
+            configuredAnalyzer.analyze(values);
         }
-        super.receive(row, metadata);
     }
 
     @Override
     public void signal(Signal signal) {
         if (signal == Signal.END_OF_STREAM || signal == Signal.CANCEL || signal == Signal.STOP) {
+            final AsyncAnalysis analysis = asyncAnalysis;
+            if (analysis != null) {
+                analysis.finish(signal == Signal.CANCEL);
+            }
             if (configuredAnalyzer != null) {
                 adapter.adapt(filteredColumns, configuredAnalyzer.getResult());
+                if (analysis != null && analysis.skipped > 0) {
+                    flagSampled(analysis.skipped);
+                }
             } else {
                 LOGGER.warn("No data received.");
             }
         }
         super.signal(signal);
     }
+
+    /**
+     * Stops the analysis thread (if any) without computing statistics. Does nothing if analysis already ended: this is
+     * meant to release the analysis thread when the pipeline fails before the end of the stream.
+     */
+    public void stopAnalysis() {
+        final AsyncAnalysis analysis = asyncAnalysis;
+        if (analysis != null) {
+            analysis.finish(true);
+        }
+    }
+
+    /**
+     * Flags the statistics of the analyzed columns as approximate: some rows were not analyzed.
+     *
+     * @param skipped The number of rows not analyzed.
+     */
+    private void flagSampled(long skipped) {
+        for (ColumnMetadata column : filteredColumns) {
+            final Statistics statistics = column.getStatistics();
+            Approximation approximation = statistics.getApproximation();
+            if (approximation == null) {
+                approximation = new Approximation();
+                statistics.setApproximation(approximation);
+            }
+            approximation.setSkippedCount(skipped);
+        }
+    }
+
+    /**
+     * How a statistics node analyzes values.
+     */
+    public enum Mode {
+        /** Values are analyzed on the pipeline thread. */
+        SYNCHRONOUS,
+        /** Values are analyzed by a dedicated thread, pipeline waits when too many values are pending. */
+        ASYNCHRONOUS,
+        /** Values are analyzed by a dedicated thread, rows are not analyzed when too many values are pending. */
+        ASYNCHRONOUS_SAMPLED
+    }
+
+    /**
+     * Analyzes values on a dedicated thread: values are sent by batches through a bounded queue.
+     */
+    private static class AsyncAnalysis implements Runnable {
+
+        private final Analyzer<Analyzers.Result> analyzer;
+
+        private final boolean sampled;
+
+        private final BlockingQueue<String[][]> queue = new ArrayBlockingQueue<>(ASYNC_QUEUE_SIZE);
+
+        private final Thread thread;
+
+        private String[][] batch = new String[ASYNC_BATCH_SIZE][];
+
+        private int size;
+
+        /** Number of rows not analyzed (sampled mode only). */
+        private volatile long skipped;
+
+        private volatile boolean canceled;
+
+        /** Set once (by the first call to {@link #finish(boolean)}), values added afterwards are ignored. */
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private volatile RuntimeException error;
+
+        private AsyncAnalysis(Analyzer<Analyzers.Result> analyzer, boolean sampled) {
+            this.analyzer = analyzer;
+            this.sampled = sampled;
+            this.thread = new Thread(this, "statistics-analysis");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private void add(String[] values) {
+            if (finished.get()) {
+                return;
+            }
+            batch[size++] = values;
+            if (size == ASYNC_BATCH_SIZE) {
+                submit();
+            }
+        }
+
+        private void submit() {
+            if (size == 0) {
+                return;
+            }
+            final String[][] values = size == ASYNC_BATCH_SIZE ? batch : Arrays.copyOf(batch, size);
+            if (!sampled) {
+                put(values);
+            } else if (!queue.offer(values)) {
+                // Analysis is late, keep on with next rows instead of waiting for it
+                skipped += values.length;
+            }
+            batch = new String[ASYNC_BATCH_SIZE][];
+            size = 0;
+        }
+
+        private void put(String[][] values) {
+            try {
+                // analysis thread may end meanwhile (on a cancel sent by another thread): never wait for it forever
+                while (!queue.offer(values, 1, TimeUnit.SECONDS)) {
+                    if (!thread.isAlive()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TalendRuntimeException(BaseErrorCodes.UNEXPECTED_EXCEPTION, e);
+            }
+        }
+
+        /**
+         * Sends pending values and waits for the analysis thread to analyze them. Only the first call has an effect.
+         *
+         * @param cancel <code>true</code> to discard values not analyzed yet.
+         */
+        private void finish(boolean cancel) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            if (cancel) {
+                canceled = true;
+                queue.clear();
+            } else {
+                submit();
+            }
+            put(END);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TalendRuntimeException(BaseErrorCodes.UNEXPECTED_EXCEPTION, e);
+            }
+            if (skipped > 0) {
+                LOGGER.info("Statistics computed on a sample ({} rows skipped as analysis was late).", skipped);
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                String[][] values;
+                while ((values = queue.take()) != END) {
+                    // Keep on taking values after an error or a cancel so that pipeline is never blocked
+                    if (error == null && !canceled) {
+                        analyze(values);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = new TalendRuntimeException(BaseErrorCodes.UNEXPECTED_EXCEPTION, e);
+            }
+        }
+
+        private void analyze(String[][] values) {
+            try {
+                for (String[] value : values) {
+                    analyzer.analyze(value);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.error("Unable to analyze values.", e);
+                error = e;
+            }
+        }
+    }
 }
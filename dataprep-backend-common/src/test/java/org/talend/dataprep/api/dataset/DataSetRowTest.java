@@ -20,6 +20,8 @@ import static org.talend.dataprep.api.dataset.row.FlagNames.TDP_INVALID;
 
 import java.util.*;
 
+import java.io.StringWriter;
+
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
@@ -27,6 +29,9 @@ import org.talend.dataprep.api.dataset.row.Flag;
 import org.talend.dataprep.api.dataset.row.FlagNames;
 import org.talend.dataprep.api.type.Type;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class DataSetRowTest {
 
 
@@ -355,6 +360,126 @@ public class DataSetRowTest {
         assertThat(row.values().get(TDP_INVALID), CoreMatchers.is("0001"));
     }
 
+    @Test
+    public void should_keep_column_order_when_adding_columns() throws Exception {
+        // given
+        final DataSetRow row = new DataSetRow(new RowMetadata(Arrays.asList( //
+                column().id(1).type(Type.STRING).build(), //
+                column().id(3).type(Type.STRING).build())));
+        row.set("0003", "c");
+        row.set("0001", "a");
+
+        // when
+        row.set("0002", "b");
+        row.set("0000", "z");
+
+        // then
+        assertThat(new ArrayList<>(row.values().keySet()), CoreMatchers.is(Arrays.asList("0000", "0001", "0002", "0003")));
+        assertThat(row.toArray(), CoreMatchers.is(new String[] { "z", "a", "b", "c" }));
+    }
+
+    @Test
+    public void should_clone_values() throws Exception {
+        // given
+        final DataSetRow row = createRow(defaultValues(), false);
+
+        // when
+        final DataSetRow clone = row.clone();
+        clone.set("age", "19");
+        clone.set("city", "Paris");
+
+        // then
+        assertThat(row.get("age"), CoreMatchers.is("18"));
+        assertNull(row.get("city"));
+        assertThat(clone.get("age"), CoreMatchers.is("19"));
+        assertThat(clone.get("city"), CoreMatchers.is("Paris"));
+        assertThat(clone.get("firstName"), CoreMatchers.is("Toto"));
+    }
+
+    @Test
+    public void should_reuse_row_after_clear() throws Exception {
+        // given
+        final DataSetRow row = createRow(defaultValues(), false);
+
+        // when
+        row.clear();
+        row.set("id", "2");
+        row.set("comment", null);
+
+        // then
+        assertThat(row.get("id"), CoreMatchers.is("2"));
+        assertNull(row.get("age"));
+        assertNull(row.get("comment"));
+        assertTrue(row.values().containsKey("comment"));
+        assertFalse(row.values().containsKey("age"));
+        assertThat(row.values().size(), CoreMatchers.is(2));
+    }
+
+    @Test
+    public void should_write_values_with_id() throws Exception {
+        // given
+        final DataSetRow row = createRow(defaultValues(), false);
+        row.setTdpId(12L);
+        row.setInvalid("age");
+
+        // then
+        assertWrittenAsValuesWithId(row, null);
+    }
+
+    @Test
+    public void should_write_diff() throws Exception {
+        // given
+        final Map<String, String> oldValues = new HashMap<>(4);
+        oldValues.put("id", "1");
+        oldValues.put("firstName", "otoT");
+        oldValues.put("city", "Paris");
+
+        // then: updated, new and deleted values
+        assertWrittenAsValuesWithId(createRow(defaultValues(), false), createRow(oldValues, false));
+        // row is no more deleted
+        assertWrittenAsValuesWithId(createRow(defaultValues(), false), createRow(oldValues, true));
+        // row has been deleted
+        assertWrittenAsValuesWithId(createRow(defaultValues(), true), createRow(oldValues, false));
+    }
+
+    @Test
+    public void should_write_without_internal_values() throws Exception {
+        // given
+        final DataSetRow row = createRow(defaultValues(), false);
+        row.setTdpId(1L);
+        row.setInvalid("age");
+
+        // when
+        final StringWriter writer = new StringWriter();
+        final ObjectMapper mapper = new ObjectMapper();
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+            row.withoutInternalValues().writeTo(generator);
+        }
+
+        // then
+        final Map<String, Object> expected = new HashMap<>(defaultValues());
+        expected.put(FlagNames.TDP_ID, 1);
+        assertEquals(expected, mapper.readValue(writer.toString(), Map.class));
+    }
+
+    /**
+     * Asserts {@link DataSetRow#writeTo(JsonGenerator)} writes what {@link DataSetRow#valuesWithId()} returns for
+     * <code>row</code> diff with <code>oldRow</code> (if any). Rows are copied as both methods put back deleted values.
+     */
+    private void assertWrittenAsValuesWithId(DataSetRow row, DataSetRow oldRow) throws Exception {
+        final DataSetRow written = row.clone();
+        final ObjectMapper mapper = new ObjectMapper();
+        if (oldRow != null) {
+            row.diff(oldRow.clone());
+            written.diff(oldRow.clone());
+        }
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+            written.writeTo(generator);
+        }
+        assertEquals(mapper.readTree(mapper.writeValueAsString(row.valuesWithId())), mapper.readTree(writer.toString()));
+    }
+
     @Test
     public void should_parse_invalid_columns_on_creation() throws Exception {
         // given
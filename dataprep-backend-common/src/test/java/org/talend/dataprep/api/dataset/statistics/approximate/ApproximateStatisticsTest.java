@@ -0,0 +1,141 @@
+//  ============================================================================
+//
+//  Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+//  This source code is available under agreement available at
+//  https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+//  You should have received a copy of the agreement
+//  along with this program; if not, write to Talend SA
+//  9 rue Pages 92150 Suresnes, France
+//
+//  ============================================================================
+
+package org.talend.dataprep.api.dataset.statistics.approximate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class ApproximateStatisticsTest {
+
+    @Test
+    public void shouldEstimateDistinctCount() throws Exception {
+        // given
+        final ApproximateCardinalityStatistics statistics = new ApproximateCardinalityStatistics();
+
+        // when (each value added twice)
+        for (int i = 0; i < 200000; i++) {
+            statistics.add("id-" + i);
+            statistics.add("id-" + i);
+        }
+
+        // then (3 standard errors)
+        final double error = 3 * statistics.getRelativeError() * 200000;
+        assertEquals(200000, statistics.getDistinctCount(), error);
+        assertEquals(200000, statistics.getDuplicateCount(), error);
+    }
+
+    @Test
+    public void shouldCountFewDistinctValuesExactly() throws Exception {
+        // given
+        final ApproximateCardinalityStatistics statistics = new ApproximateCardinalityStatistics();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            statistics.add(String.valueOf(i % 10));
+        }
+        statistics.add(null);
+
+        // then
+        assertEquals(11, statistics.getDistinctCount());
+        assertEquals(990, statistics.getDuplicateCount());
+    }
+
+    @Test
+    public void shouldFindMostFrequentValues() throws Exception {
+        // given
+        final ApproximateFrequencyStatistics statistics = new ApproximateFrequencyStatistics();
+
+        // when (frequent values among many more distinct values than counters)
+        for (int i = 0; i < 100000; i++) {
+            statistics.add("unique-" + i);
+            if (i % 10 == 0) {
+                statistics.add("frequent");
+            }
+            if (i % 20 == 0) {
+                statistics.add("less frequent");
+            }
+        }
+
+        // then
+        final Map<String, Long> topK = statistics.getTopK(2);
+        final Iterator<Map.Entry<String, Long>> entries = topK.entrySet().iterator();
+        final Map.Entry<String, Long> first = entries.next();
+        final Map.Entry<String, Long> second = entries.next();
+        assertEquals("frequent", first.getKey());
+        assertEquals("less frequent", second.getKey());
+        final long maximumError = statistics.getMaximumError();
+        assertTrue(maximumError > 0);
+        assertTrue(first.getValue() >= 10000 && first.getValue() <= 10000 + maximumError);
+        assertTrue(second.getValue() >= 5000 && second.getValue() <= 5000 + maximumError);
+    }
+
+    @Test
+    public void shouldCountExactlyWhenFewDistinctValues() throws Exception {
+        // given
+        final ApproximateFrequencyStatistics statistics = new ApproximateFrequencyStatistics();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            statistics.add(String.valueOf(i % 3));
+        }
+
+        // then
+        final Map<String, Long> topK = statistics.getTopK(15);
+        assertEquals(3, topK.size());
+        assertEquals(34L, (long) topK.get("0"));
+        assertEquals(33L, (long) topK.get("1"));
+        assertEquals(33L, (long) topK.get("2"));
+        assertEquals(0, statistics.getMaximumError());
+    }
+
+    @Test
+    public void shouldComputeExactQuartilesForSmallSample() throws Exception {
+        // given
+        final ApproximateQuantileStatistics statistics = new ApproximateQuantileStatistics();
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            statistics.add(i);
+        }
+
+        // then
+        assertEquals(2, statistics.getLowerQuartile(), 0);
+        assertEquals(3, statistics.getMedian(), 0);
+        assertEquals(4, statistics.getUpperQuartile(), 0);
+        assertEquals(0, statistics.getRankError(), 0);
+    }
+
+    @Test
+    public void shouldEstimateQuartiles() throws Exception {
+        // given
+        final ApproximateQuantileStatistics statistics = new ApproximateQuantileStatistics();
+
+        // when
+        for (int i = 0; i < 1000000; i++) {
+            statistics.add(i);
+        }
+
+        // then
+        final double error = statistics.getRankError() * 1000000;
+        assertTrue(error > 0);
+        assertEquals(250000, statistics.getLowerQuartile(), error);
+        assertEquals(500000, statistics.getMedian(), error);
+        assertEquals(750000, statistics.getUpperQuartile(), error);
+    }
+}
@@ -7,9 +7,11 @@ import java.util.Collections;
 import org.junit.Before;
 import org.junit.Test;
 import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.dataset.statistics.approximate.ApproximateCardinalityStatistics;
 import org.talend.dataprep.api.type.Type;
 import org.talend.dataquality.common.inference.Analyzer;
 import org.talend.dataquality.common.inference.Analyzers;
+import org.talend.dataquality.statistics.cardinality.CardinalityStatistics;
 
 public class AnalyzerServiceTest {
 
@@ -59,4 +61,30 @@ public class AnalyzerServiceTest {
             }
         }
     }
+
+    @Test
+    public void buildWithApproximateThreshold() throws Exception {
+        // Given
+        service.setApproximateThreshold(10);
+        final ColumnMetadata column = new ColumnMetadata();
+        column.setType(Type.STRING.getName());
+        try (Analyzer<Analyzers.Result> small = service.build(column, AnalyzerService.Analysis.CARDINALITY);
+                Analyzer<Analyzers.Result> large = service.build(column, AnalyzerService.Analysis.CARDINALITY)) {
+            // When
+            for (int i = 0; i < 10; i++) {
+                small.analyze(String.valueOf(i));
+            }
+            for (int i = 0; i < 100; i++) {
+                large.analyze(String.valueOf(i));
+            }
+
+            // Then
+            final Analyzers.Result smallResult = small.getResult().get(0);
+            assertTrue(smallResult.exist(CardinalityStatistics.class));
+            assertFalse(smallResult.exist(ApproximateCardinalityStatistics.class));
+            final Analyzers.Result largeResult = large.getResult().get(0);
+            assertFalse(largeResult.exist(CardinalityStatistics.class));
+            assertEquals(100, largeResult.get(ApproximateCardinalityStatistics.class).getDistinctCount());
+        }
+    }
 }
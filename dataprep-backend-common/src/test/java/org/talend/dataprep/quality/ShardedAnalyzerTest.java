@@ -0,0 +1,84 @@
+package org.talend.dataprep.quality;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.type.Type;
+import org.talend.dataquality.common.inference.Analyzer;
+import org.talend.dataquality.common.inference.Analyzers;
+import org.talend.dataquality.statistics.cardinality.CardinalityStatistics;
+
+public class ShardedAnalyzerTest {
+
+    private AnalyzerService service;
+
+    private List<ColumnMetadata> columns;
+
+    @Before
+    public void setUp() throws Exception {
+        service = new AnalyzerService();
+        columns = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final ColumnMetadata column = new ColumnMetadata();
+            column.setId("000" + i);
+            column.setType(Type.STRING.getName());
+            columns.add(column);
+        }
+    }
+
+    @Test
+    public void shouldNotShardWithOneShard() throws Exception {
+        // Given
+        service.setShards(1);
+
+        // When
+        try (Analyzer<Analyzers.Result> analyzer = service.sharded(columns,
+                c -> service.build(c, AnalyzerService.Analysis.CARDINALITY))) {
+            // Then
+            assertFalse(analyzer instanceof ShardedAnalyzer);
+        }
+    }
+
+    @Test
+    public void shouldHaveSameResultsAsSingleAnalyzer() throws Exception {
+        // Given
+        service.setShards(3);
+        final int records = ShardedAnalyzer.BATCH_SIZE * 2 + 10; // last batch is not full
+
+        try (Analyzer<Analyzers.Result> sharded = service.sharded(columns,
+                c -> service.build(c, AnalyzerService.Analysis.CARDINALITY));
+                Analyzer<Analyzers.Result> single = service.build(columns, AnalyzerService.Analysis.CARDINALITY)) {
+            assertTrue(sharded instanceof ShardedAnalyzer);
+
+            // When
+            for (int i = 0; i < records; i++) {
+                final String[] record = new String[columns.size()];
+                for (int j = 0; j < record.length; j++) {
+                    // column j has (j + 1) * 10 distinct values
+                    record[j] = String.valueOf(i % ((j + 1) * 10));
+                }
+                sharded.analyze(record);
+                single.analyze(record);
+            }
+            sharded.end();
+            single.end();
+
+            // Then
+            final List<Analyzers.Result> shardedResults = sharded.getResult();
+            final List<Analyzers.Result> singleResults = single.getResult();
+            assertEquals(columns.size(), shardedResults.size());
+            for (int i = 0; i < columns.size(); i++) {
+                final CardinalityStatistics expected = singleResults.get(i).get(CardinalityStatistics.class);
+                final CardinalityStatistics actual = shardedResults.get(i).get(CardinalityStatistics.class);
+                assertEquals((i + 1) * 10L, actual.getDistinctCount());
+                assertEquals(expected.getDistinctCount(), actual.getDistinctCount());
+                assertEquals(expected.getDuplicateCount(), actual.getDuplicateCount());
+            }
+        }
+    }
+}
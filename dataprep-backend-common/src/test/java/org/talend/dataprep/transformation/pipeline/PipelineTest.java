@@ -277,6 +277,57 @@ public class PipelineTest {
         assertThat(output.getSignal(), is(END_OF_STREAM));
     }
 
+    @Test
+    public void testPipelineBatches() throws Exception {
+        // given
+        final AtomicInteger applyCount = new AtomicInteger();
+        final Action mockAction = new Action() {
+
+            @Override
+            public DataSetRowAction getRowAction() {
+                return (r, context) -> {
+                    applyCount.incrementAndGet();
+                    r.set("0000", r.get("0000").toUpperCase());
+                    return r;
+                };
+            }
+        };
+        final ActionContext actionContext = new ActionContext(new TransformationContext());
+        final TestNode testNode = new TestNode();
+        final Pipeline pipeline = new Pipeline(NodeBuilder.source() //
+                .to(new ActionNode(mockAction, actionContext)) //
+                .to(testNode) //
+                .to(output) //
+                .build());
+        pipeline.setBatchSize(2);
+        final RowMetadata rowMetadata = new RowMetadata();
+        final List<DataSetRow> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final DataSetRow row = new DataSetRow(rowMetadata);
+            row.set("0000", "value" + i);
+            records.add(row);
+        }
+
+        final DataSet dataSet = new DataSet();
+        final DataSetMetadata metadata = new DataSetMetadata();
+        metadata.setRowMetadata(rowMetadata);
+        dataSet.setMetadata(metadata);
+        dataSet.setRecords(records.stream());
+
+        // when
+        pipeline.execute(dataSet);
+
+        // then
+        assertThat(applyCount.get(), is(5));
+        assertThat(testNode.getReceivedRows().size(), is(5));
+        for (int i = 0; i < 5; i++) {
+            assertThat(testNode.getReceivedRows().get(i).get("0000"), is("VALUE" + i));
+        }
+        assertThat(output.getCount(), is(5));
+        assertThat(output.getRow().get("0000"), is("VALUE4"));
+        assertThat(output.getSignal(), is(END_OF_STREAM));
+    }
+
     @Test
     public void testCancelledPipeline() throws Exception {
         // given
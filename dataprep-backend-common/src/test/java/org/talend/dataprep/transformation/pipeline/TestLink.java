@@ -29,6 +29,13 @@ public class TestLink extends BasicLink {
         super.emit(row, metadata);
     }
 
+    @Override
+    public void emit(List<DataSetRow> rows, RowMetadata metadata) {
+        this.emittedRows.addAll(rows);
+        rows.forEach(row -> this.emittedMetadata.add(metadata));
+        super.emit(rows, metadata);
+    }
+
     @Override
     public void emit(DataSetRow[] rows, RowMetadata[] metadatas) {
         this.emittedRows.addAll(Arrays.asList(rows));
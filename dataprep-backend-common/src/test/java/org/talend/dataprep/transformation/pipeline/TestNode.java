@@ -25,6 +25,13 @@ public class TestNode extends BasicNode {
         super.receive(row, metadata);
     }
 
+    @Override
+    public void receive(List<DataSetRow> rows, RowMetadata metadata) {
+        this.receivedRows.addAll(rows);
+        rows.forEach(row -> this.receivedMetadata.add(metadata));
+        forward(rows, metadata);
+    }
+
     @Override
     public void receive(DataSetRow[] rows, RowMetadata[] metadatas) {
         this.receivedRows.addAll(Arrays.asList(rows));
@@ -0,0 +1,89 @@
+package org.talend.dataprep.transformation.pipeline.node;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.talend.dataprep.api.dataset.RowMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
+import org.talend.dataprep.transformation.pipeline.Signal;
+import org.talend.dataprep.transformation.pipeline.TestLink;
+
+public class ParallelNodeTest {
+
+    @Test
+    public void receive_should_emit_processed_rows_in_order() throws Exception {
+        // given
+        final Set<Thread> threads = new HashSet<>();
+        final ParallelNode node = new ParallelNode(() -> new BasicNode() {
+
+            @Override
+            public void receive(DataSetRow row, RowMetadata metadata) {
+                synchronized (threads) {
+                    threads.add(Thread.currentThread());
+                }
+                row.set("0000", row.get("0000").toUpperCase());
+                super.receive(row, metadata);
+            }
+        }, 4, 10);
+        final TestLink link = new TestLink(new BasicNode());
+        node.setLink(link);
+
+        // when (same row instance for all rows, like a data set source does)
+        final RowMetadata metadata = new RowMetadata();
+        final DataSetRow row = new DataSetRow(new HashMap<>());
+        for (long i = 0; i < 1000; i++) {
+            row.setTdpId(i);
+            row.set("0000", "value" + i);
+            node.receive(row, metadata);
+        }
+        node.signal(Signal.END_OF_STREAM);
+
+        // then
+        assertThat(link.getEmittedRows(), hasSize(1000));
+        for (int i = 0; i < 1000; i++) {
+            final DataSetRow emitted = link.getEmittedRows().get(i);
+            assertThat(emitted.getTdpId(), is((long) i));
+            assertThat(emitted.get("0000"), is("VALUE" + i));
+        }
+        assertThat(threads.contains(Thread.currentThread()), is(false));
+        assertThat(link.getEmittedSignals(), contains(Signal.END_OF_STREAM));
+    }
+
+    @Test
+    public void signal_should_be_sent_to_copies() throws Exception {
+        // given
+        final Set<BasicNode> signaled = new HashSet<>();
+        final ParallelNode node = new ParallelNode(() -> new BasicNode() {
+
+            @Override
+            public void signal(Signal signal) {
+                synchronized (signaled) {
+                    signaled.add(this);
+                }
+                super.signal(signal);
+            }
+        }, 2, 1);
+        final TestLink link = new TestLink(new BasicNode());
+        node.setLink(link);
+
+        // when
+        final RowMetadata metadata = new RowMetadata();
+        for (long i = 0; i < 10; i++) {
+            final DataSetRow row = new DataSetRow(new HashMap<>());
+            row.setTdpId(i);
+            node.receive(row, metadata);
+        }
+        node.signal(Signal.END_OF_STREAM);
+
+        // then
+        assertThat(link.getEmittedRows(), hasSize(10));
+        assertThat(signaled.isEmpty(), is(false));
+    }
+}
@@ -0,0 +1,236 @@
+package org.talend.dataprep.transformation.pipeline.node;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.commons.lang.NotImplementedException;
+import org.junit.Test;
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.dataset.RowMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
+import org.talend.dataprep.api.dataset.statistics.Approximation;
+import org.talend.dataprep.api.type.Type;
+import org.talend.dataprep.dataset.StatisticsAdapter;
+import org.talend.dataprep.transformation.pipeline.Signal;
+import org.talend.dataprep.transformation.pipeline.TestLink;
+import org.talend.dataquality.common.inference.Analyzer;
+import org.talend.dataquality.common.inference.Analyzers;
+
+public class StatisticsNodeTest {
+
+    @Test
+    public void synchronous_should_analyze_values_on_pipeline_thread() throws Exception {
+        // given
+        final RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        final StatisticsNode node = new StatisticsNode(c -> analyzer, c -> true, new StatisticsAdapter(40));
+        final TestLink link = new TestLink(new BasicNode());
+        node.setLink(link);
+
+        // when
+        send(node, 1000);
+
+        // then
+        assertValues(analyzer, 1000);
+        assertThat(analyzer.threads, contains(Thread.currentThread()));
+        assertThat(link.getEmittedRows(), hasSize(1000));
+        assertThat(link.getEmittedSignals(), contains(Signal.END_OF_STREAM));
+    }
+
+    @Test
+    public void asynchronous_should_analyze_all_values_off_pipeline_thread() throws Exception {
+        // given
+        final RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        final StatisticsNode node = new StatisticsNode(c -> analyzer, c -> true, new StatisticsAdapter(40),
+                StatisticsNode.Mode.ASYNCHRONOUS);
+        final TestLink link = new TestLink(new BasicNode());
+        node.setLink(link);
+
+        // when (more rows than the queue can hold)
+        send(node, 100000);
+
+        // then
+        assertValues(analyzer, 100000);
+        assertThat(analyzer.threads.contains(Thread.currentThread()), is(false));
+        assertThat(link.getEmittedRows(), hasSize(100000));
+        assertThat(link.getEmittedSignals(), contains(Signal.END_OF_STREAM));
+    }
+
+    @Test
+    public void sampled_should_analyze_a_subset_of_values() throws Exception {
+        // given
+        final RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        final StatisticsNode node = new StatisticsNode(c -> analyzer, c -> true, new StatisticsAdapter(40),
+                StatisticsNode.Mode.ASYNCHRONOUS_SAMPLED);
+        final TestLink link = new TestLink(new BasicNode());
+        node.setLink(link);
+
+        // when
+        send(node, 100000);
+
+        // then (all rows are emitted, analyzed values are rows values in order)
+        assertThat(link.getEmittedRows(), hasSize(100000));
+        assertThat(analyzer.values.isEmpty(), is(false));
+        int previous = -1;
+        for (String[] value : analyzer.values) {
+            final int current = Integer.parseInt(value[0]);
+            assertThat(current > previous, is(true));
+            assertThat(value[1], is("value" + current));
+            previous = current;
+        }
+    }
+
+    @Test
+    public void sampled_should_flag_statistics_as_approximate() throws Exception {
+        // given (analysis is blocked until all rows are sent, so the queue is full and rows are skipped)
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingAnalyzer analyzer = new RecordingAnalyzer() {
+
+            @Override
+            public boolean analyze(String... record) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.analyze(record);
+            }
+        };
+        final StatisticsNode node = new StatisticsNode(c -> analyzer, c -> true, new StatisticsAdapter(40),
+                StatisticsNode.Mode.ASYNCHRONOUS_SAMPLED);
+        node.setLink(new TestLink(new BasicNode()));
+        final RowMetadata metadata = metadata();
+
+        // when
+        for (int i = 0; i < 100000; i++) {
+            node.receive(row(i), metadata);
+        }
+        release.countDown();
+        node.signal(Signal.END_OF_STREAM);
+
+        // then
+        final long analyzed = analyzer.values.size();
+        for (ColumnMetadata column : metadata.getColumns()) {
+            final Approximation approximation = column.getStatistics().getApproximation();
+            assertThat(approximation == null, is(false));
+            assertThat(approximation.getSkippedCount(), is(100000 - analyzed));
+        }
+    }
+
+    @Test
+    public void stopAnalysis_should_ignore_next_values() throws Exception {
+        // given
+        final RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        final StatisticsNode node = new StatisticsNode(c -> analyzer, c -> true, new StatisticsAdapter(40),
+                StatisticsNode.Mode.ASYNCHRONOUS);
+        final TestLink link = new TestLink(new BasicNode());
+        node.setLink(link);
+        final RowMetadata metadata = metadata();
+
+        // when (more rows than the queue can hold after analysis is stopped)
+        node.receive(row(0), metadata);
+        node.stopAnalysis();
+        for (int i = 1; i < 100000; i++) {
+            node.receive(row(i), metadata);
+        }
+        node.signal(Signal.END_OF_STREAM);
+
+        // then
+        assertThat(analyzer.values.size() <= 1, is(true));
+        assertThat(link.getEmittedRows(), hasSize(100000));
+        assertThat(link.getEmittedSignals(), contains(Signal.END_OF_STREAM));
+    }
+
+    private static RowMetadata metadata() {
+        final RowMetadata metadata = new RowMetadata();
+        metadata.addColumn(ColumnMetadata.Builder.column().id(0).name("id").type(Type.INTEGER).build());
+        metadata.addColumn(ColumnMetadata.Builder.column().id(1).name("value").type(Type.STRING).build());
+        return metadata;
+    }
+
+    private static DataSetRow row(int i) {
+        final DataSetRow row = new DataSetRow(new HashMap<>());
+        row.setTdpId((long) i);
+        row.set("0000", String.valueOf(i));
+        row.set("0001", "value" + i);
+        return row;
+    }
+
+    private static void send(StatisticsNode node, int count) {
+        final RowMetadata metadata = metadata();
+        final List<DataSetRow> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final DataSetRow row = row(i);
+            // half of the rows one by one, the other half by batches
+            if (i < count / 2) {
+                node.receive(row, metadata);
+            } else {
+                batch.add(row);
+                if (batch.size() == 100) {
+                    node.receive(new ArrayList<>(batch), metadata);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            node.receive(batch, metadata);
+        }
+        node.signal(Signal.END_OF_STREAM);
+    }
+
+    private static void assertValues(RecordingAnalyzer analyzer, int count) {
+        assertThat(analyzer.values, hasSize(count));
+        for (int i = 0; i < count; i++) {
+            assertThat(analyzer.values.get(i)[0], is(String.valueOf(i)));
+            assertThat(analyzer.values.get(i)[1], is("value" + i));
+        }
+    }
+
+    private static class RecordingAnalyzer implements Analyzer<Analyzers.Result> {
+
+        private final List<String[]> values = Collections.synchronizedList(new ArrayList<>());
+
+        private final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+        @Override
+        public void init() {
+            // nothing to do here
+        }
+
+        @Override
+        public boolean analyze(String... record) {
+            threads.add(Thread.currentThread());
+            values.add(record);
+            return true;
+        }
+
+        @Override
+        public void end() {
+            // nothing to do here
+        }
+
+        @Override
+        public List<Analyzers.Result> getResult() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Analyzer<Analyzers.Result> merge(Analyzer<Analyzers.Result> another) {
+            throw new NotImplementedException();
+        }
+
+        @Override
+        public void close() throws Exception {
+            // nothing to do here
+        }
+    }
+}
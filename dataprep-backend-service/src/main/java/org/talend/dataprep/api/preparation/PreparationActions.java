@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.MoreObjects;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -41,6 +42,12 @@ public class PreparationActions extends Identifiable implements Serializable {
     @JsonProperty("app-version")
     private String appVersion;
 
+    /** Id of the preparation actions these actions were appended to (not stored, only a hint for repositories). */
+    private transient String baseId;
+
+    /** Number of actions of the preparation actions these actions were appended to. */
+    private transient int baseSize;
+
     /**
      * Default empty constructor.
      */
@@ -81,7 +88,10 @@ public class PreparationActions extends Identifiable implements Serializable {
         final List<Action> appendedActions = new ArrayList<>(getActions().size() + newActions.size());
         appendedActions.addAll(actions);
         appendedActions.addAll(newActions);
-        return new PreparationActions(appendedActions, getAppVersion());
+        final PreparationActions appended = new PreparationActions(appendedActions, getAppVersion());
+        appended.baseId = id();
+        appended.baseSize = actions.size();
+        return appended;
     }
 
     @Override
@@ -112,6 +122,24 @@ public class PreparationActions extends Identifiable implements Serializable {
         return actions;
     }
 
+    /**
+     * @return The id of the preparation actions these actions were created from with {@link #append(List)},
+     * <code>null</code> if these actions were not created by an append.
+     */
+    @JsonIgnore
+    public String getBaseId() {
+        return baseId;
+    }
+
+    /**
+     * @return The number of actions of the preparation actions these actions were created from with
+     * {@link #append(List)} (actions after this index are the appended ones).
+     */
+    @JsonIgnore
+    public int getBaseSize() {
+        return baseSize;
+    }
+
     /**
      * @return the AppVersion
      */
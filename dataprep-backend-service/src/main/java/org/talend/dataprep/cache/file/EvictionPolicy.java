@@ -0,0 +1,63 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.cache.file;
+
+import java.util.Comparator;
+
+import org.talend.dataprep.cache.file.FileSystemContentCache.Entry;
+
+/**
+ * Policies to choose which entries are removed when {@link FileSystemContentCache} exceeds its maximum size or entry
+ * count.
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Least recently used entries are evicted first.
+     */
+    LRU {
+
+        @Override
+        Comparator<Entry> comparator(long now) {
+            return Comparator.comparingLong(Entry::getLastAccess);
+        }
+    },
+    /**
+     * Least frequently used entries are evicted first (least recently used first for same usage).
+     */
+    LFU {
+
+        @Override
+        Comparator<Entry> comparator(long now) {
+            return Comparator.comparingLong(Entry::getHitCount).thenComparingLong(Entry::getLastAccess);
+        }
+    },
+    /**
+     * Entries with the highest cost (size multiplied by time since last use) are evicted first: big entries are
+     * evicted before small ones of the same age.
+     */
+    SIZE {
+
+        @Override
+        Comparator<Entry> comparator(long now) {
+            return Comparator.comparingDouble(entry -> -(double) entry.getSize() * (now - entry.getLastAccess() + 1));
+        }
+    };
+
+    /**
+     * @param now The current time.
+     * @return A comparator that sorts entries in eviction order (first entry is the first to be evicted).
+     */
+    abstract Comparator<Entry> comparator(long now);
+}
@@ -16,14 +16,16 @@ package org.talend.dataprep.cache.file;
 import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.*;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
 import org.apache.commons.io.FileUtils;
@@ -33,6 +35,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -43,10 +47,22 @@ import org.talend.dataprep.exception.error.CommonErrorCodes;
 
 /**
  * File system cache implementation.
+ * <p>
+ * Each cache entry is stored in a file named after its key. All lookups are served by an in-memory index (key, path,
+ * time to live and size of each entry) so cache hits never need to list the cache directory. The index is rebuilt
+ * from disk when cache starts: the expiration time of an entry is kept as the last modified time of its file (a last
+ * modified time of 0 means entry is permanent).
+ * </p>
+ * <p>
+ * Cache may be bounded in size and/or entry count: when a limit is exceeded, entries are evicted according to the
+ * configured {@link EvictionPolicy} until cache is back under {@link #LOW_WATERMARK} of its limits. Hit, miss,
+ * eviction and size counters are exposed as JMX attributes.
+ * </p>
  */
 @Component
 @ConditionalOnProperty(name = "service.cache", havingValue = "file")
 @EnableScheduling
+@ManagedResource(description = "File system content cache")
 public class FileSystemContentCache implements ContentCache {
 
     /**
@@ -54,18 +70,102 @@ public class FileSystemContentCache implements ContentCache {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemContentCache.class);
 
+    /**
+     * Expiration time of permanent entries.
+     */
+    private static final long PERMANENT_EXPIRATION = Long.MAX_VALUE;
+
+    /**
+     * When a limit is exceeded, entries are evicted until cache is under this ratio of the limit.
+     */
+    private static final double LOW_WATERMARK = 0.9;
+
     /**
      * Where to store cache entries.
      */
     private final String location;
 
+    /**
+     * Index of the cache entries (sorted by key so that prefix eviction does not need a full scan).
+     */
+    private final ConcurrentNavigableMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+
+    /**
+     * Non permanent entries sorted by expiration time (entries evicted or replaced in the meantime are skipped by
+     * janitor).
+     */
+    private final Queue<Entry> expirations = new PriorityBlockingQueue<>(11,
+            Comparator.comparingLong(Entry::getExpiration));
+
+    /**
+     * Files of evicted entries that could not be deleted at eviction time (e.g. still open), janitor retries them.
+     */
+    private final Queue<Path> pendingDeletes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Maximum size (in bytes) of cache content (<= 0 for no limit).
+     */
+    private final long maxSize;
+
+    /**
+     * Maximum number of cache entries (<= 0 for no limit).
+     */
+    private final long maxEntries;
+
+    /**
+     * How to choose entries to evict when a limit is exceeded.
+     */
+    private final EvictionPolicy evictionPolicy;
+
+    /**
+     * Lock to prevent concurrent evictions.
+     */
+    private final Object evictionLock = new Object();
+
+    /**
+     * Size (in bytes) of the indexed entries (updated with the index).
+     */
+    private long size;
+
+    /**
+     * Number of indexed entries (updated with the index).
+     */
+    private long entryCount;
+
+    /** Number of cache lookups that returned content. */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /** Number of cache lookups that did not find content. */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /** Number of entries evicted because a limit was exceeded. */
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Creates a cache with no size nor entry count limit.
+     *
+     * @param location where to store cache entries.
+     */
+    public FileSystemContentCache(String location) {
+        this(location, 0, 0, EvictionPolicy.LRU);
+    }
+
     /**
      * Default constructor.
      *
      * @param location where to store cache entries.
+     * @param maxSize maximum size (in bytes) of cache content (<= 0 for no limit).
+     * @param maxEntries maximum number of cache entries (<= 0 for no limit).
+     * @param evictionPolicy how to choose entries to evict when a limit is exceeded.
      */
     @Autowired
-    public FileSystemContentCache(@Value("${service.cache.file.location}") String location) {
+    public FileSystemContentCache(@Value("${service.cache.file.location}") String location, //
+            @Value("${service.cache.file.max.size:0}") long maxSize, //
+            @Value("${service.cache.file.max.entries:0}") long maxEntries, //
+            @Value("${service.cache.file.eviction.policy:LRU}") EvictionPolicy evictionPolicy) {
+        this.maxSize = maxSize;
+        this.maxEntries = maxEntries;
+        this.evictionPolicy = evictionPolicy;
         if (!location.endsWith("/")) {
             location += "/";
         }
@@ -78,69 +178,88 @@ public class FileSystemContentCache implements ContentCache {
         } catch (IOException e) {
             throw new TDPException(CommonErrorCodes.UNEXPECTED_EXCEPTION, e);
         }
+        buildIndex();
+        enforceLimits();
     }
 
     /**
-     * Checks if the timeToLive (TTL) of a cache entry is ok for the cache entry.
-     *
-     * @param timeToLive The TTL of the cache entry.
-     * @return <code>true</code> is TTL is greater than current time (+ {@link #EVICTION_PERIOD}), <code>false</code>
-     * otherwise (or if time to live is not a number).
+     * Rebuilds the in-memory index from the entries on disk (expired entries are deleted).
      */
-    private static boolean isLiveEntry(String timeToLive) {
-        // deal with permanent content
-        if (StringUtils.isBlank(timeToLive)) {
-            return true;
+    private void buildIndex() {
+        final Path root = Paths.get(location);
+        if (!root.toFile().exists()) {
+            return;
         }
-
+        final long now = System.currentTimeMillis();
         try {
-            return Long.parseLong(timeToLive) > (System.currentTimeMillis() + EVICTION_PERIOD);
-        } catch (NumberFormatException e) {
-            LOGGER.debug("Invalid time to live '{}', consider entry as invalid.", timeToLive, e);
-            return false;
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    final String fileName = file.getFileName().toString();
+                    // Ignore "." files (hidden files like MacOS) and NFS files (may happen in local mode when NFS is used).
+                    if (fileName.startsWith(".") || StringUtils.substringAfterLast(fileName, ".").startsWith("nfs")) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    final long lastModified = attrs.lastModifiedTime().toMillis();
+                    final long expiration = lastModified == 0 ? PERMANENT_EXPIRATION : lastModified;
+                    if (expiration < now) {
+                        delete(file);
+                    } else {
+                        final String key = root.relativize(file).toString().replace(File.separatorChar, '/');
+                        final Entry entry = new Entry(key, file, expiration);
+                        entry.setSize(attrs.size());
+                        entry.setComplete();
+                        index(entry);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.error("Unable to index cache content.", e);
         }
+        LOGGER.info("Content cache indexed {} entries ({} bytes).", getEntryCount(), getSize());
+    }
+
+    /**
+     * Checks if the expiration time of a cache entry is ok for the cache entry.
+     *
+     * @param entry The cache entry (<code>null</code> allowed).
+     * @return <code>true</code> is expiration is greater than current time (+ {@link #EVICTION_PERIOD}),
+     * <code>false</code> otherwise.
+     */
+    private static boolean isLiveEntry(Entry entry) {
+        return entry != null && entry.getExpiration() > (System.currentTimeMillis() + EVICTION_PERIOD);
     }
 
     /**
      * Compute the path for the given key.
      *
      * @param key the cache key entry.
-     * @param timeToLive an optional time to live when performing content cache lookup (<code>null</code> allowed).
-     * @return the HDFS path for the entry key.
+     * @return the path for the entry key.
      */
-    private Path computeEntryPath(ContentCacheKey key, TimeToLive timeToLive) {
-        String path = location + key.getKey();
-        if (timeToLive != null) {
-            if (timeToLive.getTime() > 0) {
-                path += '.' + String.valueOf(System.currentTimeMillis() + timeToLive.getTime());
-            } else {
-                // Leave path as it is (don't add timestamp).
-            }
-        }
-        final Path result = Paths.get(path);
+    private Path computeEntryPath(ContentCacheKey key) {
+        final Path result = Paths.get(location + key.getKey());
         LOGGER.trace("path entry for {} is {}", key.getKey(), result);
         return result;
     }
 
-    private Path findEntry(ContentCacheKey key) {
-        final Path path = computeEntryPath(key, null);
-        final File[] files = path.getParent().toFile().listFiles();
-        if (files != null) {
-            for (File file : files) {
-                if (!StringUtils.startsWith(file.getName(), key.getKey())) {
-                    LOGGER.trace("file {} does not match key {}", file.getName(), key.getKey());
-                    continue;
-                }
-                if (Paths.get(file.toURI()).equals(path.toAbsolutePath())) {
-                    LOGGER.debug("cache entry for #{} is {}", key, file.toPath());
-                    return file.toPath();
-                }
-                final String suffix = StringUtils.substringAfterLast(file.getName(), ".");
-                if (isLiveEntry(suffix)) {
-                    LOGGER.debug("cache entry for #{} is {}", key, file.toPath());
-                    return file.toPath();
-                }
-            }
+    /**
+     * @param timeToLive A time to live.
+     * @return The expiration time of an entry created now with the given time to live.
+     */
+    private static long computeExpiration(TimeToLive timeToLive) {
+        if (timeToLive == null || timeToLive.getTime() <= 0) {
+            return PERMANENT_EXPIRATION;
+        }
+        return System.currentTimeMillis() + timeToLive.getTime();
+    }
+
+    private Entry findEntry(ContentCacheKey key) {
+        final Entry entry = entries.get(key.getKey());
+        if (isLiveEntry(entry)) {
+            LOGGER.debug("cache entry for #{} is {}", key, entry.getPath());
+            return entry;
         }
         LOGGER.debug("No cache for entry #{}", key);
         return null;
@@ -148,36 +267,32 @@ public class FileSystemContentCache implements ContentCache {
 
     @Override
     public boolean has(ContentCacheKey key) {
-        final Path path = computeEntryPath(key, null);
-        final File[] files = path.getParent().toFile().listFiles();
-        if (files != null) {
-            for (File file : files) {
-                final String fileName = file.getName();
-                // first check the key...
-                final String prefix = StringUtils.substringBeforeLast(fileName, ".");
-                if (StringUtils.equals(prefix, key.getKey())) {
-                    // ...then the TTL
-                    final String suffix = StringUtils.substringAfterLast(fileName, ".");
-                    if (isLiveEntry(suffix)) {
-                        LOGGER.debug("[{}] Cache hit --> {}", key, fileName);
-                        return true;
-                    }
-                }
-            }
+        if (isLiveEntry(entries.get(key.getKey()))) {
+            LOGGER.debug("[{}] Cache hit.", key);
+            return true;
         }
         LOGGER.debug("[{}] Cache miss.", key);
+        missCount.incrementAndGet();
         return false;
     }
 
     @Override
     public InputStream get(ContentCacheKey key) {
-        final Path path = findEntry(key);
-        if (path == null) {
-            LOGGER.debug("No cache for entry #{}", key);
+        final Entry entry = findEntry(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
             return null;
         }
         try {
-            return Files.newInputStream(path);
+            final InputStream inputStream = Files.newInputStream(entry.getPath());
+            entry.access();
+            hitCount.incrementAndGet();
+            return inputStream;
+        } catch (NoSuchFileException e) {
+            LOGGER.debug("Cache entry #{} no longer exists on disk.", key, e);
+            unindex(entry);
+            missCount.incrementAndGet();
+            return null;
         } catch (IOException e) {
             throw new TDPException(CommonErrorCodes.UNEXPECTED_EXCEPTION, e);
         }
@@ -186,61 +301,176 @@ public class FileSystemContentCache implements ContentCache {
     @Override
     public OutputStream put(ContentCacheKey key, TimeToLive timeToLive) {
         try {
-            final Path path = computeEntryPath(key, timeToLive);
-            if (!path.toFile().exists()) {
-                try {
-                    FileUtils.touch(path.toFile());
-                } catch (IOException e) {
-                    LOGGER.error("{} Unable to create cache.", key, e);
-                }
+            final Path path = computeEntryPath(key);
+            final Entry previous = entries.get(key.getKey());
+            if (previous != null && unindex(previous)) {
+                // Unlink previous content (readers of the previous content keep reading it).
+                delete(previous.getPath());
             }
+            Files.createDirectories(path.getParent());
+            final Entry entry = new Entry(key.getKey(), path, computeExpiration(timeToLive));
+            final OutputStream outputStream = Files.newOutputStream(path);
+            index(entry);
             LOGGER.debug("{} Cache add.", key);
-            return Files.newOutputStream(path);
+            return new FilterOutputStream(new BufferedOutputStream(outputStream)) {
+
+                private boolean closed;
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    if (closed) {
+                        return;
+                    }
+                    closed = true;
+                    super.close();
+                    // Writing content updates file time, set expiration once content is written.
+                    updateFile(entry);
+                    enforceLimits();
+                }
+            };
         } catch (IOException e) {
             throw new TDPException(CommonErrorCodes.UNEXPECTED_EXCEPTION, e);
         }
     }
 
-    @Override
-    public void evict(ContentCacheKey key) {
+    /**
+     * Updates the size of the entry and persists its expiration time (as last modified time of its file).
+     *
+     * @param entry The entry to update.
+     */
+    private void updateFile(Entry entry) {
+        try {
+            resize(entry, Files.size(entry.getPath()));
+            entry.setComplete();
+            final long lastModified = entry.getExpiration() == PERMANENT_EXPIRATION ? 0 : entry.getExpiration();
+            Files.setLastModifiedTime(entry.getPath(), FileTime.fromMillis(lastModified));
+        } catch (NoSuchFileException e) {
+            LOGGER.debug("Cache entry '{}' was evicted while written.", entry.getKey(), e);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to update cache entry '{}'.", entry.getKey(), e);
+        }
+    }
+
+    private synchronized void index(Entry entry) {
+        final Entry previous = entries.put(entry.getKey(), entry);
+        if (previous != null) {
+            size -= previous.getSize();
+            entryCount--;
+        }
+        size += entry.getSize();
+        entryCount++;
+        if (entry.getExpiration() != PERMANENT_EXPIRATION) {
+            expirations.add(entry);
+        }
+    }
+
+    /**
+     * Removes an entry from the index.
+     *
+     * @param entry The entry to remove.
+     * @return <code>true</code> if entry was removed, <code>false</code> if it was no longer in index.
+     */
+    private synchronized boolean unindex(Entry entry) {
+        if (entries.remove(entry.getKey(), entry)) {
+            size -= entry.getSize();
+            entryCount--;
+            return true;
+        }
+        return false;
+    }
 
-        final Path path = computeEntryPath(key, null);
-        final Path parent = path.getParent();
+    private synchronized void resize(Entry entry, long newSize) {
+        if (entries.get(entry.getKey()) == entry) {
+            size += newSize - entry.getSize();
+        }
+        entry.setSize(newSize);
+    }
 
-        // defensive programming
-        if (!parent.toFile().exists()) {
+    /**
+     * Evicts entries (in the order given by {@link #evictionPolicy}) if cache exceeds its size or entry count limit.
+     * Entries still being written are never evicted.
+     */
+    private void enforceLimits() {
+        if (!isOverLimits(1)) {
             return;
         }
-        try {
-            final String keyStr = key.getKey();
-            final BiConsumer<Path, String> evictKey = getEvictionConsumer((entryKey) -> StringUtils.startsWith(entryKey, keyStr));
-            final boolean skipPermanentEntries = false;
-            Files.walkFileTree(Paths.get(location), new FileSystemVisitor(evictKey, skipPermanentEntries));
-        } catch (IOException e) {
-            LOGGER.error("Unable to evict.", e);
+        synchronized (evictionLock) {
+            if (!isOverLimits(1)) {
+                return;
+            }
+            // sort copies: entries read in the meantime would change their order during sort
+            final List<Entry> candidates = new ArrayList<>();
+            for (Entry entry : entries.values()) {
+                if (entry.isComplete()) {
+                    candidates.add(entry.copy());
+                }
+            }
+            candidates.sort(evictionPolicy.comparator(System.currentTimeMillis()));
+            long evicted = 0;
+            for (Entry candidate : candidates) {
+                if (!isOverLimits(LOW_WATERMARK)) {
+                    break;
+                }
+                evict(candidate.getSource());
+                evicted++;
+            }
+            evictionCount.addAndGet(evicted);
+            LOGGER.info("Content cache limits exceeded, {} entries evicted ({} entries / {} bytes left).", evicted,
+                    getEntryCount(), getSize());
         }
+    }
+
+    private synchronized boolean isOverLimits(double ratio) {
+        return (maxSize > 0 && size > maxSize * ratio) || (maxEntries > 0 && entryCount > maxEntries * ratio);
+    }
+
+    @Override
+    public void evict(ContentCacheKey key) {
+        final String keyStr = key.getKey();
+        final Map<String, Entry> evicted = entries.subMap(keyStr, true, keyStr + Character.MAX_VALUE, true);
+        evicted.values().forEach(this::evict);
         LOGGER.debug("[{}] Evict.", key);
     }
 
     @Override
     public void evictMatch(ContentCacheKey key) {
-        final Path path = computeEntryPath(key, null);
-        final Path parent = path.getParent();
+        final Predicate<String> matchKey = key.getMatcher();
+        entries.values().stream() //
+                .filter(entry -> matchKey.test(entry.getKey())) //
+                .forEach(this::evict);
+        LOGGER.debug("[{}] Evict Match.", key);
+    }
 
-        // defensive programming
-        if (!parent.toFile().exists()) {
-            return;
+    /**
+     * Removes the entry from index and deletes its file.
+     *
+     * @param entry The entry to evict.
+     */
+    private void evict(Entry entry) {
+        if (unindex(entry) && !delete(entry.getPath())) {
+            pendingDeletes.add(entry.getPath());
         }
+    }
 
+    /**
+     * Deletes a cache file.
+     *
+     * @param path The file to delete.
+     * @return <code>true</code> if file no longer exists, <code>false</code> if it could not be deleted.
+     */
+    private static boolean delete(Path path) {
         try {
-            final Predicate<String> matchKey = key.getMatcher();
-            final BiConsumer<Path, String> evictKey = getEvictionConsumer(matchKey);
-            final boolean skipPermanentEntries = false;
-            Files.walkFileTree(Paths.get(location), new FileSystemVisitor(evictKey, skipPermanentEntries));
+            Files.deleteIfExists(path);
+            return true;
         } catch (IOException e) {
-            LOGGER.error("Unable to evict.", e);
+            LOGGER.debug("Unable to delete '{}'.", path.getFileName(), e);
+            return false;
         }
-        LOGGER.debug("[{}] Evict Match.", key);
     }
 
     @Override
@@ -249,14 +479,23 @@ public class FileSystemContentCache implements ContentCache {
             return; // Move to itself -> no op.
         }
         try {
-            final Path fromPath = findEntry(from);
-            if (fromPath == null) {
+            final Entry fromEntry = findEntry(from);
+            if (fromEntry == null) {
                 LOGGER.warn("Cache entry '{}' cannot be found to be moved.", from.getKey());
                 return;
             }
-            final Path toPath = computeEntryPath(to, toTimeToLive);
-            Files.move(fromPath, toPath, REPLACE_EXISTING, ATOMIC_MOVE);
-            evict(from);
+            final Path toPath = computeEntryPath(to);
+            final Entry previous = entries.get(to.getKey());
+            if (previous != null) {
+                unindex(previous);
+            }
+            Files.createDirectories(toPath.getParent());
+            Files.move(fromEntry.getPath(), toPath, REPLACE_EXISTING, ATOMIC_MOVE);
+            unindex(fromEntry);
+            final Entry toEntry = new Entry(to.getKey(), toPath, computeExpiration(toTimeToLive));
+            toEntry.setSize(fromEntry.getSize());
+            index(toEntry);
+            updateFile(toEntry);
         } catch (IOException e) {
             throw new TDPException(CommonErrorCodes.UNEXPECTED_EXCEPTION, e);
         }
@@ -264,6 +503,13 @@ public class FileSystemContentCache implements ContentCache {
 
     @Override
     public void clear() {
+        synchronized (this) {
+            entries.clear();
+            size = 0;
+            entryCount = 0;
+        }
+        expirations.clear();
+        pendingDeletes.clear();
         try {
             FileUtils.deleteDirectory(Paths.get(location).toFile());
         } catch (IOException e) {
@@ -272,92 +518,187 @@ public class FileSystemContentCache implements ContentCache {
     }
 
     /**
-     * A clean up process that starts a minute after the previous ended.
+     * A clean up process that starts a minute after the previous ended. Only expired entries (as given by the
+     * expiration queue) and evicted files that could not be deleted are visited.
      */
     @Scheduled(fixedDelay = 60000)
     public void janitor() {
-        if (!Paths.get(location).toFile().exists()) {
-            LOGGER.debug("No cache content to clean.");
-            return;
-        }
         final long start = System.currentTimeMillis();
-        final AtomicLong deletedCount = new AtomicLong();
-        final AtomicLong totalCount = new AtomicLong();
+        long deletedCount = 0;
         LOGGER.debug("Janitor process started @ {}.", start);
-        try {
-            final BiConsumer<Path, String> deleteOld = (file, suffix) -> {
-                try {
-                    final long time = Long.parseLong(suffix);
-                    if (time < start) {
-                        try {
-                            Files.delete(file);
-                            deletedCount.incrementAndGet();
-                        } catch (NoSuchFileException e) {
-                            LOGGER.debug("Ignored delete issue for '{}'.", file.getFileName(), e);
-                        } catch (IOException e) {
-                            LOGGER.warn("Unable to delete '{}'.", file.getFileName());
-                            LOGGER.debug("Unable to delete '{}'.", file.getFileName(), e);
-                        }
-                    }
-                } catch (NumberFormatException e) {
-                    LOGGER.debug("Ignore file '{}'", file);
+        // Expired entries
+        Entry entry;
+        while ((entry = expirations.peek()) != null && entry.getExpiration() < start) {
+            expirations.poll();
+            // Skip entries already evicted or replaced (their file is handled by eviction).
+            if (unindex(entry)) {
+                if (delete(entry.getPath())) {
+                    deletedCount++;
+                } else {
+                    LOGGER.warn("Unable to delete '{}'.", entry.getPath().getFileName());
+                    pendingDeletes.add(entry.getPath());
                 }
-                totalCount.incrementAndGet();
-            };
-            Files.walkFileTree(Paths.get(location), new FileSystemVisitor(deleteOld));
-        } catch (IOException e) {
-            LOGGER.error("Unable to clean up cache", e);
+            }
+        }
+        // Evicted files that could not be deleted
+        final int pendingCount = pendingDeletes.size();
+        for (int i = 0; i < pendingCount; i++) {
+            final Path path = pendingDeletes.poll();
+            if (path == null) {
+                break;
+            }
+            if (delete(path)) {
+                deletedCount++;
+            } else {
+                pendingDeletes.add(path);
+            }
         }
-        LOGGER.debug("Janitor process ended @ {} ({}/{} files successfully deleted).", System.currentTimeMillis(), deletedCount,
-                totalCount);
+        LOGGER.debug("Janitor process ended @ {} ({} files successfully deleted, {} entries left).",
+                System.currentTimeMillis(), deletedCount, getEntryCount());
+        LOGGER.debug("Content cache statistics: {} hits, {} misses, {} evictions, {} bytes.", getHitCount(), getMissCount(),
+                getEvictionCount(), getSize());
     }
 
-    private BiConsumer<Path, String> getEvictionConsumer(final Predicate<String> keyMatcher) {
-        return (file, suffix) -> {
-            try {
-                if (keyMatcher.test(file.getFileName().toString())) {
-                    final Path evictedFile = Paths.get(file.toAbsolutePath().toString() + ".0");
-                    Files.move(file, evictedFile, REPLACE_EXISTING, ATOMIC_MOVE);
-                }
-            } catch (IOException e) {
-                LOGGER.error("Unable to evict {}.", file.getFileName(), e);
-            }
-        };
+    /**
+     * @return The number of cache lookups that returned content.
+     */
+    @ManagedAttribute(description = "Number of cache lookups that returned content")
+    public long getHitCount() {
+        return hitCount.get();
     }
 
-    private class FileSystemVisitor extends SimpleFileVisitor<Path> {
+    /**
+     * @return The number of cache lookups that did not find content.
+     */
+    @ManagedAttribute(description = "Number of cache lookups that did not find content")
+    public long getMissCount() {
+        return missCount.get();
+    }
 
-        private final BiConsumer<Path, String> consumer;
+    /**
+     * @return The number of entries evicted because cache size or entry count limit was exceeded.
+     */
+    @ManagedAttribute(description = "Number of entries evicted because a cache limit was exceeded")
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
 
-        private final boolean skipPermanent;
+    /**
+     * @return The size (in bytes) of the cached content.
+     */
+    @ManagedAttribute(description = "Size (in bytes) of the cached content")
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * @return The number of entries in cache.
+     */
+    @ManagedAttribute(description = "Number of entries in cache")
+    public synchronized long getEntryCount() {
+        return entryCount;
+    }
 
-        FileSystemVisitor(final BiConsumer<Path, String> consumer) {
-            this(consumer, true);
+    /**
+     * A cache entry in the in-memory index.
+     */
+    static class Entry {
+
+        /** The entry key. */
+        private final String key;
+
+        /** The file that holds entry content. */
+        private final Path path;
+
+        /** Expiration time of the entry ({@link #PERMANENT_EXPIRATION} for permanent entries). */
+        private final long expiration;
+
+        /** Size (in bytes) of the entry content (known once content is written). */
+        private volatile long size;
+
+        /** <code>true</code> once content is fully written. */
+        private volatile boolean complete;
+
+        /** Last time entry content was read (or entry creation time). */
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        /** Number of times entry content was read. */
+        private final AtomicLong hitCount = new AtomicLong();
+
+        /** The entry this one is a copy of (this entry if not a copy). */
+        private final Entry source;
+
+        private Entry(String key, Path path, long expiration) {
+            this.key = key;
+            this.path = path;
+            this.expiration = expiration;
+            this.source = this;
         }
 
-        FileSystemVisitor(final BiConsumer<Path, String> consumer, final boolean skipPermanent) {
-            this.consumer = consumer;
-            this.skipPermanent = skipPermanent;
+        private Entry(Entry source) {
+            this.key = source.key;
+            this.path = source.path;
+            this.expiration = source.expiration;
+            this.size = source.size;
+            this.complete = source.complete;
+            this.lastAccess = source.lastAccess;
+            this.hitCount.set(source.hitCount.get());
+            this.source = source;
         }
 
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            final String fileName = file.toFile().getName();
-            // Ignore "." files (hidden files like MacOS).
-            if (fileName.startsWith(".")) {
-                return FileVisitResult.CONTINUE;
-            }
-            final String suffix = StringUtils.substringAfterLast(fileName, ".");
-            // Ignore NFS files (may happen in local mode when NFS is used).
-            if (suffix.startsWith("nfs")) {
-                return FileVisitResult.CONTINUE;
-            }
-            if (this.skipPermanent && StringUtils.isEmpty(suffix)) {
-                return FileVisitResult.CONTINUE;
-            }
-            consumer.accept(file, suffix);
-            return super.visitFile(file, attrs);
+        /**
+         * @return A copy of this entry, not modified by later accesses to this entry.
+         */
+        Entry copy() {
+            return new Entry(this);
+        }
+
+        /**
+         * @return The entry this one is a copy of (this entry if not a copy).
+         */
+        Entry getSource() {
+            return source;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        Path getPath() {
+            return path;
+        }
+
+        long getExpiration() {
+            return expiration;
+        }
+
+        long getSize() {
+            return size;
         }
-    }
 
+        void setSize(long size) {
+            this.size = size;
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+
+        void setComplete() {
+            this.complete = true;
+        }
+
+        long getLastAccess() {
+            return lastAccess;
+        }
+
+        long getHitCount() {
+            return hitCount.get();
+        }
+
+        void access() {
+            lastAccess = System.currentTimeMillis();
+            hitCount.incrementAndGet();
+        }
+    }
 }
@@ -24,6 +24,7 @@ import java.io.InputStream;
 
 import javax.annotation.PostConstruct;
 
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.methods.HttpGet;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
@@ -32,6 +33,7 @@ import org.springframework.stereotype.Component;
 import org.talend.dataprep.command.GenericCommand;
 import org.talend.dataprep.dataset.store.content.DataSetContentLimit;
 import org.talend.dataprep.exception.TDPException;
+import org.talend.dataprep.http.InternalFormat;
 
 /**
  * Command to get a dataset.
@@ -46,6 +48,15 @@ public class DataSetGet extends GenericCommand<InputStream> {
 
     private final boolean includeInternalContent;
 
+    /** Index (0 based) of the first record to get. */
+    private final long offset;
+
+    /** Maximum number of records to get (negative for all records). */
+    private final long recordLimit;
+
+    /** <code>true</code> if content is read with {@link InternalFormat#createParser(InputStream)}. */
+    private boolean internalFormat;
+
     @Autowired
     private DataSetContentLimit limit;
 
@@ -55,10 +66,25 @@ public class DataSetGet extends GenericCommand<InputStream> {
      * @param dataSetId the requested dataset id.
      */
     public DataSetGet(final String dataSetId, final boolean fullContent, final boolean includeInternalContent) {
+        this(dataSetId, fullContent, includeInternalContent, 0, -1);
+    }
+
+    /**
+     * Constructor for a range of records (records keep the same tdp ids as in the whole content). Range is ignored if
+     * the data set sample is requested.
+     *
+     * @param dataSetId the requested dataset id.
+     * @param offset index (0 based) of the first record to get.
+     * @param recordLimit maximum number of records to get (negative for all records).
+     */
+    public DataSetGet(final String dataSetId, final boolean fullContent, final boolean includeInternalContent,
+            final long offset, final long recordLimit) {
         super(DATASET_GROUP);
         this.fullContent = fullContent;
         this.dataSetId = dataSetId;
         this.includeInternalContent = includeInternalContent;
+        this.offset = offset;
+        this.recordLimit = recordLimit;
 
         on(HttpStatus.NOT_FOUND).then((req, res) -> {
             throw new TDPException(DATASET_DOES_NOT_EXIST, build().put("id", dataSetId));
@@ -68,6 +94,17 @@ public class DataSetGet extends GenericCommand<InputStream> {
         onError(e -> new TDPException(UNABLE_TO_RETRIEVE_DATASET_CONTENT, e, build().put("id", dataSetId)));
     }
 
+    /**
+     * Asks for the content in the {@link InternalFormat internal format} of the services, for callers that read it with
+     * {@link InternalFormat#createParser(InputStream)} (and do not forward it to external clients).
+     *
+     * @return This command.
+     */
+    public DataSetGet inInternalFormat() {
+        this.internalFormat = true;
+        return this;
+    }
+
     @PostConstruct
     private void initConfiguration() {
         if (limit.limitContentSize() || fullContent) {
@@ -79,12 +116,22 @@ public class DataSetGet extends GenericCommand<InputStream> {
 
     private void configureLimitedDataset(final String dataSetId) {
         execute(() -> {
-            final String url = datasetServiceUrl + "/datasets/" + dataSetId + "/content?metadata=true&includeInternalContent=" + includeInternalContent;
-            return new HttpGet(url);
+            String url = datasetServiceUrl + "/datasets/" + dataSetId + "/content?metadata=true&includeInternalContent=" + includeInternalContent;
+            if (offset > 0 || recordLimit >= 0) {
+                url += "&offset=" + offset + "&limit=" + recordLimit;
+            }
+            return accept(new HttpGet(url));
         });
     }
 
     private void configureSampleDataset(final String dataSetId) {
-        execute(() -> new HttpGet(datasetServiceUrl + "/datasets/" + dataSetId + "/sample"));
+        execute(() -> accept(new HttpGet(datasetServiceUrl + "/datasets/" + dataSetId + "/sample")));
+    }
+
+    private HttpGet accept(HttpGet get) {
+        if (internalFormat) {
+            get.setHeader(HttpHeaders.ACCEPT, InternalFormat.ACCEPT);
+        }
+        return get;
     }
 }
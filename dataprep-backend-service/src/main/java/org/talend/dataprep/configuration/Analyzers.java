@@ -26,6 +26,14 @@ public class Analyzers implements DisposableBean {
     @Value("#{'${semantic.threshold:40}'}")
     private int semanticThreshold;
 
+    /** Maximum number of column shards analyzed in parallel for full statistics (1 to analyze on calling thread). */
+    @Value("${dataquality.analysis.shards:1}")
+    private int analysisShards;
+
+    /** Number of records after which cardinality, frequency and quantiles are approximate (0 to keep exact analysis). */
+    @Value("${dataquality.analysis.approximate.threshold:0}")
+    private long approximateThreshold;
+
     @Bean
     public StatisticsAdapter statisticsAdapter() {
         return new StatisticsAdapter(semanticThreshold);
@@ -33,9 +41,12 @@ public class Analyzers implements DisposableBean {
 
     @Bean
     public AnalyzerService analyzerService() {
-        return new AnalyzerService(dataqualityIndexesLocation, //
+        final AnalyzerService analyzerService = new AnalyzerService(dataqualityIndexesLocation, //
                 luceneIndexStrategy, //
                 CategoryRecognizerBuilder.newBuilder().lucene());
+        analyzerService.setShards(analysisShards);
+        analyzerService.setApproximateThreshold(approximateThreshold);
+        return analyzerService;
     }
 
     @Override
@@ -13,14 +13,21 @@
 
 package org.talend.dataprep.configuration;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
 import org.talend.dataprep.api.preparation.json.MixedContentMapModule;
+import org.talend.dataprep.http.InternalFormat;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.Module;
@@ -37,12 +44,50 @@ public class Serialization {
     @Bean
     @Primary
     public ObjectMapper jacksonBuilder() {
+        return builder().build();
+    }
+
+    /**
+     * Adds a converter that writes (and reads) the {@link InternalFormat internal format} of the services, with the
+     * same configuration as the JSON one. It is added after the JSON converter (and not declared as a bean, that Spring
+     * Boot would put first) so that JSON remains the default format, Smile is only written when explicitly accepted.
+     *
+     * @return The configurer of the Smile converter.
+     */
+    @Bean
+    public WebMvcConfigurer smileConverterConfigurer() {
+        return new WebMvcConfigurerAdapter() {
+
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                final ObjectMapper smileMapper = new ObjectMapper(InternalFormat.createSmileFactory());
+                builder().configure(smileMapper);
+                final HttpMessageConverter<Object> smileConverter = new AbstractJackson2HttpMessageConverter(smileMapper,
+                        InternalFormat.SMILE) {
+                };
+                int jsonConverterIndex = -1;
+                for (int i = 0; i < converters.size(); i++) {
+                    if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                        jsonConverterIndex = i;
+                    }
+                }
+                if (jsonConverterIndex < 0) {
+                    converters.add(smileConverter);
+                } else {
+                    converters.add(jsonConverterIndex + 1, smileConverter);
+                }
+            }
+        };
+    }
+
+    private Jackson2ObjectMapperBuilder builder() {
         Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
         builder.featuresToDisable(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES);
         builder.indentOutput(false);
-        modules.add(new Jdk8Module()); // needed to [de]serialize java8 Optional (among other things)
-        modules.add(new MixedContentMapModule());
-        builder.modules(modules);
-        return builder.build();
+        final List<Module> allModules = new ArrayList<>(modules);
+        allModules.add(new Jdk8Module()); // needed to [de]serialize java8 Optional (among other things)
+        allModules.add(new MixedContentMapModule());
+        builder.modules(allModules);
+        return builder;
     }
 }
@@ -15,7 +15,9 @@ package org.talend.dataprep.dataset.store.content;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -129,13 +131,49 @@ public abstract class DataSetContentStore {
      * @return A valid <b>{@link DataSetRow}</b> stream.
      */
     public Stream<DataSetRow> stream(DataSetMetadata dataSetMetadata, long limit) {
-        final InputStream inputStream = get(dataSetMetadata, limit);
-        final DataSetRowIterator iterator = new DataSetRowIterator(inputStream);
-        final Iterable<DataSetRow> rowIterable = () -> iterator;
-        Stream<DataSetRow> dataSetRowStream = StreamSupport.stream(rowIterable.spliterator(), false);
-        // make sure to close the original input stream when closing this one
-        AtomicLong tdpId = new AtomicLong(1);
-        final List<ColumnMetadata> columns = dataSetMetadata.getRowMetadata().getColumns();
+        return stream(dataSetMetadata, 0, limit, null);
+    }
+
+    /**
+     * Returns a page of the content of the data set, optionally restricted to some columns. Rows have the same ids and
+     * invalid flags as in the whole content.
+     *
+     * @param dataSetMetadata The {@link DataSetMetadata data set} to read rows from.
+     * @param offset The index (0 based) of the first row to return.
+     * @param limit The maximum number of rows to return (use -1 for "no limit").
+     * @param columnIds The ids of the columns to return values of (<code>null</code> for all columns).
+     * @return A valid <b>{@link DataSetRow}</b> stream.
+     */
+    public Stream<DataSetRow> stream(DataSetMetadata dataSetMetadata, long offset, long limit, Set<String> columnIds) {
+        Stream<DataSetRow> dataSetRowStream = readRows(dataSetMetadata, offset, limit, columnIds);
+        AtomicLong tdpId = new AtomicLong(offset + 1);
+        final List<ColumnMetadata> allColumns = dataSetMetadata.getRowMetadata().getColumns();
+        final List<ColumnMetadata> columns;
+        if (columnIds == null) {
+            columns = allColumns;
+        } else {
+            columns = allColumns.stream().filter(c -> columnIds.contains(c.getId())).collect(Collectors.toList());
+        }
+
+        // Use invalid markers computed at import time if they are still valid for current columns
+        final InvalidMarkers invalidMarkers = getInvalidMarkers(dataSetMetadata);
+        if (invalidMarkers != null && invalidMarkers.isValidFor(allColumns)) {
+            // Rows past the recorded ones (if markers were computed on a shorter content) still need quality analysis
+            final InvalidMarker[] qualityMarker = new InvalidMarker[1];
+            return dataSetRowStream.map(r -> {
+                final long id = tdpId.getAndIncrement();
+                if (!invalidMarkers.apply(r, id - 1, columnIds)) {
+                    if (qualityMarker[0] == null) {
+                        final Analyzer<Analyzers.Result> analyzer = service.build(columns, AnalyzerService.Analysis.QUALITY);
+                        qualityMarker[0] = new InvalidMarker(columns, analyzer);
+                    }
+                    qualityMarker[0].apply(r);
+                }
+                r.setTdpId(id);
+                return r;
+            });
+        }
+
         final Analyzer<Analyzers.Result> analyzer = service.build(columns, AnalyzerService.Analysis.QUALITY);
 
         dataSetRowStream = dataSetRowStream.map(r -> {
@@ -147,15 +185,118 @@ public abstract class DataSetContentStore {
         .map(r -> { //
             r.setTdpId(tdpId.getAndIncrement());
             return r;
-        }).onClose(() -> { //
+        });
+
+        return dataSetRowStream;
+    }
+
+    /**
+     * Returns the content of the data set as a {@link Stream stream} of {@link DataSetRow rows} without quality
+     * information (invalid values are not flagged) nor row id. This is cheaper than {@link #stream(DataSetMetadata)}
+     * for callers that analyze the values on their own.
+     *
+     * @param dataSetMetadata The {@link DataSetMetadata data set} to read rows from.
+     * @return A {@link DataSetRow} stream that releases underlying resources when closed.
+     */
+    public Stream<DataSetRow> streamWithoutQuality(DataSetMetadata dataSetMetadata) {
+        return readRows(dataSetMetadata, sampleSize);
+    }
+
+    /**
+     * Reads the {@link DataSetMetadata data set} content as a {@link Stream stream} of {@link DataSetRow rows} with no
+     * quality information nor row id. Default implementation parses the JSON content returned by
+     * {@link #get(DataSetMetadata, long)}, implementations that keep content in a more efficient format may override
+     * this method.
+     *
+     * @param dataSetMetadata The {@link DataSetMetadata data set} to read rows from.
+     * @param limit A limit to pass to content supplier (use -1 for "no limit).
+     * @return A {@link DataSetRow} stream that releases underlying resources when closed.
+     */
+    protected Stream<DataSetRow> readRows(DataSetMetadata dataSetMetadata, long limit) {
+        final InputStream inputStream = get(dataSetMetadata, limit);
+        final DataSetRowIterator iterator = new DataSetRowIterator(inputStream);
+        final Iterable<DataSetRow> rowIterable = () -> iterator;
+        // make sure to close the original input stream when closing this one
+        return StreamSupport.stream(rowIterable.spliterator(), false).onClose(() -> { //
             try {
                 inputStream.close();
             } catch (Exception e) {
                 throw new TDPException(CommonErrorCodes.UNEXPECTED_EXCEPTION, e);
             }
         });
+    }
 
-        return dataSetRowStream;
+    /**
+     * Reads a page of the {@link DataSetMetadata data set} content, with no quality information nor row id. Default
+     * implementation reads (and skips) all the rows before <code>offset</code>, implementations that can seek to a row
+     * may override this method.
+     *
+     * @param dataSetMetadata The {@link DataSetMetadata data set} to read rows from.
+     * @param offset The index (0 based) of the first row to read.
+     * @param limit The maximum number of rows to read (use -1 for "no limit").
+     * @param columnIds The ids of the columns to read values of (<code>null</code> for all columns).
+     * @return A {@link DataSetRow} stream that releases underlying resources when closed.
+     */
+    protected Stream<DataSetRow> readRows(DataSetMetadata dataSetMetadata, long offset, long limit, Set<String> columnIds) {
+        if (offset <= 0 && columnIds == null) {
+            return readRows(dataSetMetadata, limit);
+        }
+        return page(readRows(dataSetMetadata, limit < 0 ? -1 : offset + limit), offset, columnIds);
+    }
+
+    /**
+     * @param rows Rows from the first row of a data set.
+     * @param offset The index (0 based) of the first row to keep.
+     * @param columnIds The ids of the columns to keep values of (<code>null</code> for all columns).
+     * @return The rows from <code>offset</code>, with values of <code>columnIds</code> only (as for content readers,
+     * the same row instance is cleaned and reused at each iteration when columns are selected).
+     */
+    protected static Stream<DataSetRow> page(Stream<DataSetRow> rows, long offset, Set<String> columnIds) {
+        Stream<DataSetRow> page = offset > 0 ? rows.skip(offset) : rows;
+        if (columnIds != null) {
+            final DataSetRow[] projectionHolder = new DataSetRow[1];
+            page = page.map(row -> {
+                DataSetRow projection = projectionHolder[0];
+                if (projection == null) {
+                    projection = new DataSetRow(row.getRowMetadata());
+                    projectionHolder[0] = projection;
+                } else {
+                    projection.clear();
+                }
+                for (String columnId : columnIds) {
+                    final String value = row.get(columnId);
+                    if (value != null) {
+                        projection.set(columnId, value);
+                    }
+                }
+                return projection;
+            });
+        }
+        return page;
+    }
+
+    /**
+     * Returns the {@link InvalidMarkers invalid markers} previously stored with
+     * {@link #storeInvalidMarkers(DataSetMetadata, InvalidMarkers)}. Default implementation does not keep invalid
+     * markers (invalid values are then detected on each {@link #stream(DataSetMetadata, long)} call).
+     *
+     * @param dataSetMetadata The {@link DataSetMetadata data set} to get invalid markers for.
+     * @return The stored invalid markers or <code>null</code> if none.
+     */
+    protected InvalidMarkers getInvalidMarkers(DataSetMetadata dataSetMetadata) {
+        return null;
+    }
+
+    /**
+     * Stores the {@link InvalidMarkers invalid markers} of the data set so that later calls to
+     * {@link #stream(DataSetMetadata, long)} don't need to run quality analysis. Default implementation ignores the
+     * markers.
+     *
+     * @param dataSetMetadata The {@link DataSetMetadata data set} the markers were computed for.
+     * @param invalidMarkers The invalid markers to store.
+     */
+    public void storeInvalidMarkers(DataSetMetadata dataSetMetadata, InvalidMarkers invalidMarkers) {
+        // Not supported by default.
     }
 
     /**
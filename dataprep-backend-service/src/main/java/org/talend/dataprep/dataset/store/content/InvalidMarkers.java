@@ -0,0 +1,201 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.dataset.store.content;
+
+import java.io.*;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
+import org.talend.dataprep.api.dataset.row.RowMetadataUtils;
+
+/**
+ * Per column bitmaps of the invalid values of a data set (one bit per row, set if value is invalid). Invalid markers
+ * are computed once by a full quality analysis and allow content stores to flag invalid values without running a
+ * quality analyzer on each read.
+ * <p>
+ * Validity of a value depends on column type, semantic domain and date pattern: markers keep a signature of these
+ * information and must not be used if the signature of current columns differs (see {@link #isValidFor(List)}).
+ * </p>
+ *
+ * @see DataSetContentStore#stream(org.talend.dataprep.api.dataset.DataSetMetadata, long)
+ */
+public class InvalidMarkers {
+
+    /** Signature of the columns markers were computed for. */
+    private final String signature;
+
+    /** Ids of the columns. */
+    private final String[] columnIds;
+
+    /** Invalid rows for each column (indexed by row position, starting at 0). */
+    private final BitSet[] invalids;
+
+    /** Number of recorded rows. */
+    private long rowCount;
+
+    /**
+     * Creates empty markers for the given columns (see {@link #record(DataSetRow)} to fill them).
+     *
+     * @param columns The data set columns.
+     */
+    public InvalidMarkers(List<ColumnMetadata> columns) {
+        this(signature(columns), columns.stream().map(ColumnMetadata::getId).toArray(String[]::new));
+    }
+
+    private InvalidMarkers(String signature, String[] columnIds) {
+        this.signature = signature;
+        this.columnIds = columnIds;
+        this.invalids = new BitSet[columnIds.length];
+        for (int i = 0; i < invalids.length; i++) {
+            invalids[i] = new BitSet();
+        }
+    }
+
+    /**
+     * @param columns A list of columns.
+     * @return A signature of all column information used to decide whether a value is valid or not.
+     */
+    private static String signature(List<ColumnMetadata> columns) {
+        final StringBuilder signature = new StringBuilder();
+        for (ColumnMetadata column : columns) {
+            signature.append(column.getId()).append(':') //
+                    .append(column.getType()).append(':') //
+                    .append(column.getDomain()).append(':') //
+                    .append(RowMetadataUtils.getMostUsedDatePattern(column)).append('|');
+        }
+        return signature.toString();
+    }
+
+    /**
+     * @param columns The current data set columns.
+     * @return <code>true</code> if these markers were computed with the same column information as
+     * <code>columns</code>.
+     */
+    public boolean isValidFor(List<ColumnMetadata> columns) {
+        return signature.equals(signature(columns));
+    }
+
+    /**
+     * @return The number of rows in these markers.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Records invalid values of <code>row</code> as the next row of the data set.
+     *
+     * @param row A row where invalid values are already flagged.
+     */
+    public void record(DataSetRow row) {
+        final int rowIndex = (int) rowCount++;
+        for (int i = 0; i < columnIds.length; i++) {
+            if (row.isInvalid(columnIds[i])) {
+                invalids[i].set(rowIndex);
+            }
+        }
+    }
+
+    /**
+     * Flags invalid values in <code>row</code> as they were recorded.
+     *
+     * @param row The row to update.
+     * @param rowIndex The position of the row in data set (starting at 0).
+     * @return <code>false</code> if row is past the recorded rows (row is then left unchanged and invalid values must
+     * be detected by other means).
+     */
+    public boolean apply(DataSetRow row, long rowIndex) {
+        return apply(row, rowIndex, null);
+    }
+
+    /**
+     * Flags invalid values of the selected columns in <code>row</code> as they were recorded.
+     *
+     * @param row The row to update.
+     * @param rowIndex The position of the row in data set (starting at 0).
+     * @param selectedColumnIds The ids of the columns to flag values of (<code>null</code> for all columns).
+     * @return <code>false</code> if row is past the recorded rows (row is then left unchanged and invalid values must
+     * be detected by other means).
+     */
+    public boolean apply(DataSetRow row, long rowIndex, Set<String> selectedColumnIds) {
+        if (rowIndex >= rowCount) {
+            return false;
+        }
+        final int index = (int) rowIndex;
+        for (int i = 0; i < columnIds.length; i++) {
+            if (selectedColumnIds != null && !selectedColumnIds.contains(columnIds[i])) {
+                continue;
+            }
+            if (invalids[i].get(index)) {
+                row.setInvalid(columnIds[i]);
+            } else {
+                row.unsetInvalid(columnIds[i]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes these markers to <code>outputStream</code> (stream is left open).
+     *
+     * @param outputStream Where to write markers to.
+     * @throws IOException In case of write error.
+     * @see #read(InputStream)
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        final DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeUTF(signature);
+        output.writeLong(rowCount);
+        output.writeInt(columnIds.length);
+        for (int i = 0; i < columnIds.length; i++) {
+            output.writeUTF(columnIds[i]);
+            final long[] words = invalids[i].toLongArray();
+            output.writeInt(words.length);
+            for (long word : words) {
+                output.writeLong(word);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads markers previously written with {@link #write(OutputStream)}.
+     *
+     * @param inputStream Where to read markers from.
+     * @return The read markers.
+     * @throws IOException In case of read error.
+     */
+    public static InvalidMarkers read(InputStream inputStream) throws IOException {
+        final DataInputStream input = new DataInputStream(inputStream);
+        final String signature = input.readUTF();
+        final long rowCount = input.readLong();
+        final String[] columnIds = new String[input.readInt()];
+        final BitSet[] invalids = new BitSet[columnIds.length];
+        for (int i = 0; i < columnIds.length; i++) {
+            columnIds[i] = input.readUTF();
+            final long[] words = new long[input.readInt()];
+            for (int j = 0; j < words.length; j++) {
+                words[j] = input.readLong();
+            }
+            invalids[i] = BitSet.valueOf(words);
+        }
+        final InvalidMarkers markers = new InvalidMarkers(signature, columnIds);
+        System.arraycopy(invalids, 0, markers.invalids, 0, invalids.length);
+        markers.rowCount = rowCount;
+        return markers;
+    }
+}
@@ -1,6 +1,7 @@
 package org.talend.dataprep.dataset.store.content;
 
 import java.io.InputStream;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -54,6 +55,26 @@ class LimitDataSetContent implements DataSetContentLimit {
             return dataSetRowStream.limit(limit);
         }
 
+        @Override
+        public Stream<DataSetRow> stream(DataSetMetadata dataSetMetadata, long offset, long limit, Set<String> columnIds) {
+            // deal with dataset size limit (ignored if limit is <= 0)
+            long pageLimit = limit;
+            if (LimitDataSetContent.this.limit > 0) {
+                final long remaining = Math.max(0, LimitDataSetContent.this.limit - offset);
+                pageLimit = limit < 0 ? remaining : Math.min(limit, remaining);
+            }
+            if (pageLimit == 0) {
+                return Stream.empty();
+            }
+            return delegate.stream(dataSetMetadata, offset, pageLimit, columnIds);
+        }
+
+        @Override
+        public Stream<DataSetRow> streamWithoutQuality(DataSetMetadata dataSetMetadata) {
+            // deal with dataset size limit (ignored if limit is <= 0)
+            return delegate.streamWithoutQuality(dataSetMetadata).limit(limit);
+        }
+
         @Override
         public InputStream getAsRaw(DataSetMetadata dataSetMetadata) {
             return delegate.getAsRaw(dataSetMetadata, limit);
@@ -69,6 +90,11 @@ class LimitDataSetContent implements DataSetContentLimit {
             return delegate.get(dataSetMetadata);
         }
 
+        @Override
+        public void storeInvalidMarkers(DataSetMetadata dataSetMetadata, InvalidMarkers invalidMarkers) {
+            delegate.storeInvalidMarkers(dataSetMetadata, invalidMarkers);
+        }
+
         @Override
         public void delete(DataSetMetadata dataSetMetadata) {
             delegate.delete(dataSetMetadata);
@@ -27,6 +27,8 @@ import javax.annotation.PostConstruct;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -41,7 +43,10 @@ import org.talend.dataprep.folder.store.NotEmptyFolderException;
 import org.talend.dataprep.security.Security;
 import org.talend.dataprep.util.StringsHelper;
 
-import static java.util.Collections.emptyList;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ITopic;
+
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.talend.daikon.exception.ExceptionContext.build;
@@ -52,19 +57,43 @@ import static org.talend.dataprep.folder.store.file.FileSystemUtils.*;
 
 /**
  * File system folder repository implementation.
+ * <p>
+ * The folder tree is loaded in memory on startup (see {@link FolderIndex}) and updated on each change, so that
+ * folders and entries are listed, searched and located without reading the file system. When Hazelcast is enabled,
+ * changes are published to the other instances, which load the folder tree again before their next read.
+ * </p>
  */
 @Component("folderRepository#file")
 @ConditionalOnProperty(name = "folder.store", havingValue = "file")
 public class FileSystemFolderRepository implements FolderRepository {
 
+    /** This class' logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemFolderRepository.class);
+
+    /** Name of the topic where changes are published. */
+    private static final String CHANGES_TOPIC = "folder-repository-changes";
+
     @Autowired
     private Security security;
 
     @Autowired
     private PathsConverter pathsConverter;
 
+    /** Hazelcast instance (if enabled) to get notified of changes made by other instances. */
+    @Autowired(required = false)
+    private HazelcastInstance hazelcastInstance;
+
+    /** Topic where changes are published (<code>null</code> if Hazelcast is not enabled). */
+    private ITopic<String> changes;
+
+    /** The folder tree. */
+    private volatile FolderIndex index;
+
+    /** <code>true</code> if another instance changed folders since the folder tree was loaded. */
+    private volatile boolean stale;
+
     /**
-     * Make sure the root folder is there.
+     * Make sure the root folder is there and load the folder tree.
      */
     @PostConstruct
     private void init() {
@@ -76,6 +105,56 @@ public class FileSystemFolderRepository implements FolderRepository {
         } catch (IOException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
+        if (hazelcastInstance != null && changes == null) {
+            changes = hazelcastInstance.getTopic(CHANGES_TOPIC);
+            changes.addMessageListener(message -> {
+                if (!message.getPublishingMember().localMember()) {
+                    stale = true;
+                }
+            });
+        }
+        load();
+    }
+
+    /**
+     * Loads the folder tree from the file system.
+     */
+    private void load() {
+        final FolderIndex loaded = new FolderIndex();
+        try (Stream<Path> walk = Files.walk(pathsConverter.getRootFolder())) {
+            walk.forEach(path -> {
+                if (Files.isDirectory(path)) {
+                    loaded.addFolder(pathsConverter.toFolderPath(path));
+                } else if (Files.isRegularFile(path)) {
+                    loaded.putEntry(pathsConverter.toFolderPath(path.getParent()), path.getFileName().toString(),
+                            toFolderEntry(path));
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        index = loaded;
+        LOGGER.debug("{} folders loaded.", loaded.size());
+    }
+
+    /**
+     * @return The folder tree, loaded again if another instance changed it.
+     */
+    private FolderIndex index() {
+        if (stale) {
+            stale = false;
+            load();
+        }
+        return index;
+    }
+
+    /**
+     * Notifies the other instances (if any) that folders changed.
+     */
+    private void changed() {
+        if (changes != null) {
+            changes.publish(pathsConverter.getRootFolder().toString());
+        }
     }
 
     @Override
@@ -86,35 +165,17 @@ public class FileSystemFolderRepository implements FolderRepository {
     @Override
     public boolean exists(String folderId) {
         FolderPath path = fromId(folderId);
-        return path != null && Files.exists(pathsConverter.toPath(path));
+        return path != null && index().exists(path);
     }
 
     @Override
     public Iterable<Folder> children(String parentId) {
         final FolderPath parentDpPath = fromId(parentId);
-        try {
-            Path folderPath;
-            if (parentDpPath != null) {
-                folderPath = pathsConverter.toPath(parentDpPath);
-            } else {
-                folderPath = pathsConverter.getRootFolder();
-            }
-            List<Folder> children;
-            if (Files.notExists(folderPath)) {
-                children = emptyList();
-            } else {
-                try (Stream<Path> childrenStream = Files.list(folderPath)) {
-                    children = childrenStream //
-                            .map(p -> toFolderIfDirectory(p, security.getUserId())) //
-                            .filter(f -> f != null) //
-                            .collect(toList());
-                }
-            }
-            return children;
-        } catch (IOException e) {
-            throw new TDPException(UNABLE_TO_LIST_FOLDER_CHILDREN, e,
-                    build().put("path", parentDpPath == null ? null : parentDpPath.serializeAsString()));
-        }
+        final FolderPath folderPath = parentDpPath != null ? parentDpPath : new FolderPath();
+        return index().children(folderPath).stream() //
+                .map(p -> toFolderIfDirectory(pathsConverter.toPath(p), security.getUserId())) //
+                .filter(f -> f != null) //
+                .collect(toList());
     }
 
     @Override
@@ -134,6 +195,8 @@ public class FileSystemFolderRepository implements FolderRepository {
         try {
             Path pathToCreate = pathsConverter.toPath(folderPathToCreate);
             Files.createDirectories(pathToCreate);
+            index().addFolder(folderPathToCreate);
+            changed();
             return toFolder(pathToCreate, security.getUserId());
         } catch (IOException e) {
             throw new TDPException(UNABLE_TO_ADD_FOLDER, e, build().put("path", givenPath));
@@ -172,6 +235,8 @@ public class FileSystemFolderRepository implements FolderRepository {
 
         try {
             FileUtils.moveDirectory(folderPath.toFile(), newFolderPath.toFile());
+            index().moveFolder(folderToMovePath, targetFolderPath);
+            changed();
         } catch (IOException e) {
             throw new TDPException(UNABLE_TO_RENAME_FOLDER, e, build().put("path", folder.getPath()));
         }
@@ -208,6 +273,8 @@ public class FileSystemFolderRepository implements FolderRepository {
             try (OutputStream outputStream = Files.newOutputStream(entryFilepath)) {
                 writeEntryToStream(folderEntry, outputStream);
             }
+            index().putEntry(folderPath, fileName, folderEntry);
+            changed();
             return folderEntry;
         } catch (IOException e) {
             throw new TDPException(UNABLE_TO_ADD_FOLDER_ENTRY, e, build().put("path", folderPath));
@@ -222,30 +289,33 @@ public class FileSystemFolderRepository implements FolderRepository {
         }
 
         final FolderPath folderPath = fromId(folderId);
+        if (folderPath == null || !index().exists(folderPath)) {
+            throw new TDPException(UNABLE_TO_REMOVE_FOLDER_ENTRY, build().put("path", folderPath));
+        }
 
-        try {
-            Path path = pathsConverter.toPath(folderPath);
-
-            try (Stream<Path> paths = Files.list(path)) {
-                paths //
-                        .filter(pathFound -> !Files.isDirectory(pathFound)) //
-                        .filter(pathFile -> matches(pathFile, contentId, contentType)) //
-                        .forEach(deleteFile());
+        final Path path = pathsConverter.toPath(folderPath);
+        index().entries(folderPath).forEach((fileName, entry) -> {
+            if (Objects.equals(contentType, entry.getContentType()) //
+                    && StringUtils.equalsIgnoreCase(entry.getContentId(), contentId)) {
+                deleteFile().accept(path.resolve(fileName));
+                index().removeEntry(folderPath, fileName);
             }
-        } catch (IOException e) {
-            throw new TDPException(UNABLE_TO_REMOVE_FOLDER_ENTRY, e, build().put("path", folderPath));
-        }
+        });
+        changed();
     }
 
     @Override
     public void removeFolder(String folderId) throws NotEmptyFolderException {
-        final Path path = pathsConverter.toPath(fromId(folderId));
+        final FolderPath folderPath = fromId(folderId);
+        final Path path = pathsConverter.toPath(folderPath);
 
-        if (hasEntry(path)) {
+        if (index().hasEntry(folderPath)) {
             throw new NotEmptyFolderException("The folder or a child contains data");
         } else {
             try {
                 FileUtils.deleteDirectory(path.toFile());
+                index().removeFolder(folderPath);
+                changed();
             } catch (IOException e) {
                 throw new TDPException(UNABLE_TO_DELETE_FOLDER, e, build().put("path", path));
             }
@@ -260,36 +330,23 @@ public class FileSystemFolderRepository implements FolderRepository {
             throw new TDPException(FOLDER_DOES_NOT_EXIST, build().put("id", folderId));
         }
 
-        final Path path = pathsConverter.toPath(folderPath);
-
-        if (Files.notExists(path)) {
-            return emptyList();
-        }
-
-        try {
-            try (Stream<Path> paths = Files.list(path)) {
-                return paths.filter(pathFound -> !Files.isDirectory(pathFound)) //
-                        .map(FileSystemUtils::toFolderEntry) //
-                        .filter(entry -> Objects.equals(contentType, entry.getContentType())) //
-                        .collect(toList());
-            }
-        } catch (IOException e) {
-            throw new TDPException(UNABLE_TO_LIST_FOLDER_ENTRIES, e, build().put("path", path).put("type", contentType));
-        }
+        return index().entries(folderPath).values().stream() //
+                .filter(entry -> Objects.equals(contentType, entry.getContentType())) //
+                .collect(toList());
     }
 
     @Override
     public Iterable<FolderEntry> findFolderEntries(String contentId, FolderContentType contentType) {
-        try (Stream<Path> filesStream = Files.walk(pathsConverter.getRootFolder())) {
-            return filesStream //
-                    .filter(Files::isRegularFile) //
-                    .map(FileSystemUtils::toFolderEntry) //
-                    .filter(entry -> StringUtils.equals(entry.getContentId(), contentId) //
-                            && Objects.equals(contentType, entry.getContentType())) //
-                    .collect(toSet());
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage(), e);
+        if (contentType == null) {
+            return emptySet();
         }
+        final String fileName = buildFileName(new FolderEntry(contentType, contentId));
+        return index().locate(fileName).stream() //
+                .map(folderPath -> index().getEntry(folderPath, fileName)) //
+                .filter(entry -> entry != null //
+                        && StringUtils.equals(entry.getContentId(), contentId) //
+                        && Objects.equals(contentType, entry.getContentType())) //
+                .collect(toSet());
     }
 
     @Override
@@ -297,6 +354,7 @@ public class FileSystemFolderRepository implements FolderRepository {
         try {
             FileUtils.deleteDirectory(pathsConverter.getRootFolder().toFile());
             init();
+            changed();
         } catch (IOException e) {
             throw new RuntimeException(e.getMessage(), e);
         }
@@ -304,16 +362,9 @@ public class FileSystemFolderRepository implements FolderRepository {
 
     @Override
     public Iterable<Folder> searchFolders(String queryString, boolean strict) {
-        try (Stream<Path> walk = Files.walk(pathsConverter.getRootFolder())) {
-            return walk //
-                    .filter(path -> //
-                            Files.isDirectory(path) //
-                                    && StringsHelper.match(path.getFileName().toString(), queryString, strict)) //
-                    .map(path -> toFolder(path, security.getUserId())) //
-                    .collect(toList());
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage(), e);
-        }
+        return index().search(name -> StringsHelper.match(name, queryString, strict)).stream() //
+                .map(folderPath -> toFolder(pathsConverter.toPath(folderPath), security.getUserId())) //
+                .collect(toList());
     }
 
     @Override
@@ -330,14 +381,20 @@ public class FileSystemFolderRepository implements FolderRepository {
             throw new IllegalArgumentException("destinationPath doesn't exists");
         }
 
-        Path originFilePath = Paths.get(pathsConverter.toPath(fromId(fromId)).toString(), buildFileName(folderEntry));
+        final String fileName = buildFileName(folderEntry);
+        Path originFilePath = Paths.get(pathsConverter.toPath(fromId(fromId)).toString(), fileName);
         if (Files.notExists(originFilePath)) {
             throw new IllegalArgumentException("entry doesn't exists");
         }
 
-        Path destinationFile = Paths.get(destinationPath.toString(), buildFileName(folderEntry));
+        Path destinationFile = Paths.get(destinationPath.toString(), fileName);
         try {
             Files.move(originFilePath, destinationFile);
+            // entry file is moved as is
+            final FolderEntry moved = index().getEntry(fromId(fromId), fileName);
+            index().removeEntry(fromId(fromId), fileName);
+            index().putEntry(fromId(toId), fileName, moved == null ? toFolderEntry(destinationFile) : moved);
+            changed();
         } catch (IOException e) {
             throw new TDPException(DataSetErrorCodes.UNABLE_TO_MOVE_FOLDER_ENTRY, e);
         }
@@ -345,26 +402,19 @@ public class FileSystemFolderRepository implements FolderRepository {
 
     @Override
     public Folder locateEntry(String contentId, FolderContentType type) {
-        try (Stream<Path> walk = Files.walk(pathsConverter.getRootFolder())) {
-            return walk //
-                    .filter(Files::isRegularFile) //
-                    .filter(file -> {
-                        FolderEntry folderEntry = FileSystemUtils.toFolderEntry(file);
-                        return Objects.equals(folderEntry.getContentId(), contentId) //
-                                && Objects.equals(folderEntry.getContentType(), type);
-                    }) //
-                    .findFirst() //
-                    .map(Path::getParent) //
-                    .map(p -> toFolder(p, security.getUserId())) //
-                    .orElse(null);
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage(), e);
+        if (type == null) {
+            return null;
         }
+        final String fileName = buildFileName(new FolderEntry(type, contentId));
+        return index().locate(fileName).stream() //
+                .findFirst() //
+                .map(folderPath -> toFolder(pathsConverter.toPath(folderPath), security.getUserId())) //
+                .orElse(null);
     }
 
     @Override
     public long size() {
-        return countSubDirectories(pathsConverter.getRootFolder());
+        return index().size();
     }
 
     private static String buildFileName(FolderEntry folderEntry) {
@@ -0,0 +1,266 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.folder.store.file;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import org.talend.dataprep.api.folder.FolderEntry;
+
+/**
+ * In-memory copy of the folder tree stored on disk: the folders, the entries of each folder and the folders of each
+ * entry (so that an entry is located without walking the whole tree).
+ * <p>
+ * Entries are identified by the name of their file, and copies of the entries are returned so that callers can not
+ * modify the index.
+ * </p>
+ */
+class FolderIndex {
+
+    /** The home folder. */
+    private final Node root = new Node();
+
+    /** The folders of each entry, by entry file name. */
+    private final Map<String, Set<FolderPath>> locations = new HashMap<>();
+
+    /**
+     * @param path a folder path.
+     * @return <code>true</code> if the folder exists.
+     */
+    synchronized boolean exists(FolderPath path) {
+        return find(path) != null;
+    }
+
+    /**
+     * Adds a folder (and its missing parents).
+     *
+     * @param path the folder path.
+     */
+    synchronized void addFolder(FolderPath path) {
+        getOrCreate(path);
+    }
+
+    /**
+     * Removes a folder, its entries and its sub folders.
+     *
+     * @param path the folder path.
+     */
+    synchronized void removeFolder(FolderPath path) {
+        final Node node = find(path);
+        if (node == null) {
+            return;
+        }
+        forEachEntry(path, node, this::removeLocation);
+        if (path.isRoot()) {
+            root.children.clear();
+            root.entries.clear();
+        } else {
+            find(path.getParent()).children.remove(path.getName());
+        }
+    }
+
+    /**
+     * Moves a folder (and its content) to another path.
+     *
+     * @param from the current folder path.
+     * @param to the new folder path.
+     */
+    synchronized void moveFolder(FolderPath from, FolderPath to) {
+        final Node node = find(from);
+        if (node == null || from.isRoot()) {
+            return;
+        }
+        removeFolder(from);
+        final Node parent = getOrCreate(to.getParent());
+        parent.children.put(to.getName(), node);
+        forEachEntry(to, node, this::addLocation);
+    }
+
+    /**
+     * @param path a folder path.
+     * @return The paths of the sub folders of the folder (empty if folder does not exist).
+     */
+    synchronized List<FolderPath> children(FolderPath path) {
+        final Node node = find(path);
+        if (node == null) {
+            return emptyList();
+        }
+        final List<FolderPath> children = new ArrayList<>(node.children.size());
+        node.children.keySet().forEach(name -> children.add(new FolderPath(path, name)));
+        return children;
+    }
+
+    /**
+     * Adds (or replaces) an entry in a folder (and adds the folder if needed).
+     *
+     * @param path the folder path.
+     * @param fileName the name of the entry file.
+     * @param entry the entry.
+     */
+    synchronized void putEntry(FolderPath path, String fileName, FolderEntry entry) {
+        getOrCreate(path).entries.put(fileName, copy(entry));
+        addLocation(fileName, path);
+    }
+
+    /**
+     * Removes an entry from a folder.
+     *
+     * @param path the folder path.
+     * @param fileName the name of the entry file.
+     */
+    synchronized void removeEntry(FolderPath path, String fileName) {
+        final Node node = find(path);
+        if (node != null && node.entries.remove(fileName) != null) {
+            removeLocation(fileName, path);
+        }
+    }
+
+    /**
+     * @param path a folder path.
+     * @param fileName the name of the entry file.
+     * @return The entry or <code>null</code> if there is no such entry in the folder.
+     */
+    synchronized FolderEntry getEntry(FolderPath path, String fileName) {
+        final Node node = find(path);
+        final FolderEntry entry = node == null ? null : node.entries.get(fileName);
+        return entry == null ? null : copy(entry);
+    }
+
+    /**
+     * @param path a folder path.
+     * @return The entries of the folder by file name (empty if folder does not exist).
+     */
+    synchronized Map<String, FolderEntry> entries(FolderPath path) {
+        final Node node = find(path);
+        if (node == null) {
+            return emptyMap();
+        }
+        final Map<String, FolderEntry> entries = new LinkedHashMap<>();
+        node.entries.forEach((fileName, entry) -> entries.put(fileName, copy(entry)));
+        return entries;
+    }
+
+    /**
+     * @param fileName the name of an entry file.
+     * @return The paths of the folders that hold the entry.
+     */
+    synchronized Set<FolderPath> locate(String fileName) {
+        final Set<FolderPath> folders = locations.get(fileName);
+        return folders == null ? emptySet() : new LinkedHashSet<>(folders);
+    }
+
+    /**
+     * @param path a folder path.
+     * @return <code>true</code> if the folder or one of its sub folders holds an entry.
+     */
+    synchronized boolean hasEntry(FolderPath path) {
+        final Node node = find(path);
+        return node != null && hasEntry(node);
+    }
+
+    /**
+     * @param name a predicate on folder names.
+     * @return The paths of all the folders (except home) whose name matches the predicate.
+     */
+    synchronized List<FolderPath> search(Predicate<String> name) {
+        final List<FolderPath> found = new ArrayList<>();
+        search(new FolderPath(), root, name, found);
+        return found;
+    }
+
+    /**
+     * @return The number of folders (except home).
+     */
+    synchronized long size() {
+        return count(root) - 1;
+    }
+
+    private Node find(FolderPath path) {
+        if (path.isRoot()) {
+            return root;
+        }
+        final Node parent = find(path.getParent());
+        return parent == null ? null : parent.children.get(path.getName());
+    }
+
+    private Node getOrCreate(FolderPath path) {
+        if (path.isRoot()) {
+            return root;
+        }
+        return getOrCreate(path.getParent()).children.computeIfAbsent(path.getName(), name -> new Node());
+    }
+
+    private void addLocation(String fileName, FolderPath path) {
+        locations.computeIfAbsent(fileName, name -> new LinkedHashSet<>()).add(path);
+    }
+
+    private void removeLocation(String fileName, FolderPath path) {
+        final Set<FolderPath> folders = locations.get(fileName);
+        if (folders != null) {
+            folders.remove(path);
+            if (folders.isEmpty()) {
+                locations.remove(fileName);
+            }
+        }
+    }
+
+    private static void forEachEntry(FolderPath path, Node node, BiConsumer<String, FolderPath> consumer) {
+        node.entries.keySet().forEach(fileName -> consumer.accept(fileName, path));
+        node.children.forEach((name, child) -> forEachEntry(new FolderPath(path, name), child, consumer));
+    }
+
+    private static boolean hasEntry(Node node) {
+        return !node.entries.isEmpty() || node.children.values().stream().anyMatch(FolderIndex::hasEntry);
+    }
+
+    private static void search(FolderPath path, Node node, Predicate<String> name, List<FolderPath> found) {
+        node.children.forEach((childName, child) -> {
+            final FolderPath childPath = new FolderPath(path, childName);
+            if (name.test(childName)) {
+                found.add(childPath);
+            }
+            search(childPath, child, name, found);
+        });
+    }
+
+    private static long count(Node node) {
+        return 1 + node.children.values().stream().mapToLong(FolderIndex::count).sum();
+    }
+
+    private static FolderEntry copy(FolderEntry entry) {
+        final FolderEntry copy = new FolderEntry(entry.getContentType(), entry.getContentId());
+        copy.setFolderId(entry.getFolderId());
+        return copy;
+    }
+
+    /** A folder: its sub folders by name and its entries by file name. */
+    private static class Node {
+
+        private final Map<String, Node> children = new TreeMap<>();
+
+        private final Map<String, FolderEntry> entries = new TreeMap<>();
+    }
+}
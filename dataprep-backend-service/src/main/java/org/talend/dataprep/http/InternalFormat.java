@@ -0,0 +1,83 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.http;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.format.DataFormatDetector;
+import com.fasterxml.jackson.core.format.DataFormatMatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Format of the content exchanged between data-prep services. Services that support it send content in Smile (binary
+ * JSON, with repeated names and short values written once) when asked for it with the {@link #ACCEPT} header, so rows
+ * are smaller on the wire and faster to parse than JSON. JSON is still produced for any other client (and services
+ * that do not support Smile keep answering JSON, which {@link #createParser(InputStream)} reads as well).
+ */
+@Component
+public class InternalFormat {
+
+    /** Media type of the Smile content. */
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    /** Media type of the Smile content. */
+    public static final MediaType SMILE = MediaType.valueOf(SMILE_VALUE);
+
+    /** Accept header value for internal calls: Smile if possible, JSON otherwise. */
+    public static final String ACCEPT = SMILE_VALUE + ", " + APPLICATION_JSON_VALUE + ";q=0.9";
+
+    /** The data-prep ready jackson module. */
+    @Autowired
+    private ObjectMapper mapper;
+
+    /** Factory for the Smile parsers. */
+    private final SmileFactory smileFactory = createSmileFactory();
+
+    /**
+     * @return A new factory for the Smile parsers and generators of internal content.
+     */
+    public static SmileFactory createSmileFactory() {
+        return new SmileFactory().configure(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES, true);
+    }
+
+    /**
+     * Creates a parser to read a content received from another service, whether it is in Smile or in JSON.
+     *
+     * @param content The content (as returned by a command sent with the {@link #ACCEPT} header).
+     * @return A parser for the content format.
+     * @throws IOException In case of read error.
+     */
+    public JsonParser createParser(InputStream content) throws IOException {
+        final DataFormatMatcher match = new DataFormatDetector(smileFactory, mapper.getFactory()).findFormat(content);
+        final JsonParser parser;
+        if (match.hasMatch()) {
+            parser = match.createParserWithMatch();
+        } else {
+            // empty or unknown content, let the JSON parser deal with it
+            parser = mapper.getFactory().createParser(match.getDataStream());
+        }
+        parser.setCodec(mapper);
+        return parser;
+    }
+}
@@ -13,6 +13,10 @@ public abstract class ObjectPreparationRepository implements PreparationReposito
 
     protected abstract <T extends Identifiable> Stream<T> source(Class<T> clazz);
 
+    protected static Predicate<Object> toPredicate(Class<?> clazz, String filter) {
+        return (Predicate<Object>) Tql.parse(filter).accept(new ObjectPredicateVisitor(clazz));
+    }
+
     @Override
     public <T extends Identifiable> T get(String id, Class<T> clazz) {
         final Optional<T> match = source(clazz).filter(i -> ObjectUtils.equals(i.getId(), id)).findAny();
@@ -21,9 +25,7 @@ public abstract class ObjectPreparationRepository implements PreparationReposito
 
     @Override
     public <T extends Identifiable> boolean exist(Class<T> clazz, String filter) {
-        final Predicate<Object> accept = (Predicate<Object>) Tql.parse(filter)
-                .accept(new ObjectPredicateVisitor(clazz));
-        return source(clazz).filter(accept).findAny().isPresent();
+        return source(clazz).filter(toPredicate(clazz, filter)).findAny().isPresent();
     }
 
     @Override
@@ -33,9 +35,7 @@ public abstract class ObjectPreparationRepository implements PreparationReposito
 
     @Override
     public <T extends Identifiable> Stream<T> list(Class<T> clazz, String filter) {
-        final Predicate<Object> accept = (Predicate<Object>) Tql.parse(filter)
-                .accept(new ObjectPredicateVisitor(clazz));
-        return source(clazz).filter(accept);
+        return source(clazz).filter(toPredicate(clazz, filter));
     }
 
 }
@@ -19,7 +19,21 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -35,6 +49,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.talend.daikon.exception.ExceptionContext;
+import org.talend.dataprep.api.preparation.Action;
 import org.talend.dataprep.api.preparation.Identifiable;
 import org.talend.dataprep.api.preparation.Preparation;
 import org.talend.dataprep.api.preparation.PreparationActions;
@@ -45,13 +60,33 @@ import org.talend.dataprep.exception.error.CommonErrorCodes;
 import org.talend.dataprep.preparation.store.ObjectPreparationRepository;
 import org.talend.dataprep.preparation.store.PreparationRepository;
 import org.talend.dataprep.security.Security;
+import org.talend.dataprep.transformation.actions.datablending.Lookup;
 import org.talend.dataprep.util.FilesHelper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 
 /**
  * File system implementation of preparation repository.
+ * <p>
+ * Each type of {@link Identifiable} is stored in its own folder, so that listing preparations does not read steps nor
+ * actions files. Files stored in the root folder (before types were partitioned) are moved to their type folder on
+ * startup. Preparations are also indexed in memory (see {@link PreparationIndex}): filters on preparations only read
+ * the files of the matching preparations.
+ * </p>
+ * <p>
+ * {@link PreparationActions} created by {@link PreparationActions#append(List)} are stored as a delta: only the appended
+ * actions and the id of the preparation actions they were appended to. Every
+ * <code>preparation.store.file.snapshot.interval</code> steps, all the actions are stored again (a snapshot) so that
+ * reading actions never needs more than this number of files. Actions stored before deltas were introduced are read as
+ * snapshots and migrated to deltas in background on first startup (snapshots that deltas are stored on are kept as is).
+ * </p>
+ * <p>
+ * Steps and stored actions are never modified once saved (their ids are computed from their content): the most recently
+ * used ones are kept in memory, so that walking the steps of a preparation and reading their actions do not read files.
+ * </p>
  */
 @Component
 @ConditionalOnProperty(name = "preparation.store", havingValue = "file")
@@ -60,6 +95,12 @@ public class FileSystemPreparationRepository extends ObjectPreparationRepository
     /** This class' logger. */
     private static final Logger LOG = LoggerFactory.getLogger(FileSystemPreparationRepository.class);
 
+    /** Name of the file that records that stored actions were migrated to deltas. */
+    private static final String MIGRATION_MARKER = ".migrated-to-deltas";
+
+    /** A filter on the data set of preparations, answered with the index only. */
+    private static final Pattern DATA_SET_FILTER = Pattern.compile("\\s*dataSetId\\s*=\\s*'([^'\\\\]*)'\\s*");
+
     /** The dataprep ready jackson builder. */
     @Autowired
     private ObjectMapper mapper;
@@ -76,18 +117,123 @@ public class FileSystemPreparationRepository extends ObjectPreparationRepository
     @Value("${preparation.store.file.location}")
     private String preparationsLocation;
 
+    /** Maximum number of files read to get the actions of a step (1 to store all actions of every step). */
+    @Value("${preparation.store.file.snapshot.interval:20}")
+    private int snapshotInterval;
+
+    /** Maximum number of steps (and of stored actions) kept in memory. */
+    @Value("${preparation.store.file.cache.size:10000}")
+    private int cacheSize;
+
     /** Security to get the current user. */
     @Autowired
     private Security security;
 
+    /** Steps recently read or saved. */
+    private Cache<String, Step> steps;
+
+    /** Stored actions (snapshots and deltas) recently read or saved. */
+    private Cache<String, StoredActions> storedActions;
+
+    /** Index of the stored preparations. */
+    private PreparationIndex preparations;
+
+    /** Ids of the deltas stored on each preparation actions (guarded by {@link #actionsLock}). */
+    private final Map<String, Set<String>> deltasByParent = new HashMap<>();
+
+    /** Lock on stored actions writes and removals (and on {@link #deltasByParent}). */
+    private final Object actionsLock = new Object();
+
     /**
      * Make sure the root folder is there.
      */
     @PostConstruct
     private void init() {
+        steps = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        storedActions = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
         getRootFolder().mkdirs();
+        partition();
+        preparations = new PreparationIndex(mapper);
+        source(Preparation.class).forEach(preparations::put);
+        LOG.info("{} preparations indexed.", preparations.size());
+        indexDeltas();
         add(rootContent);
         add(rootStep);
+        if (snapshotInterval > 1 && !getMigrationMarker().exists()) {
+            final Thread migration = new Thread(this::migrateActions, "preparation-actions-migration");
+            migration.setDaemon(true);
+            migration.start();
+        }
+    }
+
+    /**
+     * Reads the parent of all stored deltas, so that the deltas stored on preparation actions are known without reading
+     * files.
+     */
+    private void indexDeltas() {
+        final String prefix = PreparationActions.class.getSimpleName() + '-';
+        synchronized (actionsLock) {
+            deltasByParent.clear();
+            for (File file : listFiles(PreparationActions.class)) {
+                if (!startsWith(file.getName(), prefix)) {
+                    continue; // ignore files being written
+                }
+                final StoredActions stored = readStoredActions(file);
+                if (stored != null && !stored.isSnapshot()) {
+                    addDelta(stored.getParent(), file.getName().substring(prefix.length()));
+                }
+            }
+        }
+    }
+
+    private void addDelta(String parentId, String id) {
+        deltasByParent.computeIfAbsent(parentId, key -> new HashSet<>()).add(id);
+    }
+
+    private void removeDelta(String parentId, String id) {
+        final Set<String> deltas = deltasByParent.get(parentId);
+        if (deltas != null) {
+            deltas.remove(id);
+            if (deltas.isEmpty()) {
+                deltasByParent.remove(parentId);
+            }
+        }
+    }
+
+    /**
+     * @return The file that records that stored actions were migrated to deltas.
+     */
+    private File getMigrationMarker() {
+        return new File(getTypeFolder(PreparationActions.class), MIGRATION_MARKER);
+    }
+
+    /**
+     * Moves the files stored in the root folder to the folder of their type (named before the first '-' of file names).
+     */
+    void partition() {
+        final File[] files = getRootFolder().listFiles(File::isFile);
+        if (files == null) {
+            return;
+        }
+        int moved = 0;
+        for (File file : files) {
+            final String name = file.getName();
+            final int separator = name.indexOf('-');
+            if (name.startsWith(".") || separator <= 0) {
+                continue;
+            }
+            final File typeFolder = new File(getRootFolder(), name.substring(0, separator));
+            typeFolder.mkdirs();
+            try {
+                Files.move(file.toPath(), new File(typeFolder, name).toPath());
+                moved++;
+            } catch (IOException e) {
+                LOG.warn("Unable to move {} to {}.", file, typeFolder, e);
+            }
+        }
+        if (moved > 0) {
+            LOG.info("{} preparation files moved to their type folder.", moved);
+        }
     }
 
     /**
@@ -102,7 +248,13 @@ public class FileSystemPreparationRepository extends ObjectPreparationRepository
             return;
         }
 
+        if (object instanceof PreparationActions) {
+            addActions((PreparationActions) object);
+            return;
+        }
+
         final File outputFile = getIdentifiableFile(object);
+        outputFile.getParentFile().mkdirs();
 
         try (GZIPOutputStream output = new GZIPOutputStream(new FileOutputStream(outputFile))) {
             mapper.writer().writeValue(output, object);
@@ -111,17 +263,313 @@ public class FileSystemPreparationRepository extends ObjectPreparationRepository
             throw new TDPException(CommonErrorCodes.UNABLE_TO_SAVE_PREPARATION, e,
                     ExceptionContext.build().put("id", object.id()));
         }
+        if (object instanceof Step) {
+            steps.put(object.id(), (Step) object);
+        } else if (object instanceof Preparation) {
+            preparations.put((Preparation) object);
+        }
         LOG.debug("preparation #{} saved", object.id());
     }
 
+    /**
+     * Stores the preparation actions as a delta when they were appended to stored actions, as a snapshot otherwise.
+     * Actions already stored are left untouched: their id is computed from the actions, and other deltas may rely on
+     * their depth.
+     *
+     * @param content the preparation actions to store.
+     */
+    private void addActions(PreparationActions content) {
+        synchronized (actionsLock) {
+            if (getIdentifiableFile(PreparationActions.class, content.id()).exists()) {
+                LOG.debug("preparation actions #{} already stored", content.id());
+                return;
+            }
+            StoredActions stored = StoredActions.snapshot(content);
+            final String baseId = content.getBaseId();
+            if (snapshotInterval > 1 && baseId != null && !baseId.equals(content.id())) {
+                final StoredActions base = readStoredActions(baseId);
+                if (base != null && base.getDepth() + 1 < snapshotInterval) {
+                    final List<Action> actions = content.getActions();
+                    stored = new StoredActions(actions.subList(content.getBaseSize(), actions.size()),
+                            content.getAppVersion(), baseId, base.getDepth() + 1);
+                }
+            }
+            writeStoredActions(content.id(), stored);
+            LOG.debug("preparation actions #{} saved (depth: {})", content.id(), stored.getDepth());
+        }
+    }
+
+    /**
+     * Writes stored actions in a temporary file first, so that a concurrent read never sees a partially written file.
+     * Must be called with {@link #actionsLock} held.
+     */
+    private void writeStoredActions(String id, StoredActions stored) {
+        final StoredActions previous = readStoredActions(id);
+        final File outputFile = getIdentifiableFile(PreparationActions.class, id);
+        final File tempFile = new File(outputFile.getParentFile(), '.' + outputFile.getName() + ".tmp");
+        outputFile.getParentFile().mkdirs();
+        try {
+            try (GZIPOutputStream output = new GZIPOutputStream(new FileOutputStream(tempFile))) {
+                mapper.writer().writeValue(output, stored);
+            }
+            Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            storedActions.put(id, stored);
+            if (previous != null && !previous.isSnapshot()) {
+                removeDelta(previous.getParent(), id);
+            }
+            if (!stored.isSnapshot()) {
+                addDelta(stored.getParent(), id);
+            }
+        } catch (IOException e) {
+            LOG.error("Error saving preparation actions {}", id, e);
+            FilesHelper.deleteQuietly(tempFile);
+            throw new TDPException(CommonErrorCodes.UNABLE_TO_SAVE_PREPARATION, e, ExceptionContext.build().put("id", id));
+        }
+    }
+
+    /**
+     * @param id the preparation actions id.
+     * @return The stored actions (snapshot or delta) or <code>null</code> if not found.
+     */
+    private StoredActions readStoredActions(String id) {
+        final StoredActions cached = storedActions.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        final File from = getIdentifiableFile(PreparationActions.class, id);
+        if (!from.exists()) {
+            LOG.debug("preparation actions #{} not found in file system", id);
+            return null;
+        }
+        final StoredActions stored = readStoredActions(from);
+        if (stored != null) {
+            storedActions.put(id, stored);
+        }
+        return stored;
+    }
+
+    /**
+     * @param from a file of stored actions.
+     * @return The stored actions (snapshot or delta) or <code>null</code> if file can not be read.
+     */
+    private StoredActions readStoredActions(File from) {
+        try (GZIPInputStream input = new GZIPInputStream(new FileInputStream(from))) {
+            return mapper.readerFor(StoredActions.class).readValue(input);
+        } catch (IOException e) {
+            LOG.error("error reading preparation actions file {}", from.getAbsolutePath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the preparation actions, applying deltas on the closest snapshot.
+     *
+     * @param id the preparation actions id.
+     * @return The preparation actions or <code>null</code> if not found (or if one of the deltas can not be read).
+     */
+    private PreparationActions readActions(String id) {
+        final StoredActions stored = readStoredActions(id);
+        if (stored == null) {
+            return null;
+        }
+        final Deque<StoredActions> chain = new ArrayDeque<>();
+        chain.push(stored);
+        final Set<String> visited = new HashSet<>();
+        visited.add(id);
+        StoredActions current = stored;
+        while (!current.isSnapshot()) {
+            // a parent already visited means files are corrupted (and reading would loop)
+            final StoredActions parent = visited.add(current.getParent()) ? readStoredActions(current.getParent()) : null;
+            if (parent == null) {
+                LOG.error("Unable to read preparation actions #{}: content #{} is missing or invalid.", id,
+                        current.getParent());
+                return null;
+            }
+            chain.push(parent);
+            current = parent;
+        }
+        final List<Action> actions;
+        if (chain.size() == 1) {
+            actions = stored.getActions();
+        } else {
+            actions = new ArrayList<>();
+            chain.forEach(delta -> actions.addAll(delta.getActions()));
+        }
+        final PreparationActions content = new PreparationActions(actions, stored.getAppVersion());
+        content.setId(id); // keep the id of root content (not computed from actions)
+        return content;
+    }
+
+    /**
+     * Migrates the preparation actions stored as snapshots to deltas on the actions of their parent step. Steps are
+     * visited from the root step, so that parent actions are migrated before their children (and depths are right).
+     * Once done, migration is recorded so that it does not run on next startups.
+     */
+    void migrateActions() {
+        try {
+            final Map<String, List<Step>> children = source(Step.class) //
+                    .filter(step -> step.getParent() != null) //
+                    .collect(Collectors.groupingBy(Step::getParent));
+            final Deque<Step> toVisit = new ArrayDeque<>(children.getOrDefault(rootStep.id(), new ArrayList<>()));
+            final Map<String, String> stepContents = new HashMap<>();
+            stepContents.put(rootStep.id(), rootStep.getContent());
+            int migrated = 0;
+            while (!toVisit.isEmpty()) {
+                final Step step = toVisit.poll();
+                if (step.id().equals(rootStep.id())) {
+                    continue;
+                }
+                stepContents.put(step.id(), step.getContent());
+                if (migrateActions(step.getContent(), stepContents.get(step.getParent()))) {
+                    migrated++;
+                }
+                toVisit.addAll(children.getOrDefault(step.id(), new ArrayList<>()));
+            }
+            LOG.info("{} preparation actions migrated to deltas.", migrated);
+            final File marker = getMigrationMarker();
+            marker.getParentFile().mkdirs();
+            if (!marker.createNewFile()) {
+                LOG.debug("Migration of preparation actions already recorded.");
+            }
+        } catch (Exception e) {
+            LOG.error("Unable to migrate preparation actions to deltas.", e);
+        }
+    }
+
+    /**
+     * Stores the actions <code>contentId</code> as a delta on <code>parentContentId</code> if it is a snapshot that
+     * starts with the parent actions and that no delta is stored on (their depth would no longer be right).
+     *
+     * @return <code>true</code> if actions were migrated.
+     */
+    private boolean migrateActions(String contentId, String parentContentId) {
+        if (contentId == null || parentContentId == null || contentId.equals(parentContentId)) {
+            return false;
+        }
+        synchronized (actionsLock) {
+            return migrateSnapshot(contentId, parentContentId);
+        }
+    }
+
+    private boolean migrateSnapshot(String contentId, String parentContentId) {
+        if (deltasByParent.containsKey(contentId)) {
+            return false;
+        }
+        final StoredActions stored = readStoredActions(contentId);
+        final StoredActions parent = readStoredActions(parentContentId);
+        if (stored == null || !stored.isSnapshot() || parent == null || parent.getDepth() + 1 >= snapshotInterval) {
+            return false;
+        }
+        final PreparationActions parentContent = readActions(parentContentId);
+        if (parentContent == null) {
+            return false;
+        }
+        final List<Action> actions = stored.getActions();
+        final List<Action> parentActions = parentContent.getActions();
+        if (actions.size() < parentActions.size() || !actions.subList(0, parentActions.size()).equals(parentActions)) {
+            return false;
+        }
+        writeStoredActions(contentId, new StoredActions(actions.subList(parentActions.size(), actions.size()),
+                stored.getAppVersion(), parentContentId, parent.getDepth() + 1));
+        return true;
+    }
+
+    /**
+     * Reads the file of the identifiable directly (instead of reading all files of <code>clazz</code>), files being named
+     * after the class and the id of the identifiable.
+     *
+     * @see PreparationRepository#get(String, Class)
+     */
     @Override
-    public <T extends Identifiable> Stream<T> source(Class<T> clazz) {
-        File[] files = getRootFolder().listFiles();
-        if (files == null) {
-            LOG.error("error listing preparations");
-            files = new File[0];
+    public <T extends Identifiable> T get(String id, Class<T> clazz) {
+        if (StringUtils.isBlank(id)) {
+            return null;
+        }
+        if (Step.class.equals(clazz)) {
+            return clazz.cast(getStep(stripOptionalPrefix(clazz, id)));
+        }
+        final T result = read(id, clazz);
+        return result != null && clazz.isAssignableFrom(result.getClass()) ? result : null;
+    }
+
+    /**
+     * Evaluates filters on preparations with the index, other filters on all the files of <code>clazz</code>.
+     *
+     * @see PreparationRepository#exist(Class, String)
+     */
+    @Override
+    public <T extends Identifiable> boolean exist(Class<T> clazz, String filter) {
+        if (Preparation.class.equals(clazz)) {
+            return getPreparationIds(filter).findAny().isPresent();
+        }
+        return super.exist(clazz, filter);
+    }
+
+    /**
+     * Evaluates filters on preparations with the index (and only reads the files of matching preparations), other
+     * filters on all the files of <code>clazz</code>.
+     *
+     * @see PreparationRepository#list(Class, String)
+     */
+    @Override
+    public <T extends Identifiable> Stream<T> list(Class<T> clazz, String filter) {
+        if (Preparation.class.equals(clazz)) {
+            return getPreparationIds(filter) //
+                    .map(id -> get(id, clazz)) //
+                    .filter(Objects::nonNull);
+        }
+        return super.list(clazz, filter);
+    }
+
+    /**
+     * @param filter a TQL filter on preparations.
+     * @return The ids of the indexed preparations that match the filter.
+     */
+    private Stream<String> getPreparationIds(String filter) {
+        final Matcher dataSetFilter = DATA_SET_FILTER.matcher(filter);
+        if (dataSetFilter.matches()) {
+            return preparations.getPreparationIds(dataSetFilter.group(1)).stream();
+        }
+        return preparations.summaries() //
+                .filter(toPredicate(Preparation.class, filter)) //
+                .map(Preparation::id);
+    }
+
+    /**
+     * Looks for the data set in each stored actions (snapshot or delta) without applying deltas: every action is stored
+     * at least once.
+     *
+     * @see PreparationRepository#findOneStepActionByDataset(String)
+     */
+    @Override
+    public boolean findOneStepActionByDataset(String datasetId) {
+        if (StringUtils.isEmpty(datasetId)) {
+            return false;
+        }
+        final String datasetParamName = Lookup.Parameters.LOOKUP_DS_ID.getKey();
+        return Arrays.stream(listFiles(PreparationActions.class)) //
+                .filter(file -> !file.getName().startsWith(".")) // ignore files being written
+                .map(this::readStoredActions) //
+                .filter(Objects::nonNull) //
+                .anyMatch(stored -> stored.getActions().stream() //
+                        .anyMatch(action -> datasetId.equals(action.getParameters().get(datasetParamName))));
+    }
+
+    private Step getStep(String id) {
+        Step step = steps.getIfPresent(id);
+        if (step == null) {
+            step = read(id, Step.class);
+            if (step != null) {
+                steps.put(id, step);
+            }
         }
-        final Stream<File> stream = Arrays.stream(files);
+        return step;
+    }
+
+    @Override
+    public <T extends Identifiable> Stream<T> source(Class<T> clazz) {
+        final Stream<File> stream = Arrays.stream(listFiles(clazz));
         return stream.filter(file -> startsWith(file.getName(), clazz.getSimpleName())) //
                 .map(file -> read(file.getName(), clazz)) // read all files
                 .filter(entry -> entry != null) // filter out null entries
@@ -130,6 +578,19 @@ public class FileSystemPreparationRepository extends ObjectPreparationRepository
                 .onClose(stream::close);
     }
 
+    /**
+     * @param clazz the identifiable class.
+     * @return The files of the identifiable class (and hidden files).
+     */
+    private File[] listFiles(Class clazz) {
+        final File[] files = getTypeFolder(clazz).listFiles(File::isFile);
+        if (files == null) {
+            LOG.debug("no {} stored", clazz.getSimpleName());
+            return new File[0];
+        }
+        return files;
+    }
+
     private <T extends Identifiable> T read(String id, Class<T> clazz) {
 
         final File from = getIdentifiableFile(clazz, id);
@@ -137,6 +598,9 @@ public class FileSystemPreparationRepository extends ObjectPreparationRepository
             LOG.info("Ignore hidden file {}", from.getName());
             return null;
         }
+        if (PreparationActions.class.equals(clazz)) {
+            return clazz.cast(readActions(stripOptionalPrefix(clazz, id)));
+        }
         if (!from.exists()) {
             LOG.debug("preparation #{} not found in file system", id);
             return null;
@@ -164,10 +628,23 @@ public class FileSystemPreparationRepository extends ObjectPreparationRepository
     public void clear() {
 
         // clear all files
-        final File[] preparations = getRootFolder().listFiles();
-        for (File file : preparations) {
-            FilesHelper.deleteQuietly(file);
+        final File[] typeFolders = getRootFolder().listFiles(File::isDirectory);
+        if (typeFolders != null) {
+            for (File typeFolder : typeFolders) {
+                final File[] files = typeFolder.listFiles();
+                if (files != null) {
+                    for (File file : files) {
+                        FilesHelper.deleteQuietly(file);
+                    }
+                }
+            }
+        }
+        steps.invalidateAll();
+        synchronized (actionsLock) {
+            storedActions.invalidateAll();
+            deltasByParent.clear();
         }
+        preparations.clear();
 
         // add the default files
         add(rootContent);
@@ -184,11 +661,49 @@ public class FileSystemPreparationRepository extends ObjectPreparationRepository
         if (object == null) {
             return;
         }
+        if (object instanceof PreparationActions) {
+            removeActions(object.id());
+            return;
+        }
         final File file = getIdentifiableFile(object);
         FilesHelper.deleteQuietly(file);
+        if (object instanceof Step) {
+            steps.invalidate(object.id());
+        } else if (object instanceof Preparation) {
+            preparations.remove(object.id());
+        }
         LOG.debug("preparation #{} removed", object.id());
     }
 
+    /**
+     * Removes the preparation actions, once the deltas stored on them are stored as snapshots (so they can still be
+     * read).
+     *
+     * @param id the id of the preparation actions to remove.
+     */
+    private void removeActions(String id) {
+        synchronized (actionsLock) {
+            final Set<String> deltas = deltasByParent.get(id);
+            if (deltas != null) {
+                for (String deltaId : new ArrayList<>(deltas)) {
+                    final PreparationActions content = readActions(deltaId);
+                    if (content != null) {
+                        writeStoredActions(deltaId, StoredActions.snapshot(content));
+                        LOG.debug("preparation actions #{} stored as snapshot before removal of #{}", deltaId, id);
+                    }
+                }
+            }
+            final StoredActions stored = readStoredActions(id);
+            if (stored != null && !stored.isSnapshot()) {
+                removeDelta(stored.getParent(), id);
+            }
+            deltasByParent.remove(id);
+            FilesHelper.deleteQuietly(getIdentifiableFile(PreparationActions.class, id));
+            storedActions.invalidate(id);
+        }
+        LOG.debug("preparation actions #{} removed", id);
+    }
+
     private File getIdentifiableFile(Identifiable object) {
         return getIdentifiableFile(object.getClass(), object.id());
     }
@@ -201,7 +716,15 @@ public class FileSystemPreparationRepository extends ObjectPreparationRepository
      * @return the file where to read/write the identifiable object.
      */
     private File getIdentifiableFile(Class clazz, String id) {
-        return new File(preparationsLocation + '/' + clazz.getSimpleName() + '-' + stripOptionalPrefix(clazz, id));
+        return new File(getTypeFolder(clazz), clazz.getSimpleName() + '-' + stripOptionalPrefix(clazz, id));
+    }
+
+    /**
+     * @param clazz the identifiable class.
+     * @return The folder where identifiable objects of this class are stored.
+     */
+    private File getTypeFolder(Class clazz) {
+        return new File(preparationsLocation, clazz.getSimpleName());
     }
 
     /**
@@ -0,0 +1,153 @@
+//  ============================================================================
+//
+//  Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+//  This source code is available under agreement available at
+//  https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+//  You should have received a copy of the agreement
+//  along with this program; if not, write to Talend SA
+//  9 rue Pages 92150 Suresnes, France
+//
+//  ============================================================================
+
+package org.talend.dataprep.preparation.store.file;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.dataset.statistics.Statistics;
+import org.talend.dataprep.api.preparation.Preparation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * <p>
+ * In-memory index of the stored preparations, so that filters on preparations do not need to read all the preparation
+ * files.
+ * </p>
+ * <p>
+ * The index holds a summary of each preparation (a copy without column statistics nor semantic domains, which can not
+ * be reached by a TQL filter as columns are a list) and the ids of the preparations of each data set (data set ids are
+ * compared ignoring case, as TQL does). It is kept up to date by the repository on add and remove.
+ * </p>
+ */
+class PreparationIndex {
+
+    /** This class' logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(PreparationIndex.class);
+
+    /** Statistics of all the columns in summaries. */
+    private static final Statistics NO_STATISTICS = new Statistics();
+
+    /** The dataprep ready jackson builder. */
+    private final ObjectMapper mapper;
+
+    /** Summaries by preparation id. */
+    private final Map<String, Preparation> summaries = new ConcurrentHashMap<>();
+
+    /** Preparation ids by data set id (see {@link #dataSetKey(String)}). */
+    private final Map<String, Set<String>> dataSets = new ConcurrentHashMap<>();
+
+    /**
+     * @param mapper the jackson mapper used to copy preparations.
+     */
+    PreparationIndex(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return The summaries of all the preparations.
+     */
+    Stream<Preparation> summaries() {
+        return summaries.values().stream();
+    }
+
+    /**
+     * @param dataSetId a data set id.
+     * @return The ids of the preparations based on the data set.
+     */
+    Set<String> getPreparationIds(String dataSetId) {
+        final Set<String> ids = dataSets.get(dataSetKey(dataSetId));
+        return ids == null ? emptySet() : new HashSet<>(ids);
+    }
+
+    /**
+     * @param dataSetId a data set id.
+     * @return The key of the data set in the index: TQL compares values ignoring case, so do the keys.
+     */
+    private static String dataSetKey(String dataSetId) {
+        return dataSetId.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Indexes a preparation that was just saved (replaces its previous summary if any).
+     *
+     * @param preparation the saved preparation.
+     */
+    synchronized void put(Preparation preparation) {
+        remove(preparation.id());
+        try {
+            // copy preparation as it may be modified by caller (and columns are stripped from their statistics)
+            final Preparation summary = mapper.readerFor(Preparation.class)
+                    .readValue(mapper.writer().writeValueAsBytes(preparation));
+            if (summary.getRowMetadata() != null) {
+                for (ColumnMetadata column : summary.getRowMetadata().getColumns()) {
+                    column.setStatistics(NO_STATISTICS);
+                    column.setSemanticDomains(emptyList());
+                }
+            }
+            summaries.put(preparation.id(), summary);
+            if (summary.getDataSetId() != null) {
+                dataSets.computeIfAbsent(dataSetKey(summary.getDataSetId()), id -> ConcurrentHashMap.newKeySet()).add(preparation.id());
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to index preparation #{}.", preparation.id(), e);
+        }
+    }
+
+    /**
+     * Removes a preparation from the index.
+     *
+     * @param id the preparation id.
+     */
+    synchronized void remove(String id) {
+        final Preparation previous = summaries.remove(id);
+        if (previous != null && previous.getDataSetId() != null) {
+            final String dataSetKey = dataSetKey(previous.getDataSetId());
+            final Set<String> ids = dataSets.get(dataSetKey);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    dataSets.remove(dataSetKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all preparations from the index.
+     */
+    synchronized void clear() {
+        summaries.clear();
+        dataSets.clear();
+    }
+
+    /**
+     * @return The number of indexed preparations.
+     */
+    int size() {
+        return summaries.size();
+    }
+}
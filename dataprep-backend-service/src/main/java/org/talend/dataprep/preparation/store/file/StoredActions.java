@@ -0,0 +1,90 @@
+//  ============================================================================
+//
+//  Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+//  This source code is available under agreement available at
+//  https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+//  You should have received a copy of the agreement
+//  along with this program; if not, write to Talend SA
+//  9 rue Pages 92150 Suresnes, France
+//
+//  ============================================================================
+
+package org.talend.dataprep.preparation.store.file;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.talend.dataprep.api.preparation.Action;
+import org.talend.dataprep.api.preparation.PreparationActions;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * File format of {@link PreparationActions}: either a snapshot (all the actions) or a delta (only the actions appended
+ * to the content of <code>parent</code>). A snapshot has the same format as a serialized {@link PreparationActions}, so
+ * files written before deltas were introduced are read as snapshots.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+class StoredActions {
+
+    /** The actions (all of them for a snapshot, the appended ones for a delta). */
+    @JsonProperty("actions")
+    private final List<Action> actions;
+
+    /** The app version. */
+    @JsonProperty("app-version")
+    private final String appVersion;
+
+    /** Id of the preparation actions this delta applies to, <code>null</code> for a snapshot. */
+    @JsonProperty("parent")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String parent;
+
+    /** Number of deltas to read before reaching a snapshot (0 for a snapshot). */
+    @JsonProperty("depth")
+    private final int depth;
+
+    @JsonCreator
+    StoredActions(@JsonProperty("actions") List<Action> actions, //
+            @JsonProperty("app-version") String appVersion, //
+            @JsonProperty("parent") String parent, //
+            @JsonProperty("depth") int depth) {
+        this.actions = actions == null ? Collections.emptyList() : actions;
+        this.appVersion = appVersion;
+        this.parent = parent;
+        this.depth = depth;
+    }
+
+    /**
+     * @param content the preparation actions to store entirely.
+     * @return A snapshot of <code>content</code>.
+     */
+    static StoredActions snapshot(PreparationActions content) {
+        return new StoredActions(content.getActions(), content.getAppVersion(), null, 0);
+    }
+
+    List<Action> getActions() {
+        return actions;
+    }
+
+    String getAppVersion() {
+        return appVersion;
+    }
+
+    String getParent() {
+        return parent;
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    boolean isSnapshot() {
+        return parent == null;
+    }
+}
@@ -41,6 +41,7 @@ import org.talend.dataprep.api.dataset.row.DataSetRow;
 import org.talend.dataprep.command.dataset.DataSetGet;
 import org.talend.dataprep.exception.TDPException;
 import org.talend.dataprep.exception.error.TransformationErrorCodes;
+import org.talend.dataprep.http.InternalFormat;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -60,6 +61,11 @@ public class DataSetLookupRowMatcher implements DisposableBean, LookupRowMatcher
     @Lazy // needed to prevent a circular dependency
     private ObjectMapper mapper;
 
+    /** The format of the lookup data set content. */
+    @Autowired
+    @Lazy // needed to prevent a circular dependency
+    private InternalFormat internalFormat;
+
     /** The Spring application context. */
     @Autowired
     private WebApplicationContext context;
@@ -98,9 +104,9 @@ public class DataSetLookupRowMatcher implements DisposableBean, LookupRowMatcher
 
         LOGGER.debug("opening {}", datasetId);
 
-        this.input = dataSetGet.execute();
+        this.input = dataSetGet.inInternalFormat().execute();
         try {
-            JsonParser jsonParser = mapper.getFactory().createParser(input);
+            JsonParser jsonParser = internalFormat.createParser(input);
             DataSet lookup = mapper.readerFor(DataSet.class).readValue(jsonParser);
             this.lookupIterator = lookup.getRecords().iterator();
             this.emptyRow = getEmptyRow(lookup.getMetadata().getRowMetadata().getColumns());
@@ -249,6 +249,84 @@ public class FileSystemContentCacheTest {
         Assert.assertTrue(cache.has(key2));
     }
 
+    @Test
+    public void testEntryFileIsNamedAfterKey() throws Exception {
+        // given
+        final ContentCacheKey key = new DummyCacheKey("file name");
+
+        // when
+        addCacheEntry(key, "content", ContentCache.TimeToLive.DEFAULT);
+
+        // then (time to live is not part of the file name)
+        Assert.assertTrue(Paths.get(TEST_DIRECTORY, "cache", key.getKey()).toFile().exists());
+    }
+
+    @Test
+    public void testIndexRebuiltFromDisk() throws Exception {
+        // given
+        final ContentCacheKey key = new DummyCacheKey("rebuild");
+        final ContentCacheKey permanentKey = new DummyCacheKey("rebuild permanent");
+        final ContentCacheKey expiredKey = new DummyCacheKey("rebuild expired");
+        addCacheEntry(key, "content", ContentCache.TimeToLive.DEFAULT);
+        addCacheEntry(permanentKey, "permanent content", ContentCache.TimeToLive.PERMANENT);
+        addCacheEntry(expiredKey, "expired content", ContentCache.TimeToLive.IMMEDIATE);
+        Thread.sleep(ContentCache.TimeToLive.IMMEDIATE.getTime() + 500);
+
+        // when
+        cache = new FileSystemContentCache(TEST_DIRECTORY);
+
+        // then
+        Assert.assertThat(IOUtils.toString(cache.get(key)), is("content"));
+        Assert.assertThat(IOUtils.toString(cache.get(permanentKey)), is("permanent content"));
+        Assert.assertThat(cache.has(expiredKey), is(false));
+        Assert.assertFalse(Paths.get(TEST_DIRECTORY, "cache", expiredKey.getKey()).toFile().exists());
+    }
+
+    @Test
+    public void testMaxEntriesEvictsLeastRecentlyUsed() throws Exception {
+        // given
+        cache = new FileSystemContentCache(TEST_DIRECTORY, 0, 10, EvictionPolicy.LRU);
+        final List<ContentCacheKey> keys = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final ContentCacheKey key = new DummyCacheKey("lru" + i);
+            addCacheEntry(key, "content " + i, DEFAULT);
+            keys.add(key);
+            Thread.sleep(5);
+        }
+        IOUtils.toString(cache.get(keys.get(0))); // keys #1 and #2 are now the least recently used entries
+
+        // when (cache evicts entries down to 90% of its limit)
+        addCacheEntry(new DummyCacheKey("lru10"), "content 10", DEFAULT);
+
+        // then
+        assertThat(cache.has(keys.get(0)), is(true));
+        assertThat(cache.has(keys.get(1)), is(false));
+        assertThat(cache.has(keys.get(2)), is(false));
+        assertThat(cache.has(keys.get(3)), is(true));
+        assertThat(cache.getEntryCount(), is(9L));
+        assertThat(cache.getEvictionCount(), is(2L));
+        assertThat(cache.getHitCount(), is(1L));
+    }
+
+    @Test
+    public void testMaxSizeEvictsBiggestEntries() throws Exception {
+        // given
+        cache = new FileSystemContentCache(TEST_DIRECTORY, 100, 0, EvictionPolicy.SIZE);
+        final ContentCacheKey small = new DummyCacheKey("small");
+        final ContentCacheKey big = new DummyCacheKey("big");
+        addCacheEntry(small, StringUtils.repeat("a", 5), DEFAULT);
+        addCacheEntry(big, StringUtils.repeat("b", 80), DEFAULT);
+        assertThat(cache.getSize(), is(85L));
+
+        // when
+        addCacheEntry(new DummyCacheKey("other"), StringUtils.repeat("c", 20), DEFAULT);
+
+        // then
+        assertThat(cache.has(small), is(true));
+        assertThat(cache.has(big), is(false));
+        assertThat(cache.getSize(), is(25L));
+    }
+
     /**
      * Add the cache entry.
      *
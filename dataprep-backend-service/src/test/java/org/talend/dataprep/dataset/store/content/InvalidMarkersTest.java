@@ -0,0 +1,121 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.dataset.store.content;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.dataset.RowMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
+import org.talend.dataprep.api.type.Type;
+
+/**
+ * Unit test for {@link InvalidMarkers}.
+ */
+public class InvalidMarkersTest {
+
+    private static List<ColumnMetadata> columns(Type secondColumnType) {
+        return Arrays.asList( //
+                ColumnMetadata.Builder.column().id(0).name("id").type(Type.INTEGER).build(), //
+                ColumnMetadata.Builder.column().id(1).name("value").type(secondColumnType).build());
+    }
+
+    @Test
+    public void shouldApplyRecordedMarkers() throws Exception {
+        // given
+        final List<ColumnMetadata> columns = columns(Type.STRING);
+        final InvalidMarkers markers = new InvalidMarkers(columns);
+        for (int i = 0; i < 100; i++) {
+            final DataSetRow row = new DataSetRow(new RowMetadata(columns));
+            if (i % 3 == 0) {
+                row.setInvalid("0000");
+            }
+            if (i == 99) {
+                row.setInvalid("0001");
+            }
+            markers.record(row);
+        }
+
+        // when
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        markers.write(output);
+        final InvalidMarkers read = InvalidMarkers.read(new ByteArrayInputStream(output.toByteArray()));
+
+        // then
+        assertEquals(100, read.getRowCount());
+        final DataSetRow row = new DataSetRow(new RowMetadata(columns));
+        for (int i = 0; i < 100; i++) {
+            row.setInvalid("0001");
+            read.apply(row, i);
+            assertEquals(i % 3 == 0, row.isInvalid("0000"));
+            assertEquals(i == 99, row.isInvalid("0001"));
+        }
+    }
+
+    @Test
+    public void shouldNotApplyPastRecordedRows() throws Exception {
+        // given
+        final List<ColumnMetadata> columns = columns(Type.STRING);
+        final InvalidMarkers markers = new InvalidMarkers(columns);
+        markers.record(new DataSetRow(new RowMetadata(columns)));
+
+        // when
+        final DataSetRow row = new DataSetRow(new RowMetadata(columns));
+        row.setInvalid("0001");
+        final boolean applied = markers.apply(row, 1);
+
+        // then
+        assertFalse(applied);
+        assertTrue(row.isInvalid("0001"));
+    }
+
+    @Test
+    public void shouldApplyOnSelectedColumnsOnly() throws Exception {
+        // given
+        final List<ColumnMetadata> columns = columns(Type.STRING);
+        final InvalidMarkers markers = new InvalidMarkers(columns);
+        final DataSetRow recorded = new DataSetRow(new RowMetadata(columns));
+        recorded.setInvalid("0000");
+        recorded.setInvalid("0001");
+        markers.record(recorded);
+
+        // when
+        final DataSetRow row = new DataSetRow(new RowMetadata(columns));
+        final boolean applied = markers.apply(row, 0, Collections.singleton("0001"));
+
+        // then
+        assertTrue(applied);
+        assertFalse(row.isInvalid("0000"));
+        assertTrue(row.isInvalid("0001"));
+    }
+
+    @Test
+    public void shouldNotBeValidAfterTypeChange() throws Exception {
+        // given
+        final InvalidMarkers markers = new InvalidMarkers(columns(Type.STRING));
+
+        // then
+        assertTrue(markers.isValidFor(columns(Type.STRING)));
+        assertFalse(markers.isValidFor(columns(Type.INTEGER)));
+    }
+}
@@ -13,13 +13,19 @@
 
 package org.talend.dataprep.folder.store.file;
 
+import static org.junit.Assert.assertEquals;
+import static org.talend.dataprep.api.folder.FolderContentType.PREPARATION;
+
 import java.util.Base64;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.junit.Test;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.test.context.TestPropertySource;
+import org.talend.dataprep.api.folder.Folder;
+import org.talend.dataprep.api.folder.FolderEntry;
 import org.talend.dataprep.folder.store.AbstractFolderTest;
 import org.talend.dataprep.folder.store.FolderRepository;
 
@@ -40,6 +46,26 @@ public class FileSystemFolderRepositoryTest extends AbstractFolderTest {
         return folderRepository;
     }
 
+    @Test
+    public void shouldLocateEntriesOfRenamedFolder() {
+        // given
+        final Folder home = folderRepository.getHome();
+        final Folder foo = folderRepository.addFolder(home.getId(), "foo");
+        final Folder bar = folderRepository.addFolder(foo.getId(), "bar");
+        folderRepository.addFolderEntry(new FolderEntry(PREPARATION, "prep-1"), bar.getId());
+
+        // when
+        final Folder renamed = folderRepository.renameFolder(foo.getId(), "baz");
+
+        // then
+        final String barId = pathToId("/baz/bar");
+        assertEquals(barId, folderRepository.locateEntry("prep-1", PREPARATION).getId());
+        assertEquals(1, folderRepository.findFolderEntries("prep-1", PREPARATION).spliterator().getExactSizeIfKnown());
+        assertEquals(1, folderRepository.searchFolders("bar", true).spliterator().getExactSizeIfKnown());
+        assertEquals(renamed.getId(), folderRepository.searchFolders("baz", true).iterator().next().getId());
+        assertEquals(2, folderRepository.size());
+    }
+
     /**
      * @see AbstractFolderTest#pathToId(String)
      */
@@ -0,0 +1,101 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.http;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.talend.dataprep.ServiceBaseTests;
+import org.talend.dataprep.api.preparation.MixedContentMap;
+import org.talend.dataprep.api.preparation.json.MixedContentMapModule;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.restassured.http.ContentType;
+
+public class InternalFormatTest extends ServiceBaseTests {
+
+    @Autowired
+    private InternalFormat internalFormat;
+
+    @Test
+    public void shouldReadSmileContent() throws Exception {
+        // given
+        final byte[] content = new ObjectMapper(InternalFormat.createSmileFactory())
+                .writeValueAsBytes(Collections.singletonMap("name", "value"));
+
+        // when
+        try (JsonParser parser = internalFormat.createParser(new ByteArrayInputStream(content))) {
+            final Map<?, ?> read = parser.readValueAs(Map.class);
+
+            // then
+            assertEquals("value", read.get("name"));
+        }
+    }
+
+    @Test
+    public void shouldReadJsonContent() throws Exception {
+        // given
+        final byte[] content = "{\"name\":\"value\"}".getBytes("UTF-8");
+
+        // when
+        try (JsonParser parser = internalFormat.createParser(new ByteArrayInputStream(content))) {
+            final Map<?, ?> read = parser.readValueAs(Map.class);
+
+            // then
+            assertEquals("value", read.get("name"));
+        }
+    }
+
+    @Test
+    public void shouldReadSmileMixedContent() throws Exception {
+        // given (json values of mixed content can not be written as raw values in Smile)
+        final ObjectMapper smileMapper = new ObjectMapper(InternalFormat.createSmileFactory());
+        smileMapper.registerModule(new MixedContentMapModule());
+        final MixedContentMap parameters = new MixedContentMap();
+        parameters.put("filter", "{\"invalid\":{\"field\":\"0001\"}}");
+        parameters.put("regex", "[A-Za-z0-9]*");
+        final byte[] content = smileMapper.writeValueAsBytes(parameters);
+
+        // when
+        try (JsonParser parser = internalFormat.createParser(new ByteArrayInputStream(content))) {
+            final MixedContentMap read = parser.readValueAs(MixedContentMap.class);
+
+            // then
+            assertEquals("{\"invalid\":{\"field\":\"0001\"}}", read.get("filter"));
+            assertEquals("[A-Za-z0-9]*", read.get("regex"));
+        }
+    }
+
+    @Test
+    public void shouldAnswerJsonByDefault() throws Exception {
+        given().port(port).header("Accept", "*/*") //
+                .expect().statusCode(200).contentType(ContentType.JSON) //
+                .when().get("/version");
+    }
+
+    @Test
+    public void shouldReadEmptyContent() throws Exception {
+        try (JsonParser parser = internalFormat.createParser(new ByteArrayInputStream(new byte[0]))) {
+            assertNull(parser.nextToken());
+        }
+    }
+}
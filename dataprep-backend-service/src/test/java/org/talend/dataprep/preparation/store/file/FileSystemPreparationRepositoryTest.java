@@ -15,11 +15,17 @@ package org.talend.dataprep.preparation.store.file;
 
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import javax.annotation.Resource;
 
@@ -39,6 +45,7 @@ import org.talend.dataprep.preparation.store.PreparationRepository;
 import org.talend.dataprep.preparation.store.PreparationRepositoryTest;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Unit test for the FileSystemPreparationRepository.
@@ -53,6 +60,13 @@ public class FileSystemPreparationRepositoryTest extends PreparationRepositoryTe
     @Resource(name = "rootStep")
     private Step rootStep;
 
+    /** The root content. */
+    @Resource(name = "rootContent")
+    private PreparationActions rootContent;
+
+    @Autowired
+    private ObjectMapper mapper;
+
     @Autowired
     private VersionService versionService;
 
@@ -111,6 +125,151 @@ public class FileSystemPreparationRepositoryTest extends PreparationRepositoryTe
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void shouldReadAppendedActionsStoredAsDeltas() throws IOException {
+        // given (more steps than snapshot interval)
+        final List<PreparationActions> contents = new ArrayList<>();
+        PreparationActions content = rootContent;
+        for (int i = 0; i < 45; i++) {
+            content = content.append(PreparationTest.getSimpleAction("uppercase", "column_name", "col" + i));
+            repository.add(content);
+            contents.add(content);
+        }
+
+        // then
+        for (PreparationActions expected : contents) {
+            assertEquals(expected, repository.get(expected.id(), PreparationActions.class));
+        }
+        assertEquals(1, readStoredActions(contents.get(0).id()).getDepth());
+        assertEquals(1, readStoredActions(contents.get(44).id()).getActions().size());
+        assertTrue(readStoredActions(contents.get(19).id()).isSnapshot());
+        assertEquals(20, readStoredActions(contents.get(19).id()).getActions().size());
+        assertEquals(45, repository.list(PreparationActions.class).filter(contents::contains).count());
+    }
+
+    @Test
+    public void shouldNotRewriteStoredActions() throws IOException {
+        // given
+        final PreparationActions first = rootContent.append(PreparationTest.getSimpleAction("uppercase", "column_name", "col0"));
+        final PreparationActions second = first.append(PreparationTest.getSimpleAction("uppercase", "column_name", "col1"));
+        final PreparationActions third = second.append(PreparationTest.getSimpleAction("uppercase", "column_name", "col2"));
+        repository.add(first);
+        repository.add(second);
+        repository.add(third);
+
+        // when (same actions, without any base)
+        repository.add(new PreparationActions(second.getActions(), second.getAppVersion()));
+
+        // then
+        assertEquals(2, readStoredActions(second.id()).getDepth());
+        assertEquals(third, repository.get(third.id(), PreparationActions.class));
+    }
+
+    @Test
+    public void shouldReadDeltasAfterParentRemoval() throws IOException {
+        // given
+        final PreparationActions first = rootContent.append(PreparationTest.getSimpleAction("uppercase", "column_name", "col0"));
+        final PreparationActions second = first.append(PreparationTest.getSimpleAction("uppercase", "column_name", "col1"));
+        final PreparationActions third = second.append(PreparationTest.getSimpleAction("uppercase", "column_name", "col2"));
+        repository.add(first);
+        repository.add(second);
+        repository.add(third);
+
+        // when
+        repository.remove(second);
+
+        // then
+        assertNull(repository.get(second.id(), PreparationActions.class));
+        assertTrue(readStoredActions(third.id()).isSnapshot());
+        assertEquals(third, repository.get(third.id(), PreparationActions.class));
+    }
+
+    @Test
+    public void shouldMigrateStoredActionsToDeltas() throws IOException {
+        // given (actions stored entirely, as before deltas)
+        final List<PreparationActions> contents = new ArrayList<>();
+        String parentStepId = rootStep.id();
+        List<Action> actions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            actions.addAll(PreparationTest.getSimpleAction("uppercase", "column_name", "col" + i));
+            final PreparationActions content = new PreparationActions(new ArrayList<>(actions),
+                    versionService.version().getVersionId());
+            final Step step = new Step(parentStepId, content.id(), versionService.version().getVersionId());
+            repository.add(content);
+            repository.add(step);
+            contents.add(content);
+            parentStepId = step.id();
+        }
+        assertTrue(readStoredActions(contents.get(4).id()).isSnapshot());
+
+        // when
+        repository.migrateActions();
+
+        // then
+        for (int i = 0; i < contents.size(); i++) {
+            final StoredActions stored = readStoredActions(contents.get(i).id());
+            assertEquals(i + 1, stored.getDepth());
+            assertEquals(1, stored.getActions().size());
+            assertEquals(contents.get(i), repository.get(contents.get(i).id(), PreparationActions.class));
+        }
+    }
+
+    @Test
+    public void shouldNotMigrateSnapshotsWithDeltas() throws IOException {
+        // given (actions stored entirely, then a delta stored on them)
+        final PreparationActions snapshot = new PreparationActions(
+                PreparationTest.getSimpleAction("uppercase", "column_name", "col0"), versionService.version().getVersionId());
+        final PreparationActions delta = snapshot.append(PreparationTest.getSimpleAction("uppercase", "column_name", "col1"));
+        final Step snapshotStep = new Step(rootStep.id(), snapshot.id(), versionService.version().getVersionId());
+        final Step deltaStep = new Step(snapshotStep.id(), delta.id(), versionService.version().getVersionId());
+        repository.add(snapshot);
+        repository.add(delta);
+        repository.add(snapshotStep);
+        repository.add(deltaStep);
+        assertEquals(1, readStoredActions(delta.id()).getDepth());
+
+        // when
+        repository.migrateActions();
+
+        // then
+        assertTrue(readStoredActions(snapshot.id()).isSnapshot());
+        assertEquals(delta, repository.get(delta.id(), PreparationActions.class));
+        assertTrue(new File("target/test/store/preparation/PreparationActions/.migrated-to-deltas").exists());
+    }
+
+    @Test
+    public void shouldGetStepsAndActionsFromMemory() {
+        // given
+        final PreparationActions content = rootContent
+                .append(PreparationTest.getSimpleAction("uppercase", "column_name", "lastname"));
+        final Step step = new Step(rootStep.id(), content.id(), versionService.version().getVersionId());
+        repository.add(content);
+        repository.add(step);
+
+        // when (files are deleted behind repository's back)
+        assertTrue(new File("target/test/store/preparation/Step/Step-" + step.id()).delete());
+        assertTrue(new File("target/test/store/preparation/PreparationActions/PreparationActions-" + content.id()).delete());
+
+        // then
+        assertEquals(step, repository.get(step.id(), Step.class));
+        assertEquals(content, repository.get(content.id(), PreparationActions.class));
+
+        // when (removed through repository)
+        repository.remove(step);
+        repository.remove(content);
+
+        // then
+        assertNull(repository.get(step.id(), Step.class));
+        assertNull(repository.get(content.id(), PreparationActions.class));
+    }
+
+    private StoredActions readStoredActions(String id) throws IOException {
+        final File file = new File("target/test/store/preparation/PreparationActions/PreparationActions-" + id);
+        try (GZIPInputStream input = new GZIPInputStream(new FileInputStream(file))) {
+            return mapper.readerFor(StoredActions.class).readValue(input);
+        }
+    }
+
     @Test
     public void shouldGetOnlyWantedClass() {
         final Step expected = new Step(rootStep.id(), "8rq4868", versionService.version().getVersionId());
@@ -187,6 +346,60 @@ public class FileSystemPreparationRepositoryTest extends PreparationRepositoryTe
         assertTrue(actual.contains(expected));
     }
 
+    @Test
+    public void shouldKeepIndexConsistentOnAddAndRemove() {
+        // given
+        final Preparation preparation = getPreparation("dataset-1");
+        repository.add(preparation);
+        assertTrue(repository.exist(Preparation.class, "dataSetId = 'dataset-1'"));
+
+        // when (preparation moved to another data set)
+        preparation.setDataSetId("dataset-2");
+        repository.add(preparation);
+
+        // then
+        assertFalse(repository.exist(Preparation.class, "dataSetId = 'dataset-1'"));
+        assertEquals(preparation, repository.list(Preparation.class, "dataSetId = 'dataset-2'").findFirst().get());
+        assertEquals(preparation, repository.list(Preparation.class, "name = 'prep-dataset-1'").findFirst().get());
+
+        // when
+        repository.remove(preparation);
+
+        // then
+        assertFalse(repository.exist(Preparation.class, "dataSetId = 'dataset-2'"));
+        assertEquals(0, repository.list(Preparation.class, "name = 'prep-dataset-1'").count());
+    }
+
+    @Test
+    public void shouldFindPreparationsByDataSetIgnoringCase() {
+        // given
+        final Preparation preparation = getPreparation("DataSet-1");
+        repository.add(preparation);
+
+        // then (same result as the TQL evaluation of other filters)
+        assertTrue(repository.exist(Preparation.class, "dataSetId = 'dataset-1'"));
+        assertEquals(preparation, repository.list(Preparation.class, "dataSetId = 'DATASET-1'").findFirst().get());
+        assertEquals(1, repository.list(Preparation.class, "dataSetId = 'dataset-1' and name = 'prep-DataSet-1'").count());
+    }
+
+    @Test
+    public void shouldMoveFilesStoredInRootFolderToTypeFolders() throws IOException {
+        // given (a step stored before types were partitioned)
+        final Step step = new Step(rootStep.id(), "9dsf5486", versionService.version().getVersionId());
+        repository.add(step);
+        final File typeFolderFile = new File("target/test/store/preparation/Step/Step-" + step.id());
+        final File rootFolderFile = new File("target/test/store/preparation/Step-" + step.id());
+        Files.move(typeFolderFile.toPath(), rootFolderFile.toPath());
+
+        // when
+        repository.partition();
+
+        // then
+        assertFalse(rootFolderFile.exists());
+        assertTrue(typeFolderFile.exists());
+        assertEquals(1, repository.list(Step.class).filter(step::equals).count());
+    }
+
 
     /**
      * @param datasetId the preparation id.
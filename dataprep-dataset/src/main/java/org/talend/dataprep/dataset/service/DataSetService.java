@@ -22,6 +22,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
 import static org.springframework.web.bind.annotation.RequestMethod.*;
 import static org.talend.dataprep.exception.error.DataSetErrorCodes.UNABLE_TO_CREATE_OR_UPDATE_DATASET;
+import static org.talend.dataprep.http.InternalFormat.SMILE_VALUE;
 import static org.talend.dataprep.util.SortAndOrderHelper.getDataSetMetadataComparator;
 
 import java.io.IOException;
@@ -49,7 +50,6 @@ import org.talend.dataprep.api.dataset.location.DataSetLocationService;
 import org.talend.dataprep.api.dataset.location.LocalStoreLocation;
 import org.talend.dataprep.api.dataset.location.locator.DataSetLocatorService;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
-import org.talend.dataprep.api.dataset.row.FlagNames;
 import org.talend.dataprep.api.dataset.statistics.SemanticDomain;
 import org.talend.dataprep.api.service.info.VersionService;
 import org.talend.dataprep.api.user.UserData;
@@ -203,17 +203,16 @@ public class DataSetService extends BaseDataSetService {
             final String tqlFilter = predicates.stream().collect(Collectors.joining(" and "));
             LOG.debug("TQL Filter in use: {}", tqlFilter);
 
-            // Get all data sets according to filter
-            try (Stream<DataSetMetadata> stream = dataSetMetadataRepository.list(tqlFilter)) {
-                final Comparator<DataSetMetadata> comparator = getDataSetMetadataComparator(sort, order);
-                return stream.sorted(comparator) //
-                        .map(metadata -> {
-                            if (userData != null) {
-                                metadata.setFavorite(userData.getFavoritesDatasets().contains(metadata.getId()));
-                            }
-                            return metadata;
-                        }) //
-                        .limit(limit ? datasetListLimit : Long.MAX_VALUE) //
+            // Get all data sets according to filter (sorted and limited by repository)
+            final Comparator<DataSetMetadata> comparator = getDataSetMetadataComparator(sort, order);
+            try (Stream<DataSetMetadata> stream = dataSetMetadataRepository.list(tqlFilter, comparator,
+                    limit ? datasetListLimit : Long.MAX_VALUE)) {
+                return stream.map(metadata -> {
+                    if (userData != null) {
+                        metadata.setFavorite(userData.getFavoritesDatasets().contains(metadata.getId()));
+                    }
+                    return metadata;
+                }) //
                         .collect(Collectors.toList());
             }
         };
@@ -332,20 +331,30 @@ public class DataSetService extends BaseDataSetService {
     }
 
     /**
-     * Returns the <b>full</b> data set content for given id.
+     * Returns the data set content for given id: the <b>full</b> content by default, or a page of it when
+     * <code>offset</code>, <code>limit</code> or <code>columns</code> are given.
      *
      * @param metadata If <code>true</code>, includes data set metadata information.
+     * @param includeInternalContent If <code>true</code>, includes internal values of the records.
+     * @param offset Index of the first record to return (0 based).
+     * @param limit Maximum number of records to return (negative for all records).
+     * @param columns Comma separated ids of the columns to include in records (empty for all columns).
      * @param dataSetId A data set id.
-     * @return The full data set.
+     * @return The (paged) data set.
      */
-    @RequestMapping(value = "/datasets/{id}/content", method = RequestMethod.GET, produces = APPLICATION_JSON_VALUE)
+    @RequestMapping(value = "/datasets/{id}/content", method = RequestMethod.GET, produces = { APPLICATION_JSON_VALUE, SMILE_VALUE })
     @ApiOperation(value = "Get a data set by id", notes = "Get a data set content based on provided id. Id should be a UUID returned by the list operation. Not valid or non existing data set id returns empty content.")
     @Timed
     @ResponseBody
     public Callable<DataSet> get(
             @RequestParam(defaultValue = "true") @ApiParam(name = "metadata", value = "Include metadata information in the response") boolean metadata, //
             @RequestParam(defaultValue = "false") @ApiParam(name = "includeInternalContent", value = "Include internal content in the response") boolean includeInternalContent, //
+            @RequestParam(defaultValue = "0") @ApiParam(name = "offset", value = "Index of the first record to return (0 based)") long offset, //
+            @RequestParam(defaultValue = "-1") @ApiParam(name = "limit", value = "Maximum number of records to return (negative for all records)") long limit, //
+            @RequestParam(defaultValue = "") @ApiParam(name = "columns", value = "Comma separated ids of the columns to include in records (all columns if empty)") String columns, //
             @PathVariable(value = "id") @ApiParam(name = "id", value = "Id of the requested data set") String dataSetId) {
+        final Set<String> columnIds = StringUtils.isBlank(columns) ? null
+                : Arrays.stream(columns.split(",")).map(String::trim).filter(StringUtils::isNotEmpty).collect(toSet());
         return () -> {
             final Marker marker = Markers.dataset(dataSetId);
             LOG.debug(marker, "Get data set #{}", dataSetId);
@@ -358,20 +367,12 @@ public class DataSetService extends BaseDataSetService {
                     completeWithUserData(dataSetMetadata);
                     dataSet.setMetadata(dataSetMetadata);
                 }
-                Stream<DataSetRow> stream = contentStore.stream(dataSetMetadata, -1);  // Disable line limit
+                // Only the requested page is read (no line limit by default)
+                Stream<DataSetRow> stream = contentStore.stream(dataSetMetadata, Math.max(offset, 0), limit, columnIds);
                 if (!includeInternalContent) {
                     LOG.debug("Skip internal content when serving data set #{} content.", dataSetId);
-                    stream = stream.map(r -> {
-                        final Map<String, Object> values = r.values();
-                        final Map<String, Object> filteredValues = new HashMap<>(values);
-                        values.forEach((k,v) -> {
-                            if (k != null && k.startsWith(FlagNames.INTERNAL_PROPERTY_PREFIX)) { // Removes technical properties from returned values.
-                                filteredValues.remove(k);
-                            }
-                        });
-                        filteredValues.put(FlagNames.TDP_ID, r.getTdpId()); // Include TDP_ID anyway
-                        return new DataSetRow(r.getRowMetadata(), filteredValues);
-                    });
+                    // Technical properties are removed when rows are written (TDP_ID is included anyway)
+                    stream = stream.map(DataSetRow::withoutInternalValues);
                 }
                 dataSet.setRecords(stream);
                 return dataSet;
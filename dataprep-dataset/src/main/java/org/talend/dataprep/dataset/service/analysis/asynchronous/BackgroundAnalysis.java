@@ -22,6 +22,7 @@ import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.talend.dataprep.api.dataset.ColumnMetadata;
 import org.talend.dataprep.api.dataset.DataSetMetadata;
@@ -29,6 +30,7 @@ import org.talend.dataprep.api.dataset.row.DataSetRow;
 import org.talend.dataprep.dataset.StatisticsAdapter;
 import org.talend.dataprep.dataset.service.analysis.DataSetAnalyzer;
 import org.talend.dataprep.dataset.store.content.ContentStoreRouter;
+import org.talend.dataprep.dataset.store.content.InvalidMarkers;
 import org.talend.dataprep.dataset.store.metadata.DataSetMetadataRepository;
 import org.talend.dataprep.exception.TDPException;
 import org.talend.dataprep.lock.DistributedLock;
@@ -62,6 +64,17 @@ public class BackgroundAnalysis {
     @Autowired
     StatisticsAdapter adapter;
 
+    /** If true, invalid markers are computed once here and kept by content store. */
+    @Value("${dataset.content.store.quality.persist:false}")
+    boolean persistInvalidMarkers;
+
+    /**
+     * If true, schema and advanced statistics are computed with a single read of the data set content (a second read
+     * only happens when the schema computed on the full content differs from the one computed on the sample).
+     */
+    @Value("${dataset.analysis.single.pass:true}")
+    boolean singlePass;
+
     /**
      * @see DataSetAnalyzer#analyze
      */
@@ -86,30 +99,18 @@ public class BackgroundAnalysis {
             if (columns.isEmpty()) {
                 LOGGER.debug("Skip statistics of {} (no column information).", metadata.getId());
             } else {
-                // base analysis
-                try (final Stream<DataSetRow> stream = store.stream(metadata)) {
-                    try (Analyzer<Analyzers.Result> analyzer = analyzerService.schemaAnalysis(columns)) {
-                        computeStatistics(analyzer, columns, stream);
-                        LOGGER.debug("Base statistics analysis done for{}", dataSetId);
-                        // Save base analysis
-                        saveAnalyzerResults(dataSetId, analyzer);
-                    }
-                } catch (Exception e) {
-                    LOGGER.warn("Base statistics analysis, dataset {} generates an error", dataSetId, e);
-                    throw new TDPException(UNABLE_TO_ANALYZE_DATASET_QUALITY, e);
+                if (singlePass) {
+                    singlePassAnalysis(metadata);
+                } else {
+                    twoPassAnalysis(metadata);
                 }
-                // advanced analysis
-                try (final Stream<DataSetRow> stream = store.stream(metadata)) {
-                    try (Analyzer<Analyzers.Result> analyzer = analyzerService.full(columns)) {
-                        computeStatistics(analyzer, columns, stream);
-                        updateNbRecords(metadata, analyzer.getResult());
-                        LOGGER.debug("Advanced statistics analysis done for{}", dataSetId);
-                        // Save advanced analysis
-                        saveAnalyzerResults(dataSetId, analyzer);
+                // invalid markers (computed with final column types, domains and patterns)
+                if (persistInvalidMarkers) {
+                    try {
+                        storeInvalidMarkers(dataSetId);
+                    } catch (Exception e) {
+                        LOGGER.warn("Unable to store invalid markers of dataset {}", dataSetId, e);
                     }
-                } catch (Exception e) {
-                    LOGGER.warn("Advanced statistics analysis, dataset {} generates an error", dataSetId, e);
-                    throw new TDPException(UNABLE_TO_ANALYZE_DATASET_QUALITY, e);
                 }
                 // Tag data set quality: now analyzed
                 DistributedLock datasetLock = repository.createDatasetMetadataLock(metadata.getId());
@@ -130,13 +131,131 @@ public class BackgroundAnalysis {
         }
     }
 
-    private void saveAnalyzerResults(String id, Analyzer<Analyzers.Result> analyzer) {
+    /**
+     * Computes schema analysis on the full content, then advanced statistics with the computed schema (two reads of
+     * the data set content).
+     *
+     * @param metadata the dataset metadata.
+     */
+    private void twoPassAnalysis(DataSetMetadata metadata) {
+        final String dataSetId = metadata.getId();
+        final List<ColumnMetadata> columns = metadata.getRowMetadata().getColumns();
+        // base analysis
+        try (final Stream<DataSetRow> stream = store.stream(metadata)) {
+            try (Analyzer<Analyzers.Result> analyzer = analyzerService.schemaAnalysis(columns)) {
+                computeStatistics(analyzer, columns, stream);
+                LOGGER.debug("Base statistics analysis done for{}", dataSetId);
+                // Save base analysis
+                saveAnalyzerResults(dataSetId, analyzer);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Base statistics analysis, dataset {} generates an error", dataSetId, e);
+            throw new TDPException(UNABLE_TO_ANALYZE_DATASET_QUALITY, e);
+        }
+        advancedAnalysis(metadata, store.stream(metadata));
+    }
+
+    /**
+     * Computes schema analysis and advanced statistics with a single read of the data set content. Advanced analyzers
+     * are configured with the schema computed on the sample (by the synchronous schema analysis): if the schema
+     * computed on the full content is the same, all results are saved at once. Otherwise, schema results are saved
+     * right away and advanced statistics are computed again with the final schema.
+     *
+     * @param metadata the dataset metadata.
+     */
+    private void singlePassAnalysis(DataSetMetadata metadata) {
+        final String dataSetId = metadata.getId();
+        final List<ColumnMetadata> columns = metadata.getRowMetadata().getColumns();
+        final List<ColumnMetadata> sampleSchema = metadata.getRowMetadata().clone().getColumns();
+        boolean sameSchema;
+        try (final Stream<DataSetRow> stream = store.streamWithoutQuality(metadata);
+                Analyzer<Analyzers.Result> schema = analyzerService.sharded(columns, analyzerService::schemaAnalysis);
+                Analyzer<Analyzers.Result> advanced = analyzerService.sharded(columns, analyzerService::full)) {
+            stream.map(row -> row.toArray(DataSetRow.SKIP_TDP_ID)).forEach(values -> {
+                schema.analyze(values);
+                advanced.analyze(values);
+            });
+            schema.end();
+            advanced.end();
+            adapter.adapt(columns, schema.getResult());
+            sameSchema = isSameSchema(sampleSchema, columns);
+            if (sameSchema) {
+                adapter.adapt(columns, advanced.getResult());
+                updateNbRecords(metadata, advanced.getResult());
+                saveAnalyzerResults(dataSetId, schema, advanced);
+                LOGGER.debug("Single pass statistics analysis done for {}", dataSetId);
+            } else {
+                saveAnalyzerResults(dataSetId, schema);
+                LOGGER.debug("Schema of {} differs from sample schema, advanced statistics need another pass.", dataSetId);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Single pass statistics analysis, dataset {} generates an error", dataSetId, e);
+            throw new TDPException(UNABLE_TO_ANALYZE_DATASET_QUALITY, e);
+        }
+        if (!sameSchema) {
+            advancedAnalysis(metadata, store.streamWithoutQuality(metadata));
+        }
+    }
+
+    /**
+     * Computes and saves advanced statistics (with current column types and domains) and number of records.
+     *
+     * @param metadata the dataset metadata.
+     * @param content the data set content (closed by this method).
+     */
+    private void advancedAnalysis(DataSetMetadata metadata, Stream<DataSetRow> content) {
+        final String dataSetId = metadata.getId();
+        final List<ColumnMetadata> columns = metadata.getRowMetadata().getColumns();
+        try (final Stream<DataSetRow> stream = content) {
+            try (Analyzer<Analyzers.Result> analyzer = analyzerService.sharded(columns, analyzerService::full)) {
+                computeStatistics(analyzer, columns, stream);
+                updateNbRecords(metadata, analyzer.getResult());
+                LOGGER.debug("Advanced statistics analysis done for{}", dataSetId);
+                // Save advanced analysis
+                saveAnalyzerResults(dataSetId, analyzer);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Advanced statistics analysis, dataset {} generates an error", dataSetId, e);
+            throw new TDPException(UNABLE_TO_ANALYZE_DATASET_QUALITY, e);
+        }
+    }
+
+    /**
+     * @param expected the columns before analysis.
+     * @param actual the columns after analysis.
+     * @return <code>true</code> if all columns kept their type and domain.
+     */
+    private static boolean isSameSchema(List<ColumnMetadata> expected, List<ColumnMetadata> actual) {
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            final ColumnMetadata before = expected.get(i);
+            final ColumnMetadata after = actual.get(i);
+            if (!StringUtils.equals(before.getType(), after.getType())
+                    || !StringUtils.equals(before.getDomain(), after.getDomain())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adapts analyzers results (in the given order) to the current data set metadata and saves it.
+     *
+     * @param id the dataset id.
+     * @param analyzers the analyzers to get results from.
+     */
+    @SafeVarargs
+    private final void saveAnalyzerResults(String id, Analyzer<Analyzers.Result>... analyzers) {
         DistributedLock datasetLock = repository.createDatasetMetadataLock(id);
         try {
             datasetLock.lock();
             final DataSetMetadata dataSetMetadata = repository.get(id);
             if (dataSetMetadata != null) {
-                adapter.adapt(dataSetMetadata.getRowMetadata().getColumns(), analyzer.getResult());
+                for (Analyzer<Analyzers.Result> analyzer : analyzers) {
+                    adapter.adapt(dataSetMetadata.getRowMetadata().getColumns(), analyzer.getResult());
+                }
                 repository.add(dataSetMetadata);
             }
         } finally {
@@ -144,6 +263,26 @@ public class BackgroundAnalysis {
         }
     }
 
+    /**
+     * Computes and stores the invalid markers of the data set so that content reads no longer need to run quality
+     * analysis.
+     *
+     * @param id the dataset id.
+     */
+    private void storeInvalidMarkers(String id) {
+        final DataSetMetadata dataSetMetadata = repository.get(id);
+        if (dataSetMetadata == null) {
+            return;
+        }
+        final InvalidMarkers invalidMarkers = new InvalidMarkers(dataSetMetadata.getRowMetadata().getColumns());
+        // markers are applied to content reads of any size: record all the rows (not only the sample)
+        try (final Stream<DataSetRow> stream = store.stream(dataSetMetadata, -1)) {
+            stream.forEach(invalidMarkers::record);
+        }
+        store.storeInvalidMarkers(dataSetMetadata, invalidMarkers);
+        LOGGER.debug("Invalid markers stored for {} ({} rows)", id, invalidMarkers.getRowCount());
+    }
+
     /**
      * Update the number of records for the dataset.
      * 
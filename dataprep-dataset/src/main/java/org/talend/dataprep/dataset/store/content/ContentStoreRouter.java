@@ -14,6 +14,7 @@
 package org.talend.dataprep.dataset.store.content;
 
 import java.io.InputStream;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -97,6 +98,42 @@ public class ContentStoreRouter extends DataSetContentStore {
         return target.stream(dataSetMetadata);
     }
 
+    /**
+     * @see DataSetContentStore#stream(DataSetMetadata, long)
+     */
+    @Override
+    public Stream<DataSetRow> stream(DataSetMetadata dataSetMetadata, long limit) {
+        DataSetContentStore target = wrapStore(dataSetMetadata);
+        return target.stream(dataSetMetadata, limit);
+    }
+
+    /**
+     * @see DataSetContentStore#stream(DataSetMetadata, long, long, Set)
+     */
+    @Override
+    public Stream<DataSetRow> stream(DataSetMetadata dataSetMetadata, long offset, long limit, Set<String> columnIds) {
+        DataSetContentStore target = wrapStore(dataSetMetadata);
+        return target.stream(dataSetMetadata, offset, limit, columnIds);
+    }
+
+    /**
+     * @see DataSetContentStore#streamWithoutQuality(DataSetMetadata)
+     */
+    @Override
+    public Stream<DataSetRow> streamWithoutQuality(DataSetMetadata dataSetMetadata) {
+        DataSetContentStore target = wrapStore(dataSetMetadata);
+        return target.streamWithoutQuality(dataSetMetadata);
+    }
+
+    /**
+     * @see DataSetContentStore#storeInvalidMarkers(DataSetMetadata, InvalidMarkers)
+     */
+    @Override
+    public void storeInvalidMarkers(DataSetMetadata dataSetMetadata, InvalidMarkers invalidMarkers) {
+        DataSetContentStore target = wrapStore(dataSetMetadata);
+        target.storeInvalidMarkers(dataSetMetadata, invalidMarkers);
+    }
+
     /**
      * @see DataSetContentStore#clear()
      */
@@ -0,0 +1,126 @@
+//  ============================================================================
+//
+//  Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+//  This source code is available under agreement available at
+//  https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+//  You should have received a copy of the agreement
+//  along with this program; if not, write to Talend SA
+//  9 rue Pages 92150 Suresnes, France
+//
+//  ============================================================================
+
+package org.talend.dataprep.dataset.store.content.file;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Constants and low level helpers shared by {@link ColumnarContentWriter} and {@link ColumnarContentReader}.
+ * <p>
+ * A columnar content file is laid out as:
+ * <ul>
+ * <li>a header: magic number, format version, content signature and column ids,</li>
+ * <li>blocks of rows: each block stores its row count, then all values of the first column, then all values of the
+ * second column...</li>
+ * <li>a row offset index: file offset and row count of each block,</li>
+ * <li>a footer: total row count, index offset and magic number (fixed size so it can be read from the end of file).</li>
+ * </ul>
+ * </p>
+ */
+final class ColumnarContent {
+
+    /** Magic number ("TDPC") at start and end of files. */
+    static final int MAGIC = 0x54445043;
+
+    /** Current version of the file format. */
+    static final byte VERSION = 1;
+
+    /** Size of the footer in bytes (row count, index offset and magic number). */
+    static final int FOOTER_SIZE = 8 + 8 + 4;
+
+    /** Column block where values are stored as UTF-8 strings. */
+    static final byte STRING_ENCODING = 0;
+
+    /** Column block where all values are canonical integers stored as zig-zag variable length longs. */
+    static final byte LONG_ENCODING = 1;
+
+    /** Column block where all values are empty strings (nothing else is stored). */
+    static final byte EMPTY_ENCODING = 2;
+
+    /**
+     * Private constructor for utility class.
+     */
+    private ColumnarContent() {
+    }
+
+    /**
+     * @param value A value to check.
+     * @return <code>true</code> if value can be stored as a long and read back as the exact same string (e.g. "42" but
+     * not "042", "+42" nor "42.0").
+     */
+    static boolean isCanonicalLong(String value) {
+        final int length = value.length();
+        if (length == 0 || length > 18) {
+            return false;
+        }
+        int start = value.charAt(0) == '-' ? 1 : 0;
+        if (start == length) {
+            return false;
+        }
+        if (value.charAt(start) == '0') {
+            // Only "0" is canonical ("-0" and "01" are not).
+            return start == 0 && length == 1;
+        }
+        for (int i = start; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void writeVarInt(DataOutput output, int value) throws IOException {
+        writeVarLong(output, value & 0xFFFFFFFFL);
+    }
+
+    static int readVarInt(DataInput input) throws IOException {
+        return (int) readVarLong(input);
+    }
+
+    static void writeZigZagLong(DataOutput output, long value) throws IOException {
+        writeVarLong(output, (value << 1) ^ (value >> 63));
+    }
+
+    static long readZigZagLong(DataInput input) throws IOException {
+        final long value = readVarLong(input);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutput output, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            if (shift > 63) {
+                throw new IOException("Malformed variable length number.");
+            }
+            current = input.readByte();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,296 @@
+//  ============================================================================
+//
+//  Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+//  This source code is available under agreement available at
+//  https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+//  You should have received a copy of the agreement
+//  along with this program; if not, write to Talend SA
+//  9 rue Pages 92150 Suresnes, France
+//
+//  ============================================================================
+
+package org.talend.dataprep.dataset.store.content.file;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.talend.dataprep.dataset.store.content.file.ColumnarContent.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.talend.dataprep.api.dataset.RowMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
+import org.talend.dataprep.exception.TDPException;
+import org.talend.dataprep.exception.error.DataSetErrorCodes;
+
+/**
+ * Reads {@link DataSetRow rows} from a file in the columnar format described in {@link ColumnarContent}. Rows are
+ * decoded one block at a time and the block index allows to start reading at any row without decoding previous
+ * blocks (see {@link #seek(long)}).
+ */
+class ColumnarContentReader implements Iterator<DataSetRow>, Closeable {
+
+    /** The file channel to read content from. */
+    private final FileChannel channel;
+
+    /** The signature of the content (as given when content was written). */
+    private final String signature;
+
+    /** Ids of the columns in content. */
+    private final String[] columnIds;
+
+    /** Whether values of each column are decoded and returned (see {@link #select(Set)}). */
+    private final boolean[] selected;
+
+    /** Offset of each block in file. */
+    private final long[] blockOffsets;
+
+    /** Index of the first row of each block. */
+    private final long[] blockFirstRows;
+
+    /** Total number of rows in file. */
+    private final long rowCount;
+
+    /** DataSetRow object used to read rows (cleaned and reused at each iteration). */
+    private final DataSetRow row;
+
+    /** Values of the current block (indexed by column then row). */
+    private String[][] block = new String[0][0];
+
+    /** Number of rows in current block. */
+    private int blockRowCount;
+
+    /** Position of the next row to return in current block. */
+    private int blockPosition;
+
+    /** Index of the next block to decode. */
+    private int nextBlock;
+
+    /** Input used to decode blocks (positioned at start of {@link #nextBlock}). */
+    private DataInputStream input;
+
+    /**
+     * @param path The columnar file to read.
+     * @param rowMetadata The row metadata to link to the rows.
+     * @throws IOException If file can't be read or is not a valid columnar file.
+     */
+    ColumnarContentReader(Path path, RowMetadata rowMetadata) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            // Footer
+            final long size = channel.size();
+            if (size < FOOTER_SIZE) {
+                throw new IOException("File '" + path + "' is not a valid columnar content file.");
+            }
+            final ByteBuffer footer = ByteBuffer.allocate(FOOTER_SIZE);
+            while (footer.hasRemaining()) {
+                if (channel.read(footer, size - FOOTER_SIZE + footer.position()) < 0) {
+                    throw new EOFException();
+                }
+            }
+            footer.flip();
+            rowCount = footer.getLong();
+            final long indexOffset = footer.getLong();
+            if (footer.getInt() != MAGIC) {
+                throw new IOException("File '" + path + "' is not a valid columnar content file.");
+            }
+            // Header
+            DataInputStream header = open(0);
+            if (header.readInt() != MAGIC || header.readByte() != VERSION) {
+                throw new IOException("File '" + path + "' is not a supported columnar content file.");
+            }
+            signature = header.readUTF();
+            columnIds = new String[readVarInt(header)];
+            for (int i = 0; i < columnIds.length; i++) {
+                columnIds[i] = header.readUTF();
+            }
+            selected = new boolean[columnIds.length];
+            Arrays.fill(selected, true);
+            // Row offset index
+            DataInputStream index = open(indexOffset);
+            final int blockCount = readVarInt(index);
+            blockOffsets = new long[blockCount];
+            blockFirstRows = new long[blockCount];
+            long firstRow = 0;
+            for (int i = 0; i < blockCount; i++) {
+                blockOffsets[i] = index.readLong();
+                blockFirstRows[i] = firstRow;
+                firstRow += readVarInt(index);
+            }
+            row = new DataSetRow(rowMetadata);
+            seek(0);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private DataInputStream open(long position) throws IOException {
+        channel.position(position);
+        return new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+    }
+
+    /**
+     * @return The signature of the content as given when content was written.
+     */
+    String getSignature() {
+        return signature;
+    }
+
+    /**
+     * @return The total number of rows in content.
+     */
+    long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Restricts returned rows to the values of some columns: values of other columns are skipped without being
+     * decoded. Must be called before {@link #seek(long)}.
+     *
+     * @param selectedColumnIds The ids of the columns to return values of.
+     */
+    void select(Set<String> selectedColumnIds) {
+        for (int i = 0; i < columnIds.length; i++) {
+            selected[i] = selectedColumnIds.contains(columnIds[i]);
+        }
+    }
+
+    /**
+     * Moves this reader so that next call to {@link #next()} returns the row at <code>rowIndex</code> (0 based). Only
+     * the block that contains the row is decoded.
+     *
+     * @param rowIndex The index of the next row to read.
+     * @throws IOException In case of read error.
+     */
+    void seek(long rowIndex) throws IOException {
+        blockRowCount = 0;
+        blockPosition = 0;
+        nextBlock = 0;
+        if (rowIndex >= rowCount) {
+            nextBlock = blockOffsets.length;
+            return;
+        }
+        if (rowIndex > 0) {
+            final int blockIndex = Arrays.binarySearch(blockFirstRows, rowIndex);
+            nextBlock = blockIndex < 0 ? -blockIndex - 2 : blockIndex;
+        }
+        input = open(blockOffsets[nextBlock]);
+        final long firstRow = blockFirstRows[nextBlock];
+        if (rowIndex > firstRow) {
+            readBlock();
+            blockPosition = (int) (rowIndex - firstRow);
+        }
+    }
+
+    /**
+     * Decodes the next block (blocks are contiguous in file, so {@link #input} is already at the right position).
+     */
+    private void readBlock() throws IOException {
+        blockRowCount = readVarInt(input);
+        if (block.length != columnIds.length || (block.length > 0 && block[0].length < blockRowCount)) {
+            block = new String[columnIds.length][blockRowCount];
+        }
+        for (int i = 0; i < block.length; i++) {
+            readColumn(block[i], selected[i]);
+        }
+        blockPosition = 0;
+        nextBlock++;
+    }
+
+    private void readColumn(String[] values, boolean decode) throws IOException {
+        final byte encoding = input.readByte();
+        switch (encoding) {
+        case EMPTY_ENCODING:
+            for (int i = 0; i < blockRowCount && decode; i++) {
+                values[i] = "";
+            }
+            break;
+        case LONG_ENCODING:
+            for (int i = 0; i < blockRowCount; i++) {
+                final long value = readZigZagLong(input);
+                if (decode) {
+                    values[i] = String.valueOf(value);
+                }
+            }
+            break;
+        case STRING_ENCODING:
+            byte[] buffer = new byte[64];
+            for (int i = 0; i < blockRowCount; i++) {
+                final int length = readVarInt(input);
+                if (!decode) {
+                    skip(length);
+                    continue;
+                }
+                if (buffer.length < length) {
+                    buffer = new byte[length];
+                }
+                input.readFully(buffer, 0, length);
+                values[i] = new String(buffer, 0, length, UTF_8);
+            }
+            break;
+        default:
+            throw new IOException("Unknown column encoding: " + encoding);
+        }
+    }
+
+    private void skip(int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            final int skipped = input.skipBytes(remaining);
+            if (skipped > 0) {
+                remaining -= skipped;
+            } else {
+                input.readByte(); // throws EOFException at end of file
+                remaining--;
+            }
+        }
+    }
+
+    /**
+     * @see Iterator#hasNext()
+     */
+    @Override
+    public boolean hasNext() {
+        return blockPosition < blockRowCount || nextBlock < blockOffsets.length;
+    }
+
+    /**
+     * @see Iterator#next()
+     */
+    @Override
+    public DataSetRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            if (blockPosition == blockRowCount) {
+                readBlock();
+            }
+        } catch (IOException e) {
+            throw new TDPException(DataSetErrorCodes.UNABLE_TO_READ_DATASET_CONTENT, e);
+        }
+        row.clear();
+        for (int i = 0; i < columnIds.length; i++) {
+            if (selected[i]) {
+                row.set(columnIds[i], block[i][blockPosition]);
+            }
+        }
+        blockPosition++;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
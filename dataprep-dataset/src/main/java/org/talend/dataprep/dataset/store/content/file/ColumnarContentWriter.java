@@ -0,0 +1,163 @@
+//  ============================================================================
+//
+//  Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+//  This source code is available under agreement available at
+//  https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+//  You should have received a copy of the agreement
+//  along with this program; if not, write to Talend SA
+//  9 rue Pages 92150 Suresnes, France
+//
+//  ============================================================================
+
+package org.talend.dataprep.dataset.store.content.file;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.talend.dataprep.dataset.store.content.file.ColumnarContent.*;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.output.CountingOutputStream;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
+
+/**
+ * Writes {@link DataSetRow rows} in the columnar format described in {@link ColumnarContent}.
+ */
+class ColumnarContentWriter implements Closeable {
+
+    /** Counts written bytes so that block offsets can be indexed. */
+    private final CountingOutputStream counter;
+
+    /** The output to write content to. */
+    private final DataOutputStream output;
+
+    /** Ids of the columns to write (in this order). */
+    private final String[] columnIds;
+
+    /** Values of the current block (indexed by column then row). */
+    private final String[][] block;
+
+    /** Number of rows in each block. */
+    private final int blockSize;
+
+    /** File offset of each written block. */
+    private final List<Long> blockOffsets = new ArrayList<>();
+
+    /** Row count of each written block. */
+    private final List<Integer> blockSizes = new ArrayList<>();
+
+    /** Number of rows in current block. */
+    private int blockRowCount;
+
+    /** Total number of written rows. */
+    private long rowCount;
+
+    /**
+     * @param outputStream Where content is written to.
+     * @param signature A signature of the written content (to check if content is still up to date when read).
+     * @param columnIds Ids of the columns to write.
+     * @param blockSize Number of rows in each block.
+     * @throws IOException In case of write error.
+     */
+    ColumnarContentWriter(OutputStream outputStream, String signature, List<String> columnIds, int blockSize)
+            throws IOException {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive.");
+        }
+        this.counter = new CountingOutputStream(new BufferedOutputStream(outputStream));
+        this.output = new DataOutputStream(counter);
+        this.columnIds = columnIds.toArray(new String[columnIds.size()]);
+        this.blockSize = blockSize;
+        this.block = new String[this.columnIds.length][blockSize];
+        // Header
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+        output.writeUTF(signature);
+        writeVarInt(output, this.columnIds.length);
+        for (String columnId : this.columnIds) {
+            output.writeUTF(columnId);
+        }
+    }
+
+    /**
+     * Adds a row to the content.
+     *
+     * @param row The row to write, only values of the columns given at construction time are written.
+     * @throws IOException In case of write error.
+     */
+    void write(DataSetRow row) throws IOException {
+        for (int i = 0; i < columnIds.length; i++) {
+            final String value = row.get(columnIds[i]);
+            block[i][blockRowCount] = value == null ? "" : value;
+        }
+        blockRowCount++;
+        rowCount++;
+        if (blockRowCount == blockSize) {
+            flushBlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRowCount == 0) {
+            return;
+        }
+        blockOffsets.add(counter.getByteCount());
+        blockSizes.add(blockRowCount);
+        writeVarInt(output, blockRowCount);
+        for (String[] columnValues : block) {
+            writeColumn(columnValues);
+        }
+        blockRowCount = 0;
+    }
+
+    private void writeColumn(String[] values) throws IOException {
+        boolean allEmpty = true;
+        boolean allLongs = true;
+        for (int i = 0; i < blockRowCount && (allEmpty || allLongs); i++) {
+            allEmpty &= values[i].isEmpty();
+            allLongs &= isCanonicalLong(values[i]);
+        }
+        if (allEmpty) {
+            output.writeByte(EMPTY_ENCODING);
+        } else if (allLongs) {
+            output.writeByte(LONG_ENCODING);
+            for (int i = 0; i < blockRowCount; i++) {
+                writeZigZagLong(output, Long.parseLong(values[i]));
+            }
+        } else {
+            output.writeByte(STRING_ENCODING);
+            for (int i = 0; i < blockRowCount; i++) {
+                final byte[] bytes = values[i].getBytes(UTF_8);
+                writeVarInt(output, bytes.length);
+                output.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining rows, the row offset index and the footer, then closes the underlying output.
+     *
+     * @throws IOException In case of write error.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBlock();
+            final long indexOffset = counter.getByteCount();
+            writeVarInt(output, blockOffsets.size());
+            for (int i = 0; i < blockOffsets.size(); i++) {
+                output.writeLong(blockOffsets.get(i));
+                writeVarInt(output, blockSizes.get(i));
+            }
+            output.writeLong(rowCount);
+            output.writeLong(indexOffset);
+            output.writeInt(MAGIC);
+            output.flush();
+        } finally {
+            output.close();
+        }
+    }
+}
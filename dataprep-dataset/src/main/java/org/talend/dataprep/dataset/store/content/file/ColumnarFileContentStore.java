@@ -0,0 +1,254 @@
+//  ============================================================================
+//
+//  Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+//  This source code is available under agreement available at
+//  https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+//  You should have received a copy of the agreement
+//  along with this program; if not, write to Talend SA
+//  9 rue Pages 92150 Suresnes, France
+//
+//  ============================================================================
+
+package org.talend.dataprep.dataset.store.content.file;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.dataset.DataSetContent;
+import org.talend.dataprep.api.dataset.DataSetMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
+import org.talend.dataprep.exception.TDPException;
+import org.talend.dataprep.exception.error.CommonErrorCodes;
+import org.talend.dataprep.log.Markers;
+
+/**
+ * Local dataset content that stores raw content in files (see {@link LocalFileContentStore}) and keeps, next to each
+ * raw file, a columnar binary copy of the content. The columnar copy is built once (the first time rows are read,
+ * which happens during data set import) and then serves all {@link #stream(DataSetMetadata, long)} calls without
+ * parsing the raw content nor going through JSON.
+ * <p>
+ * Columnar copy is rebuilt if the raw content or any metadata used to parse it (format, encoding, parameters, sheet,
+ * columns) changes.
+ * </p>
+ */
+@Component("ContentStore#local")
+@ConditionalOnProperty(name = "dataset.content.store", havingValue = "columnar", matchIfMissing = false)
+public class ColumnarFileContentStore extends LocalFileContentStore {
+
+    /** This class' logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ColumnarFileContentStore.class);
+
+    /** Extension of the columnar copy of the raw content. */
+    private static final String COLUMNAR_EXTENSION = ".columnar"; //$NON-NLS-1$
+
+    /** Number of rows in each block of the columnar files. */
+    @Value("${dataset.content.store.columnar.block.size:1024}")
+    private int blockSize;
+
+    /**
+     * @param dataSetMetadata A data set metadata.
+     * @return The file that holds the columnar copy of the data set content.
+     */
+    private File getColumnarFile(DataSetMetadata dataSetMetadata) {
+        final File rawFile = getFile(dataSetMetadata);
+        return new File(rawFile.getParentFile(), rawFile.getName() + COLUMNAR_EXTENSION);
+    }
+
+    @Override
+    public void storeAsRaw(DataSetMetadata dataSetMetadata, InputStream dataSetContent) {
+        deleteColumnarFile(dataSetMetadata);
+        super.storeAsRaw(dataSetMetadata, dataSetContent);
+    }
+
+    @Override
+    public void delete(DataSetMetadata dataSetMetadata) {
+        super.delete(dataSetMetadata);
+        deleteColumnarFile(dataSetMetadata);
+    }
+
+    private void deleteColumnarFile(DataSetMetadata dataSetMetadata) {
+        try {
+            Files.deleteIfExists(getColumnarFile(dataSetMetadata).toPath());
+        } catch (IOException e) {
+            LOGGER.warn(Markers.dataset(dataSetMetadata.getId()), "Unable to delete columnar content.", e);
+        }
+    }
+
+    /**
+     * Serves rows from the columnar copy of the content (builds it first if needed). Falls back to default
+     * implementation if data set can not be parsed yet (e.g. format not yet analyzed or draft data set).
+     *
+     * @see org.talend.dataprep.dataset.store.content.DataSetContentStore#readRows(DataSetMetadata, long)
+     */
+    @Override
+    protected Stream<DataSetRow> readRows(DataSetMetadata dataSetMetadata, long limit) {
+        if (!isConvertible(dataSetMetadata)) {
+            return super.readRows(dataSetMetadata, limit);
+        }
+        final ColumnarContentReader reader = getReader(dataSetMetadata);
+        if (reader == null) {
+            return super.readRows(dataSetMetadata, limit);
+        }
+        return stream(reader, limit);
+    }
+
+    /**
+     * Serves a page of rows by seeking in the columnar copy of the content: only the blocks that hold the page are
+     * read, and values of columns that are not selected are skipped without being decoded. Falls back to paging of raw
+     * content if columnar content can not be used.
+     *
+     * @see org.talend.dataprep.dataset.store.content.DataSetContentStore#readRows(DataSetMetadata, long, long, Set)
+     */
+    @Override
+    protected Stream<DataSetRow> readRows(DataSetMetadata dataSetMetadata, long offset, long limit, Set<String> columnIds) {
+        if (offset <= 0 && columnIds == null) {
+            return readRows(dataSetMetadata, limit);
+        }
+        final ColumnarContentReader reader = isConvertible(dataSetMetadata) ? getReader(dataSetMetadata) : null;
+        if (reader == null) {
+            return page(super.readRows(dataSetMetadata, limit < 0 ? -1 : offset + limit), offset, columnIds);
+        }
+        try {
+            if (columnIds != null) {
+                reader.select(columnIds);
+            }
+            reader.seek(Math.max(offset, 0));
+        } catch (IOException e) {
+            try {
+                reader.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new TDPException(CommonErrorCodes.UNEXPECTED_EXCEPTION, e);
+        }
+        return stream(reader, limit);
+    }
+
+    /**
+     * @return A stream of the next <code>limit</code> rows of the reader (all rows if <code>limit</code> is negative)
+     * that closes the reader on close.
+     */
+    private static Stream<DataSetRow> stream(ColumnarContentReader reader, long limit) {
+        final Iterable<DataSetRow> rowIterable = () -> reader;
+        Stream<DataSetRow> rows = StreamSupport.stream(rowIterable.spliterator(), false).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new TDPException(CommonErrorCodes.UNEXPECTED_EXCEPTION, e);
+            }
+        });
+        if (limit >= 0) {
+            rows = rows.limit(limit);
+        }
+        return rows;
+    }
+
+    /**
+     * @param dataSetMetadata A data set metadata.
+     * @return <code>true</code> if content of this data set can be read using its format (and hence be converted).
+     */
+    private boolean isConvertible(DataSetMetadata dataSetMetadata) {
+        final String formatFamilyId = dataSetMetadata.getContent().getFormatFamilyId();
+        return !dataSetMetadata.isDraft() //
+                && formatFamilyId != null //
+                && factory.hasFormatFamily(formatFamilyId) //
+                && dataSetMetadata.getRowMetadata() != null //
+                && !dataSetMetadata.getRowMetadata().getColumns().isEmpty();
+    }
+
+    /**
+     * Returns a reader on an up to date columnar copy of the content, builds it if it's missing or out of date.
+     *
+     * @param dataSetMetadata A data set metadata.
+     * @return A reader on columnar content or <code>null</code> if columnar content could not be built.
+     */
+    private ColumnarContentReader getReader(DataSetMetadata dataSetMetadata) {
+        final Marker marker = Markers.dataset(dataSetMetadata.getId());
+        final File columnarFile = getColumnarFile(dataSetMetadata);
+        final String signature = getSignature(dataSetMetadata);
+        try {
+            if (columnarFile.exists()) {
+                final ColumnarContentReader reader = new ColumnarContentReader(columnarFile.toPath(),
+                        dataSetMetadata.getRowMetadata());
+                if (signature.equals(reader.getSignature())) {
+                    return reader;
+                }
+                LOGGER.debug(marker, "Columnar content is out of date.");
+                reader.close();
+            }
+            convert(dataSetMetadata, columnarFile, signature);
+            return new ColumnarContentReader(columnarFile.toPath(), dataSetMetadata.getRowMetadata());
+        } catch (Exception e) {
+            LOGGER.warn(marker, "Unable to use columnar content, fall back to raw content.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Converts raw content to a columnar file. Conversion is written in a temporary file then moved to the final
+     * location so concurrent readers never see a partial file.
+     */
+    private void convert(DataSetMetadata dataSetMetadata, File columnarFile, String signature) throws IOException {
+        final Marker marker = Markers.dataset(dataSetMetadata.getId());
+        LOGGER.debug(marker, "Converting content to columnar format...");
+        final long start = System.currentTimeMillis();
+        final File temporaryFile = new File(columnarFile.getParentFile(), columnarFile.getName() + '.' + UUID.randomUUID());
+        final List<String> columnIds = dataSetMetadata.getRowMetadata().getColumns().stream() //
+                .map(ColumnMetadata::getId) //
+                .collect(Collectors.toList());
+        try {
+            try (Stream<DataSetRow> rows = super.readRows(dataSetMetadata, -1);
+                    ColumnarContentWriter writer = new ColumnarContentWriter(new FileOutputStream(temporaryFile), signature,
+                            columnIds, blockSize)) {
+                for (DataSetRow row : (Iterable<DataSetRow>) rows::iterator) {
+                    writer.write(row);
+                }
+            }
+            Files.move(temporaryFile.toPath(), columnarFile.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+            LOGGER.debug(marker, "Converted content to columnar format in {} ms.", System.currentTimeMillis() - start);
+        } finally {
+            Files.deleteIfExists(temporaryFile.toPath());
+        }
+    }
+
+    /**
+     * @param dataSetMetadata A data set metadata.
+     * @return A signature of all the information used to parse raw content: any change in it means columnar content
+     * must be rebuilt.
+     */
+    private String getSignature(DataSetMetadata dataSetMetadata) {
+        final File rawFile = getFile(dataSetMetadata);
+        final DataSetContent content = dataSetMetadata.getContent();
+        final StringBuilder signature = new StringBuilder();
+        signature.append(rawFile.length()).append('|').append(rawFile.lastModified()) //
+                .append('|').append(content.getFormatFamilyId()) //
+                .append('|').append(dataSetMetadata.getEncoding()) //
+                .append('|').append(dataSetMetadata.getSheetName()) //
+                .append('|').append(content.getNbLinesInHeader()) //
+                .append('|').append(new TreeMap<>(content.getParameters()));
+        for (ColumnMetadata column : dataSetMetadata.getRowMetadata().getColumns()) {
+            signature.append('|').append(column.getId()).append(':').append(column.getHeaderSize());
+        }
+        return DigestUtils.sha1Hex(signature.toString());
+    }
+}
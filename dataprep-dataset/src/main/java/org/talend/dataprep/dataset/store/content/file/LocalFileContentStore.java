@@ -13,11 +13,16 @@
 
 package org.talend.dataprep.dataset.store.content.file;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.talend.daikon.exception.ExceptionContext.build;
 
 import java.io.*;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.annotation.PostConstruct;
 
@@ -31,6 +36,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.talend.dataprep.api.dataset.DataSetMetadata;
 import org.talend.dataprep.dataset.store.content.DataSetContentStore;
+import org.talend.dataprep.dataset.store.content.InvalidMarkers;
 import org.talend.dataprep.exception.TDPException;
 import org.talend.dataprep.exception.error.DataSetErrorCodes;
 import org.talend.dataprep.log.Markers;
@@ -46,9 +52,16 @@ public class LocalFileContentStore extends DataSetContentStore {
     /** This class' logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger(LocalFileContentStore.class);
 
+    /** Extension of the file that holds the invalid markers of a data set. */
+    private static final String INVALID_MARKERS_EXTENSION = ".invalid"; //$NON-NLS-1$
+
     @Value("${dataset.content.store.file.location}")
     private String storeLocation;
 
+    /** If true, invalid markers computed at import are kept next to content (instead of computed on each read). */
+    @Value("${dataset.content.store.quality.persist:false}")
+    private boolean persistInvalidMarkers;
+
     @PostConstruct
     public void init() {
         if (storeLocation == null) {
@@ -60,13 +73,18 @@ public class LocalFileContentStore extends DataSetContentStore {
         LOGGER.info("Content store location: {}", storeLocation);
     }
 
-    private File getFile(DataSetMetadata dataSetMetadata) {
+    protected File getFile(DataSetMetadata dataSetMetadata) {
         return new File(storeLocation + dataSetMetadata.getId());
     }
 
+    private File getInvalidMarkersFile(DataSetMetadata dataSetMetadata) {
+        return new File(storeLocation + dataSetMetadata.getId() + INVALID_MARKERS_EXTENSION);
+    }
+
     @Override
     public void storeAsRaw(DataSetMetadata dataSetMetadata, InputStream dataSetContent) {
         final Marker marker = Markers.dataset(dataSetMetadata.getId());
+        deleteInvalidMarkers(dataSetMetadata);
         try {
             File dataSetFile = getFile(dataSetMetadata);
             FileUtils.touch(dataSetFile);
@@ -95,6 +113,51 @@ public class LocalFileContentStore extends DataSetContentStore {
         } catch (IOException e) {
             throw new TDPException(DataSetErrorCodes.UNABLE_TO_DELETE_DATASET, e, build().put("dataSetId", dataSetMetadata.getId()));
         }
+        deleteInvalidMarkers(dataSetMetadata);
+    }
+
+    @Override
+    protected InvalidMarkers getInvalidMarkers(DataSetMetadata dataSetMetadata) {
+        final File file = getInvalidMarkersFile(dataSetMetadata);
+        if (!persistInvalidMarkers || !file.exists()) {
+            return null;
+        }
+        try (InputStream input = new GZIPInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return InvalidMarkers.read(input);
+        } catch (IOException e) {
+            LOGGER.warn(Markers.dataset(dataSetMetadata.getId()), "Unable to read invalid markers.", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void storeInvalidMarkers(DataSetMetadata dataSetMetadata, InvalidMarkers invalidMarkers) {
+        if (!persistInvalidMarkers) {
+            return;
+        }
+        final Marker marker = Markers.dataset(dataSetMetadata.getId());
+        final File file = getInvalidMarkersFile(dataSetMetadata);
+        // write to a temporary file first so concurrent readers never see partial markers
+        final File temporaryFile = new File(file.getParentFile(), file.getName() + '.' + UUID.randomUUID());
+        try {
+            try (OutputStream output = new GZIPOutputStream(new FileOutputStream(temporaryFile))) {
+                invalidMarkers.write(output);
+            }
+            Files.move(temporaryFile.toPath(), file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+            LOGGER.debug(marker, "Invalid markers stored to '{}'.", file);
+        } catch (IOException e) {
+            LOGGER.warn(marker, "Unable to store invalid markers.", e);
+        } finally {
+            temporaryFile.delete();
+        }
+    }
+
+    private void deleteInvalidMarkers(DataSetMetadata dataSetMetadata) {
+        try {
+            Files.deleteIfExists(getInvalidMarkersFile(dataSetMetadata).toPath());
+        } catch (IOException e) {
+            LOGGER.warn(Markers.dataset(dataSetMetadata.getId()), "Unable to delete invalid markers.", e);
+        }
     }
 
     @Override
@@ -14,6 +14,7 @@
 package org.talend.dataprep.dataset.store.metadata;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -46,6 +47,19 @@ public interface DataSetMetadataRepository {
      */
     Stream<DataSetMetadata> list(String filter);
 
+    /**
+     * Returns the first {@link DataSetMetadata} that match given filter in <code>comparator</code> order.
+     *
+     * @param filter A TQL filter (i.e. storage-agnostic)
+     * @param comparator The order of returned {@link DataSetMetadata}. Implementations may sort on a summary of the
+     * metadata, so comparator should not rely on column statistics.
+     * @param limit The maximum number of {@link DataSetMetadata} to return.
+     * @return The {@link DataSetMetadata} that match <code>filter</code>, sorted and limited.
+     */
+    default Stream<DataSetMetadata> list(String filter, Comparator<DataSetMetadata> comparator, long limit) {
+        return list(filter).sorted(comparator).limit(limit);
+    }
+
     /**
      * <p>
      * Creates a new {@link DataSetMetadata data set}. If a previous one already exists, it will be updated by this
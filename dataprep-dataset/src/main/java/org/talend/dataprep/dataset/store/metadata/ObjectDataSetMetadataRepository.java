@@ -16,11 +16,17 @@ public abstract class ObjectDataSetMetadataRepository extends DataSetMetadataRep
 
     protected abstract Stream<DataSetMetadata> source();
 
+    /**
+     * @param filter A TQL filter.
+     * @return A predicate that tests a {@link DataSetMetadata} against <code>filter</code>.
+     */
+    protected static Predicate<Object> toPredicate(String filter) {
+        return (Predicate<Object>) Tql.parse(filter).accept(new ObjectPredicateVisitor(DataSetMetadata.class));
+    }
+
     @Override
     public boolean exist(String filter) {
-        final Predicate<Object> accept = (Predicate<Object>) Tql.parse(filter)
-                .accept(new ObjectPredicateVisitor(DataSetMetadata.class));
-        return source().filter(accept).findAny().isPresent();
+        return source().filter(toPredicate(filter)).findAny().isPresent();
     }
 
     @Override
@@ -30,9 +36,7 @@ public abstract class ObjectDataSetMetadataRepository extends DataSetMetadataRep
 
     @Override
     public Stream<DataSetMetadata> list(String filter) {
-        final Predicate<Object> accept = (Predicate<Object>) Tql.parse(filter)
-                .accept(new ObjectPredicateVisitor(DataSetMetadata.class));
-        return source().filter(accept);
+        return source().filter(toPredicate(filter));
     }
 
     @Override
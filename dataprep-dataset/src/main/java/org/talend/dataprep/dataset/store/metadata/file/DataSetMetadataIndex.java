@@ -0,0 +1,241 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.dataset.store.metadata.file;
+
+import static java.util.Collections.emptyList;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.talend.dataprep.api.dataset.ColumnMetadata;
+import org.talend.dataprep.api.dataset.DataSetMetadata;
+import org.talend.dataprep.api.dataset.statistics.Statistics;
+import org.talend.dataprep.util.FilesHelper;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * <p>
+ * In-memory index of the data set metadata stored in a folder, so that filters and sorts do not need to read all the
+ * metadata files.
+ * </p>
+ * <p>
+ * The index holds a summary of each metadata: the metadata without column statistics nor semantic domains (which can
+ * not be reached by a TQL filter as columns are a list). The index is kept up to date by the repository on add and
+ * remove, and compared with the last modification date and size of the files before each use, so that files changed
+ * outside of the repository are read again. The index is saved in a hidden file of the folder on shutdown so that a
+ * restart only reads the files modified in between.
+ * </p>
+ */
+class DataSetMetadataIndex {
+
+    /** This class' logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(DataSetMetadataIndex.class);
+
+    /** Name of the index file (hidden so that it is not read as a metadata). */
+    private static final String INDEX_FILE_NAME = ".index";
+
+    /** Statistics of all the columns in summaries. */
+    private static final Statistics NO_STATISTICS = new Statistics();
+
+    /** The folder where metadata are stored. */
+    private final File folder;
+
+    /** The dataprep ready jackson builder. */
+    private final ObjectMapper mapper;
+
+    /** Reads the metadata with the given id from its file. */
+    private final Function<String, DataSetMetadata> reader;
+
+    /** Index entries by data set id. */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param folder the folder where metadata are stored.
+     * @param mapper the jackson mapper used to read and write metadata.
+     * @param reader reads the metadata with the given id from its file.
+     */
+    DataSetMetadataIndex(File folder, ObjectMapper mapper, Function<String, DataSetMetadata> reader) {
+        this.folder = folder;
+        this.mapper = mapper;
+        this.reader = reader;
+    }
+
+    /**
+     * Loads the index saved on disk (if any), then reads the metadata files modified since it was saved.
+     */
+    void load() {
+        final File indexFile = new File(folder, INDEX_FILE_NAME);
+        if (indexFile.exists()) {
+            try (GZIPInputStream input = new GZIPInputStream(new FileInputStream(indexFile))) {
+                final List<Entry> saved = mapper.readerFor(new TypeReference<List<Entry>>() {
+                }).readValue(input);
+                saved.forEach(entry -> {
+                    strip(entry.metadata);
+                    entries.put(entry.metadata.getId(), entry);
+                });
+            } catch (IOException e) {
+                LOG.warn("Unable to read data set metadata index {}, index is rebuilt.", indexFile, e);
+                entries.clear();
+            }
+        }
+        refresh();
+        LOG.info("{} data set metadata indexed.", entries.size());
+    }
+
+    /**
+     * Saves the index in the metadata folder.
+     */
+    void save() {
+        final File indexFile = new File(folder, INDEX_FILE_NAME);
+        final File tempFile = new File(folder, INDEX_FILE_NAME + ".tmp");
+        try {
+            try (GZIPOutputStream output = new GZIPOutputStream(new FileOutputStream(tempFile))) {
+                mapper.writer().writeValue(output, new ArrayList<>(entries.values()));
+            }
+            Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Unable to save data set metadata index {}.", indexFile, e);
+            FilesHelper.deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * Updates the index with files added, modified or removed since last refresh.
+     */
+    synchronized void refresh() {
+        final File[] files = folder.listFiles();
+        if (files == null) {
+            entries.clear();
+            return;
+        }
+        final Set<String> ids = new HashSet<>(files.length);
+        for (File file : files) {
+            final String id = file.getName();
+            if (id.startsWith(".")) {
+                continue;
+            }
+            ids.add(id);
+            final Entry entry = entries.get(id);
+            if (entry == null || entry.lastModified != file.lastModified() || entry.length != file.length()) {
+                final DataSetMetadata metadata = reader.apply(id);
+                if (metadata == null) {
+                    entries.remove(id);
+                } else {
+                    put(metadata, file);
+                }
+            }
+        }
+        entries.keySet().retainAll(ids);
+    }
+
+    /**
+     * @return The summaries of all the metadata (metadata without column statistics).
+     */
+    Stream<DataSetMetadata> summaries() {
+        refresh();
+        return entries.values().stream().map(entry -> entry.metadata);
+    }
+
+    /**
+     * @return The number of indexed metadata.
+     */
+    int size() {
+        refresh();
+        return entries.size();
+    }
+
+    /**
+     * Indexes a metadata that was just saved.
+     *
+     * @param metadata the saved metadata.
+     * @param file the file the metadata was saved to.
+     */
+    void put(DataSetMetadata metadata, File file) {
+        try {
+            // copy metadata as columns are stripped from their statistics
+            final DataSetMetadata summary = mapper.readerFor(DataSetMetadata.class)
+                    .readValue(mapper.writer().writeValueAsBytes(metadata));
+            summary.setSharedDataSet(metadata.isSharedDataSet());
+            summary.setOwner(metadata.getOwner());
+            strip(summary);
+            entries.put(metadata.getId(), new Entry(summary, file.lastModified(), file.length()));
+        } catch (IOException e) {
+            LOG.warn("Unable to index data set metadata #{}.", metadata.getId(), e);
+            entries.remove(metadata.getId());
+        }
+    }
+
+    /**
+     * Removes a metadata from the index.
+     *
+     * @param id the data set id.
+     */
+    void remove(String id) {
+        entries.remove(id);
+    }
+
+    private static void strip(DataSetMetadata metadata) {
+        if (metadata.getRowMetadata() != null) {
+            for (ColumnMetadata column : metadata.getRowMetadata().getColumns()) {
+                column.setStatistics(NO_STATISTICS);
+                column.setSemanticDomains(emptyList());
+            }
+        }
+    }
+
+    /**
+     * A summary of a metadata, with the last modification date and size of the file it was read from.
+     */
+    static class Entry {
+
+        @JsonProperty("metadata")
+        private final DataSetMetadata metadata;
+
+        @JsonProperty("lastModified")
+        private final long lastModified;
+
+        @JsonProperty("length")
+        private final long length;
+
+        @JsonCreator
+        Entry(@JsonProperty("metadata") DataSetMetadata metadata, //
+                @JsonProperty("lastModified") long lastModified, //
+                @JsonProperty("length") long length) {
+            this.metadata = metadata;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+}
@@ -19,12 +19,15 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,7 +50,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * File system implementation of the DataSetMetadataRepository.
  *
- * DatasetMetadata are saved as gzipped json files.
+ * DatasetMetadata are saved as gzipped json files. Filters, sorts and counts are performed on an in-memory index of the
+ * metadata (see {@link DataSetMetadataIndex}), so only the matching metadata files are read.
  */
 @Component
 @ConditionalOnProperty(name = "dataset.metadata.store", havingValue = "file")
@@ -69,6 +73,9 @@ public class FileSystemDataSetMetadataRepository extends ObjectDataSetMetadataRe
     @Value("${dataset.metadata.store.file.location}")
     private String storeLocation;
 
+    /** Index of the stored metadata. */
+    private DataSetMetadataIndex index;
+
     @PostConstruct
     private void init() {
         try {
@@ -76,6 +83,13 @@ public class FileSystemDataSetMetadataRepository extends ObjectDataSetMetadataRe
         } catch (IOException e) {
             throw new IllegalStateException("unable to create dataset metadata store folder", e);
         }
+        index = new DataSetMetadataIndex(getRootFolder(), mapper, this::get);
+        index.load();
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        index.save();
     }
 
     /**
@@ -90,8 +104,11 @@ public class FileSystemDataSetMetadataRepository extends ObjectDataSetMetadataRe
         final File file = getFile(id);
 
         lock.writeLock().lock();
-        try (GZIPOutputStream output = new GZIPOutputStream(new FileOutputStream(file))) {
-            mapper.writer().writeValue(output, metadata);
+        try {
+            try (GZIPOutputStream output = new GZIPOutputStream(new FileOutputStream(file))) {
+                mapper.writer().writeValue(output, metadata);
+            }
+            index.put(metadata, file);
         } catch (IOException e) {
             LOG.error("Error saving {}", metadata, e);
             throw new TDPException(DataSetErrorCodes.UNABLE_TO_STORE_DATASET_METADATA, e,  ExceptionContext.build().put("id", metadata.getId()));
@@ -141,9 +158,38 @@ public class FileSystemDataSetMetadataRepository extends ObjectDataSetMetadataRe
     public void remove(String id) {
         final File file = getFile(id);
         FilesHelper.deleteQuietly(file);
+        index.remove(id);
         LOG.debug("metadata {} successfully deleted", id);
     }
 
+    @Override
+    public boolean exist(String filter) {
+        return index.summaries().anyMatch(toPredicate(filter));
+    }
+
+    @Override
+    public Stream<DataSetMetadata> list(String filter) {
+        return read(index.summaries().filter(toPredicate(filter)));
+    }
+
+    @Override
+    public Stream<DataSetMetadata> list(String filter, Comparator<DataSetMetadata> comparator, long limit) {
+        return read(index.summaries().filter(toPredicate(filter)).sorted(comparator).limit(limit));
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * @param summaries summaries of metadata (from index).
+     * @return The complete metadata for the <code>summaries</code>.
+     */
+    private Stream<DataSetMetadata> read(Stream<DataSetMetadata> summaries) {
+        return summaries.map(summary -> get(summary.getId())).filter(Objects::nonNull);
+    }
+
     @Override
     public Stream<DataSetMetadata> source() {
         final File folder = getRootFolder();
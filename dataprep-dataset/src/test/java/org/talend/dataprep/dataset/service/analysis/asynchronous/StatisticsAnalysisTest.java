@@ -16,7 +16,9 @@ package org.talend.dataprep.dataset.service.analysis.asynchronous;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
@@ -84,6 +86,28 @@ public class StatisticsAnalysisTest extends DataSetBaseTest {
         assertThat(metadata.getContent().getNbRecords(), is(4L));
     }
 
+    @Test
+    public void should_compute_statistics_with_full_content_schema() throws Exception {
+        // given (integers in the sample analyzed at import, but mostly text in the whole content)
+        final StringBuilder content = new StringBuilder("id;value\n");
+        for (int i = 0; i < 110; i++) {
+            content.append(i).append(';').append(i * 2).append('\n');
+        }
+        for (int i = 110; i < 310; i++) {
+            content.append(i).append(";text ").append(i).append('\n');
+        }
+
+        // when
+        final DataSetMetadata metadata = initializeDataSetMetadata(
+                new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        final ColumnMetadata value = metadata.getRowMetadata().getById("0001");
+        assertThat(value.getType(), is("string"));
+        assertThat(value.getStatistics().getCount(), is(310L));
+        assertThat(metadata.getContent().getNbRecords(), is(310L));
+    }
+
     /**
      * Initialize a dataset with the given content. Perform the format and the schema analysis.
      *
@@ -0,0 +1,168 @@
+//  ============================================================================
+//
+//  Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+//  This source code is available under agreement available at
+//  https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+//  You should have received a copy of the agreement
+//  along with this program; if not, write to Talend SA
+//  9 rue Pages 92150 Suresnes, France
+//
+//  ============================================================================
+
+package org.talend.dataprep.dataset.store.content.file;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.talend.dataprep.api.dataset.RowMetadata;
+import org.talend.dataprep.api.dataset.row.DataSetRow;
+
+/**
+ * Unit test for the columnar content format ({@link ColumnarContentWriter} and {@link ColumnarContentReader}).
+ */
+public class ColumnarContentTest {
+
+    private static final List<String> COLUMNS = Arrays.asList("0000", "0001", "0002");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void canonicalLongs() {
+        assertTrue(ColumnarContent.isCanonicalLong("0"));
+        assertTrue(ColumnarContent.isCanonicalLong("42"));
+        assertTrue(ColumnarContent.isCanonicalLong("-42"));
+        assertFalse(ColumnarContent.isCanonicalLong(""));
+        assertFalse(ColumnarContent.isCanonicalLong("-"));
+        assertFalse(ColumnarContent.isCanonicalLong("-0"));
+        assertFalse(ColumnarContent.isCanonicalLong("007"));
+        assertFalse(ColumnarContent.isCanonicalLong("+7"));
+        assertFalse(ColumnarContent.isCanonicalLong("7.0"));
+        assertFalse(ColumnarContent.isCanonicalLong("12345678901234567890"));
+    }
+
+    @Test
+    public void shouldReadWhatWasWritten() throws Exception {
+        // given
+        final List<String[]> expected = values(100);
+        final File file = write(expected, 7);
+
+        // when
+        final List<String[]> actual = new ArrayList<>();
+        try (ColumnarContentReader reader = new ColumnarContentReader(file.toPath(), new RowMetadata())) {
+            assertThat(reader.getSignature(), is("signature"));
+            assertThat(reader.getRowCount(), is(100L));
+            reader.forEachRemaining(row -> actual.add(toArray(row)));
+        }
+
+        // then
+        assertThat(actual.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i), is(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void shouldSeekToRow() throws Exception {
+        // given
+        final List<String[]> expected = values(100);
+        final File file = write(expected, 7);
+
+        try (ColumnarContentReader reader = new ColumnarContentReader(file.toPath(), new RowMetadata())) {
+            for (int start : new int[] { 0, 1, 6, 7, 8, 50, 99 }) {
+                // when
+                reader.seek(start);
+
+                // then
+                int current = start;
+                while (reader.hasNext()) {
+                    assertThat(toArray(reader.next()), is(expected.get(current++)));
+                }
+                assertThat(current, is(100));
+            }
+            reader.seek(100);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void shouldReadSelectedColumns() throws Exception {
+        // given
+        final List<String[]> expected = values(100);
+        final File file = write(expected, 7);
+
+        try (ColumnarContentReader reader = new ColumnarContentReader(file.toPath(), new RowMetadata())) {
+            // when
+            reader.select(Collections.singleton("0001"));
+            reader.seek(40);
+
+            // then
+            int current = 40;
+            while (reader.hasNext()) {
+                final DataSetRow row = reader.next();
+                assertThat(row.get("0001"), is(expected.get(current++)[1]));
+                assertNull(row.get("0000"));
+                assertNull(row.get("0002"));
+            }
+            assertThat(current, is(100));
+        }
+    }
+
+    @Test
+    public void shouldReadEmptyContent() throws Exception {
+        // given
+        final File file = write(new ArrayList<>(), 10);
+
+        // when
+        try (ColumnarContentReader reader = new ColumnarContentReader(file.toPath(), new RowMetadata())) {
+            // then
+            assertThat(reader.getRowCount(), is(0L));
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    private File write(List<String[]> values, int blockSize) throws Exception {
+        final File file = folder.newFile();
+        try (ColumnarContentWriter writer = new ColumnarContentWriter(new FileOutputStream(file), "signature", COLUMNS,
+                blockSize)) {
+            for (String[] rowValues : values) {
+                final DataSetRow row = new DataSetRow(new RowMetadata());
+                for (int i = 0; i < COLUMNS.size(); i++) {
+                    row.set(COLUMNS.get(i), rowValues[i]);
+                }
+                writer.write(row);
+            }
+        }
+        return file;
+    }
+
+    private static List<String[]> values(int count) {
+        final List<String[]> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(new String[] { String.valueOf(i - 50), // integers
+                    i % 3 == 0 ? "" : "Value #" + i + " été", // strings
+                    i % 5 == 0 ? "007" : String.valueOf(i * 1000L) // mixed
+            });
+        }
+        return values;
+    }
+
+    private static String[] toArray(DataSetRow row) {
+        return COLUMNS.stream().map(row::get).toArray(String[]::new);
+    }
+}
@@ -18,8 +18,12 @@ import static org.junit.Assert.*;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.After;
 import org.junit.Test;
@@ -230,6 +234,50 @@ public class FileSystemDataSetMetadataRepositoryTest extends DataSetBaseTest {
         assertEquals(0, repository.size());
     }
 
+    @Test
+    public void shouldListSortedAndLimited() throws IOException {
+        // given
+        for (int i = 1; i <= 10; i++) {
+            final DataSetMetadata metadata = getMetadata(String.valueOf(i));
+            metadata.setName("name-" + (char) ('a' + 10 - i));
+            metadata.getLifecycle().importing(i == 1);
+            repository.add(metadata);
+        }
+
+        // when
+        final List<DataSetMetadata> actual = repository
+                .list("lifecycle.importing = false", Comparator.comparing(DataSetMetadata::getName), 3)
+                .collect(Collectors.toList());
+
+        // then
+        assertEquals(3, actual.size());
+        assertEquals("name-a", actual.get(0).getName());
+        assertEquals("name-b", actual.get(1).getName());
+        assertEquals("name-c", actual.get(2).getName());
+    }
+
+    @Test
+    public void shouldIndexFilesWrittenOutsideRepository() throws IOException {
+        // given
+        repository.add(getMetadata("1"));
+        final DataSetMetadata metadata = getMetadata("2");
+        metadata.setName("written outside");
+        try (GZIPOutputStream output = new GZIPOutputStream(new FileOutputStream(storeLocation + "/2"))) {
+            mapper.writer().writeValue(output, metadata);
+        }
+
+        // then
+        assertEquals(2, repository.size());
+        assertTrue(repository.exist("name = 'written outside'"));
+
+        // when
+        assertTrue(new File(storeLocation + "/2").delete());
+
+        // then
+        assertEquals(1, repository.size());
+        assertFalse(repository.exist("name = 'written outside'"));
+    }
+
     @Test
     public void shouldIgnoreHiddenFiles() throws Exception {
 
@@ -16,6 +16,7 @@ package org.talend.dataprep.preparation.service;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -125,6 +126,25 @@ public class PreparationController {
         return preparationService.searchPreparations(dataSetId, folderId, name, exactMatch, sort, order);
     }
 
+    /**
+     * Search the preparations of several datasets at once (dataset ids are sent in the request body so that their
+     * number is not limited by URL length).
+     *
+     * @param dataSetIds the dataset ids.
+     * @param sort       Sort key (by name, creation date or modification date).
+     * @param order      Order for sort key (desc or asc).
+     * @return the details of the preparations based on each dataset, by dataset id.
+     */
+    @RequestMapping(value = "/preparations/search/datasets", method = POST, consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Search for preparations details of several data sets", notes = "Returns the preparations details based on each data set, by data set id.")
+    @Timed
+    public Map<String, List<PreparationDetails>> searchPreparationsByDataSets(
+            @RequestBody @ApiParam("Data set ids") List<String> dataSetIds,
+            @RequestParam(defaultValue = "MODIF") @ApiParam(value = "Sort key (by name or date).") String sort,
+            @RequestParam(defaultValue = "DESC") @ApiParam(value = "Order for sort key (desc or asc).") String order) {
+        return preparationService.searchPreparationsByDataSets(dataSetIds, sort, order);
+    }
+
     /**
      * Copy the given preparation to the given name / folder ans returns the new if in the response.
      *
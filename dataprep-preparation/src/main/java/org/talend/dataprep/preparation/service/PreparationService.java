@@ -244,6 +244,33 @@ public class PreparationService {
                 .collect(toList());
     }
 
+    /**
+     * Search the preparations of several datasets at once.
+     *
+     * @param dataSetIds the dataset ids.
+     * @param sort Sort key (by name, creation date or modification date).
+     * @param order Order for sort key (desc or asc).
+     * @return the details of the preparations based on each dataset (an empty list for datasets with no preparation),
+     * by dataset id.
+     */
+    public Map<String, List<PreparationDetails>> searchPreparationsByDataSets(Collection<String> dataSetIds, String sort,
+                                                                             String order) {
+        final Comparator<Preparation> comparator = getPreparationComparator(sort, order);
+        final Map<String, List<PreparationDetails>> result = new LinkedHashMap<>();
+        for (String dataSetId : dataSetIds) {
+            if (result.containsKey(dataSetId)) {
+                continue;
+            }
+            result.put(dataSetId, searchByDataSet(dataSetId).stream() //
+                    .sorted(comparator) //
+                    .map(this::getDetails) //
+                    .collect(toList()));
+        }
+        log.info("found {} preparation(s) for {} dataset(s)", result.values().stream().mapToInt(List::size).sum(),
+                result.size());
+        return result;
+    }
+
     /**
      * Return the preparations that are based on the given dataset.
      *
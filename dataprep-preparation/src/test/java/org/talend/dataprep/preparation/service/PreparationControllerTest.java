@@ -530,6 +530,31 @@ public class PreparationControllerTest extends BasePreparationTest {
         assertThat(preparationIds, not(hasItem(preparation5)));
     }
 
+    @Test
+    public void shouldReturnPreparationsOfSeveralDatasets() throws Exception {
+        // given
+        final String preparation1 = createPreparation("first", "prep_1");
+        final String preparation2 = createPreparation("first", "prep_2");
+        final String preparation3 = createPreparation("second", "prep_3");
+        final String preparation4 = createPreparation("noise", "prep_4");
+
+        // when
+        final String result = given() //
+                .contentType(ContentType.JSON) //
+                .body("[\"first\", \"second\", \"none\"]") //
+                .when() //
+                .expect().statusCode(200).log().ifError() //
+                .post("/preparations/search/datasets") //
+                .asString();
+
+        // then
+        final JsonPath json = JsonPath.from(result);
+        assertThat(json.getList("first.id"), containsInAnyOrder(preparation1, preparation2));
+        assertThat(json.getList("second.id"), contains(preparation3));
+        assertThat(json.getList("none"), empty());
+        assertThat(result, not(containsString(preparation4)));
+    }
+
     @Test
     public void shouldLocatePreparation() throws Exception {
         // given
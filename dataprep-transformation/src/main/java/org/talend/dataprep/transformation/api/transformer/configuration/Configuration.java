@@ -67,6 +67,11 @@ public class Configuration {
      */
     private final OutputStream output;
 
+    /**
+     * Where to write the transformed content for cache (<code>null</code> if no cache entry should be written).
+     */
+    private final OutputStream cacheOutput;
+
     private final boolean allowMetadataChange;
 
     private final boolean globalStatistics;
@@ -79,6 +84,7 @@ public class Configuration {
      * Constructor for the transformer configuration.
      */
     protected Configuration(final OutputStream output, //
+                            final OutputStream cacheOutput, //
                             final Predicate<DataSetRow> filter, //
                             final Function<RowMetadata, Predicate<DataSetRow>> outFilter, //
                             final Supplier<Node> monitorSupplier, //
@@ -92,6 +98,7 @@ public class Configuration {
                             boolean globalStatistics, //
                             final Volume dataVolume) {
         this.output = output;
+        this.cacheOutput = cacheOutput;
         this.filter = filter;
         this.outFilter = outFilter;
         this.monitorSupplier = monitorSupplier;
@@ -149,6 +156,13 @@ public class Configuration {
         return output;
     }
 
+    /**
+     * @return the cache entry where to write the transformed dataset (<code>null</code> if not cached).
+     */
+    public OutputStream cacheOutput() {
+        return cacheOutput;
+    }
+
     public Volume volume() {
         return dataVolume;
     }
@@ -212,6 +226,11 @@ public class Configuration {
          */
         private OutputStream output;
 
+        /**
+         * Where to write the transformed content for cache.
+         */
+        private OutputStream cacheOutput;
+
         /**
          * Gives hint on the amount of data the transformer may expect
          */
@@ -237,7 +256,8 @@ public class Configuration {
         }
 
         /**
-         * @param output where to write the transformed dataset.
+         * @param output where to write the transformed dataset (may be <code>null</code> if a
+         * {@link #cacheOutput(OutputStream) cache output} is set).
          * @return the mapper to chain calls.
          */
         public Builder output(final OutputStream output) {
@@ -245,11 +265,21 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * @param cacheOutput the cache entry where to write the transformed dataset.
+         * @return the mapper to chain calls.
+         * @see org.talend.dataprep.transformation.cache.CacheFormat
+         */
+        public Builder cacheOutput(final OutputStream cacheOutput) {
+            this.cacheOutput = cacheOutput;
+            return this;
+        }
+
         /**
          * @return a new {@link Configuration} from the mapper setup.
          */
         public Configuration build() {
-            return new Configuration(output, filter, outFilter, monitorSupplier, sourceType, format, actions, arguments, preparationId, stepId, allowMetadataChange, globalStatistics, dataVolume);
+            return new Configuration(output, cacheOutput, filter, outFilter, monitorSupplier, sourceType, format, actions, arguments, preparationId, stepId, allowMetadataChange, globalStatistics, dataVolume);
         }
 
         /**
@@ -33,7 +33,7 @@ public class PreviewConfiguration extends Configuration {
     private final List<Long> indexes;
 
     protected PreviewConfiguration(Configuration configuration, String previewActions, List<Long> indexes) {
-        super(configuration.output(), configuration.getFilter(), configuration.getOutFilter(), configuration.getMonitor(), configuration.getSourceType(), configuration.formatId(), configuration.getActions(), configuration.getArguments(),
+        super(configuration.output(), configuration.cacheOutput(), configuration.getFilter(), configuration.getOutFilter(), configuration.getMonitor(), configuration.getSourceType(), configuration.formatId(), configuration.getActions(), configuration.getArguments(),
                 configuration.getPreparationId(), configuration.stepId(), false, false, configuration.volume());
         this.previewActions = previewActions;
         this.indexes = indexes;
@@ -55,6 +55,28 @@ public class PreviewConfiguration extends Configuration {
         return previewActions;
     }
 
+    /**
+     * @param indexes The indexes of rows as a json array (may be <code>null</code>).
+     * @return The parsed indexes, <code>null</code> if <code>indexes</code> is <code>null</code>.
+     */
+    public static List<Long> parseIndexes(final String indexes) {
+        if (indexes == null) {
+            return null;
+        }
+        try {
+            final ObjectMapper mapper = new ObjectMapper(new JsonFactory());
+            final JsonNode json = mapper.readTree(indexes);
+
+            final List<Long> result = new ArrayList<>(json.size());
+            for (JsonNode index : json) {
+                result.add(index.longValue());
+            }
+            return result;
+        } catch (IOException e) {
+            throw new TDPException(CommonErrorCodes.UNABLE_TO_PARSE_ACTIONS, e);
+        }
+    }
+
     /**
      * Builder pattern used to simplify code writing.
      */
@@ -67,24 +89,6 @@ public class PreviewConfiguration extends Configuration {
 
         private Configuration reference;
 
-        private List<Long> parseIndexes(final String indexes) {
-            if (indexes == null) {
-                return null;
-            }
-            try {
-                final ObjectMapper mapper = new ObjectMapper(new JsonFactory());
-                final JsonNode json = mapper.readTree(indexes);
-
-                final List<Long> result = new ArrayList<>(json.size());
-                for (JsonNode index : json) {
-                    result.add(index.longValue());
-                }
-                return result;
-            } catch (IOException e) {
-                throw new TDPException(CommonErrorCodes.UNABLE_TO_PARSE_ACTIONS, e);
-            }
-        }
-
         public Builder withIndexes(final String indexes) {
             this.indexes = parseIndexes(indexes);
             return this;
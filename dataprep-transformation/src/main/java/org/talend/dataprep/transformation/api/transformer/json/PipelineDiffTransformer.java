@@ -13,6 +13,8 @@
 
 package org.talend.dataprep.transformation.api.transformer.json;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -24,6 +26,7 @@ import org.springframework.stereotype.Component;
 import org.talend.dataprep.api.dataset.DataSet;
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.api.dataset.row.DataSetRow;
+import org.talend.dataprep.api.preparation.Action;
 import org.talend.dataprep.dataset.StatisticsAdapter;
 import org.talend.dataprep.quality.AnalyzerService;
 import org.talend.dataprep.transformation.api.action.ActionParser;
@@ -81,12 +84,18 @@ class PipelineDiffTransformer implements Transformer {
                 configuration.getArguments()
         );
 
-        // Build diff pipeline
+        // Build diff pipeline: actions shared by reference and preview are executed once, only the remaining ones
+        // are executed in the reference and preview branches
         final Node diffWriterNode = new DiffWriterNode(writer);
-        final String referenceActions = previewConfiguration.getReferenceActions();
-        final String previewActions = previewConfiguration.getPreviewActions();
-        final Pipeline referencePipeline = buildPipeline(rowMetadata, referenceActions);
-        final Pipeline previewPipeline = buildPipeline(rowMetadata, previewActions);
+        final List<Action> referenceActions = actionParser.parse(previewConfiguration.getReferenceActions());
+        final List<Action> previewActions = actionParser.parse(previewConfiguration.getPreviewActions());
+        final int commonActions = getCommonPrefixLength(referenceActions, previewActions);
+        LOGGER.debug("{} action(s) shared by reference and preview.", commonActions);
+        final List<Action> sharedActions = referenceActions.subList(0, commonActions);
+        final Pipeline referencePipeline = buildPipeline(rowMetadata, sharedActions,
+                referenceActions.subList(commonActions, referenceActions.size()));
+        final Pipeline previewPipeline = buildPipeline(rowMetadata, sharedActions,
+                previewActions.subList(commonActions, previewActions.size()));
 
         // Filter source records (extract TDP ids information)
         final List<Long> indexes = previewConfiguration.getIndexes();
@@ -96,7 +105,11 @@ class PipelineDiffTransformer implements Transformer {
         final Predicate<DataSetRow> filter = isWithinWantedIndexes(minIndex, maxIndex);
 
         // Build diff pipeline
-        final Node diffPipeline = NodeBuilder.filteredSource(filter) //
+        final NodeBuilder builder = NodeBuilder.filteredSource(filter);
+        if (commonActions > 0) {
+            builder.to(buildPipeline(rowMetadata, Collections.emptyList(), sharedActions));
+        }
+        final Node diffPipeline = builder //
                 .dispatchTo(referencePipeline, previewPipeline) //
                 .zipTo(diffWriterNode) //
                 .build();
@@ -104,7 +117,15 @@ class PipelineDiffTransformer implements Transformer {
         try {
             // Print pipeline before execution (for debug purposes).
             diffPipeline.logStatus(LOGGER, "Before execution: {}");
-            input.getRecords().forEach(r -> diffPipeline.exec().receive(r, rowMetadata));
+            final Iterator<DataSetRow> records = input.getRecords().iterator();
+            while (records.hasNext()) {
+                final DataSetRow row = records.next();
+                if (isIndexLimited && row.getTdpId() != null && row.getTdpId() > maxIndex) {
+                    // records are sorted by TDP id: no more wanted record, stop reading input
+                    break;
+                }
+                diffPipeline.exec().receive(row, rowMetadata);
+            }
             diffPipeline.exec().signal(Signal.END_OF_STREAM);
         } finally {
             // Print pipeline after execution (for debug purposes).
@@ -112,12 +133,33 @@ class PipelineDiffTransformer implements Transformer {
         }
     }
 
-    private Pipeline buildPipeline(RowMetadata rowMetadata,
-                                   String actions) {
+    /**
+     * @param referenceActions The reference actions.
+     * @param previewActions The preview actions.
+     * @return The number of actions at the beginning of both lists that are identical (same name and parameters).
+     */
+    private static int getCommonPrefixLength(List<Action> referenceActions, List<Action> previewActions) {
+        final int maxLength = Math.min(referenceActions.size(), previewActions.size());
+        int length = 0;
+        while (length < maxLength && referenceActions.get(length).equals(previewActions.get(length))) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * @param rowMetadata The metadata of the input rows.
+     * @param previousActions The actions applied to the rows before they reach the pipeline (columns they modify are
+     * analyzed again when statistics are needed).
+     * @param actions The actions of the pipeline.
+     * @return The pipeline.
+     */
+    private Pipeline buildPipeline(RowMetadata rowMetadata, List<Action> previousActions, List<Action> actions) {
         return Pipeline.Builder.builder() //
                 .withAnalyzerService(analyzerService) //
                 .withActionRegistry(actionRegistry) //
-                .withActions(actionParser.parse(actions)) //
+                .withPreviousActions(previousActions) //
+                .withActions(actions) //
                 .withInitialMetadata(rowMetadata, true) //
                 .withOutput(BasicNode::new) //
                 .withGlobalStatistics(false) //
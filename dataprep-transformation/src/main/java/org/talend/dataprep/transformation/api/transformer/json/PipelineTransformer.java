@@ -3,28 +3,39 @@ package org.talend.dataprep.transformation.api.transformer.json;
 import static org.talend.dataprep.cache.ContentCache.TimeToLive.DEFAULT;
 import static org.talend.dataprep.transformation.api.transformer.configuration.Configuration.Volume.SMALL;
 
+import java.io.IOException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.talend.dataprep.api.dataset.DataSet;
 import org.talend.dataprep.api.dataset.RowMetadata;
 import org.talend.dataprep.cache.ContentCache;
 import org.talend.dataprep.dataset.StatisticsAdapter;
+import org.talend.dataprep.exception.TDPException;
+import org.talend.dataprep.exception.error.CommonErrorCodes;
 import org.talend.dataprep.quality.AnalyzerService;
 import org.talend.dataprep.transformation.api.action.ActionParser;
+import org.talend.dataprep.transformation.api.transformer.CompositeTransformerWriter;
 import org.talend.dataprep.transformation.api.transformer.ConfiguredCacheWriter;
 import org.talend.dataprep.transformation.api.transformer.Transformer;
 import org.talend.dataprep.transformation.api.transformer.TransformerWriter;
 import org.talend.dataprep.transformation.api.transformer.configuration.Configuration;
+import org.talend.dataprep.transformation.cache.CacheFormat;
 import org.talend.dataprep.transformation.cache.CacheKeyGenerator;
 import org.talend.dataprep.transformation.cache.TransformationMetadataCacheKey;
+import org.talend.dataprep.transformation.format.JsonWriter;
 import org.talend.dataprep.transformation.format.WriterRegistrationService;
 import org.talend.dataprep.transformation.pipeline.ActionRegistry;
 import org.talend.dataprep.transformation.pipeline.Pipeline;
 import org.talend.dataprep.transformation.pipeline.model.WriterNode;
+import org.talend.dataprep.transformation.pipeline.node.StatisticsNode;
 import org.talend.dataprep.transformation.service.TransformationRowMetadataUtils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 @Component
 public class PipelineTransformer implements Transformer {
 
@@ -51,9 +62,24 @@ public class PipelineTransformer implements Transformer {
     @Autowired
     CacheKeyGenerator cacheKeyGenerator;
 
+    @Autowired
+    CacheFormat cacheFormat;
+
     @Autowired
     private TransformationRowMetadataUtils transformationRowMetadataUtils;
 
+    /** Number of threads that can apply actions of a transformation (1 to apply actions on the calling thread only). */
+    @Value("${transformation.pipeline.parallelism:1}")
+    private int parallelism;
+
+    /** Number of rows sent at once through the pipeline nodes (1 to send rows one by one). */
+    @Value("${transformation.pipeline.batch.size:1024}")
+    private int batchSize;
+
+    /** How statistics are computed: on the pipeline thread, on a dedicated thread, or on a dedicated thread with sampling. */
+    @Value("${transformation.pipeline.statistics.mode:SYNCHRONOUS}")
+    private StatisticsNode.Mode statisticsMode;
+
     @Override
     public void transform(DataSet input, Configuration configuration) {
         final RowMetadata rowMetadata = input.getMetadata().getRowMetadata();
@@ -61,9 +87,25 @@ public class PipelineTransformer implements Transformer {
         // prepare the fallback row metadata
         RowMetadata fallBackRowMetadata = transformationRowMetadataUtils.getMatchingEmptyRowMetadata(rowMetadata);
 
-        final TransformerWriter writer = writerRegistrationService.getWriter(configuration.formatId(), configuration.output(),
-                configuration.getArguments());
-        final ConfiguredCacheWriter metadataWriter = new ConfiguredCacheWriter(contentCache, DEFAULT);
+        // no output means transformation is only run to fill cache
+        final TransformerWriter outputWriter = configuration.output() == null ? null
+                : writerRegistrationService.getWriter(configuration.formatId(), configuration.output(), configuration.getArguments());
+        // content is cached in cache format whatever the output format is
+        final JsonGenerator cacheGenerator;
+        final TransformerWriter writer;
+        if (configuration.cacheOutput() != null) {
+            try {
+                cacheGenerator = cacheFormat.createGenerator(configuration.cacheOutput());
+            } catch (IOException e) {
+                throw new TDPException(CommonErrorCodes.UNEXPECTED_EXCEPTION, e);
+            }
+            final TransformerWriter cacheWriter = new JsonWriter(cacheGenerator);
+            writer = outputWriter == null ? cacheWriter : new CompositeTransformerWriter(outputWriter, cacheWriter);
+        } else {
+            cacheGenerator = null;
+            writer = outputWriter;
+        }
+        final ConfiguredCacheWriter metadataWriter = new ConfiguredCacheWriter(contentCache, cacheFormat, DEFAULT);
         final TransformationMetadataCacheKey metadataKey = cacheKeyGenerator.generateMetadataKey(configuration.getPreparationId(), configuration.stepId(), configuration.getSourceType());
         final Pipeline pipeline = Pipeline.Builder.builder()
                 .withAnalyzerService(analyzerService) //
@@ -77,12 +119,22 @@ public class PipelineTransformer implements Transformer {
                 .withStatisticsAdapter(adapter) //
                 .withGlobalStatistics(configuration.isGlobalStatistics()) //
                 .allowMetadataChange(configuration.isAllowMetadataChange()) //
+                .withParallelism(parallelism) //
+                .withBatchSize(batchSize) //
+                .withStatisticsMode(statisticsMode) //
                 .build();
         try {
             LOGGER.debug("Before transformation: {}", pipeline);
             pipeline.execute(input);
         } finally {
             LOGGER.debug("After transformation: {}", pipeline);
+            if (cacheGenerator != null) {
+                try {
+                    cacheGenerator.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Unable to close cache entry.", e);
+                }
+            }
         }
     }
 
@@ -0,0 +1,130 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.transformation.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Format of the transformation cache entries (step content and metadata). Entries are written in Smile (binary JSON,
+ * with repeated names and short values written once) then compressed, so cached content is both smaller and faster to
+ * read back than JSON. JSON is only produced for clients.
+ */
+@Component
+public class CacheFormat {
+
+    /** Size of the compression buffers. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The data-prep ready jackson module. */
+    @Autowired
+    private ObjectMapper mapper;
+
+    /** Factory for the Smile parsers and generators. */
+    private final SmileFactory smileFactory = new SmileFactory() //
+            .configure(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES, true);
+
+    /**
+     * Creates a generator to write a cache entry. Closing the generator ends the entry and closes
+     * <code>cacheEntry</code>.
+     *
+     * @param cacheEntry The cache entry output (as returned by
+     * {@link org.talend.dataprep.cache.ContentCache#put(org.talend.dataprep.cache.ContentCacheKey, org.talend.dataprep.cache.ContentCache.TimeToLive)}).
+     * @return A generator that writes in cache format.
+     * @throws IOException In case of write error.
+     */
+    public JsonGenerator createGenerator(OutputStream cacheEntry) throws IOException {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        final OutputStream compressed = new DeflaterOutputStream(cacheEntry, deflater, BUFFER_SIZE) {
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        };
+        final JsonGenerator generator = smileFactory.createGenerator(compressed);
+        generator.setCodec(mapper);
+        return generator;
+    }
+
+    /**
+     * Creates a parser to read a cache entry written with a {@link #createGenerator(OutputStream) cache generator}.
+     *
+     * @param cacheEntry The cache entry input (as returned by
+     * {@link org.talend.dataprep.cache.ContentCache#get(org.talend.dataprep.cache.ContentCacheKey)}).
+     * @return A parser that reads cache format.
+     * @throws IOException In case of read error.
+     */
+    public JsonParser createParser(InputStream cacheEntry) throws IOException {
+        final InputStream decompressed = new InflaterInputStream(cacheEntry, new Inflater(), BUFFER_SIZE) {
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inf.end();
+                }
+            }
+        };
+        final JsonParser parser = smileFactory.createParser(decompressed);
+        parser.setCodec(mapper);
+        return parser;
+    }
+
+    /**
+     * Writes <code>value</code> in a cache entry (<code>cacheEntry</code> is closed once value is written).
+     *
+     * @param cacheEntry The cache entry output.
+     * @param value The value to write.
+     * @throws IOException In case of write error.
+     */
+    public void write(OutputStream cacheEntry, Object value) throws IOException {
+        try (JsonGenerator generator = createGenerator(cacheEntry)) {
+            mapper.writeValue(generator, value);
+        }
+    }
+
+    /**
+     * Reads a value from a cache entry written with {@link #write(OutputStream, Object)}.
+     *
+     * @param cacheEntry The cache entry input.
+     * @param type The value class.
+     * @return The value read from cache entry.
+     * @throws IOException In case of read error.
+     */
+    public <T> T read(InputStream cacheEntry, Class<T> type) throws IOException {
+        try (JsonParser parser = createParser(cacheEntry)) {
+            return mapper.readerFor(type).readValue(parser);
+        }
+    }
+}
@@ -66,6 +66,16 @@ public class JsonWriter implements TransformerWriter {
         this.output = output;
     }
 
+    /**
+     * Constructor for a writer on an existing generator (e.g. to write in a format other than JSON).
+     *
+     * @param generator The generator this writer should write to.
+     */
+    public JsonWriter(final JsonGenerator generator) {
+        this.output = null;
+        this.generator = generator;
+    }
+
     /**
      * Init the writer.
      * 
@@ -91,7 +101,7 @@ public class JsonWriter implements TransformerWriter {
 
     @Override
     public void write(final DataSetRow row) throws IOException {
-        generator.writeObject(row.valuesWithId());
+        row.writeTo(generator);
     }
 
     @Override
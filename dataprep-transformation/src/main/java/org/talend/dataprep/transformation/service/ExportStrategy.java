@@ -42,6 +42,7 @@ import org.talend.dataprep.command.preparation.PreparationGetActions;
 import org.talend.dataprep.exception.TDPException;
 import org.talend.dataprep.exception.error.TransformationErrorCodes;
 import org.talend.dataprep.format.export.ExportFormat;
+import org.talend.dataprep.http.InternalFormat;
 import org.talend.dataprep.lock.LockFactory;
 import org.talend.dataprep.security.SecurityProxy;
 import org.talend.dataprep.transformation.api.transformer.TransformerFactory;
@@ -63,6 +64,10 @@ public abstract class ExportStrategy {
     @Autowired
     protected ObjectMapper mapper;
 
+    /** The format of the content read from other services. */
+    @Autowired
+    protected InternalFormat internalFormat;
+
     @Autowired
     protected ContentCache contentCache;
 
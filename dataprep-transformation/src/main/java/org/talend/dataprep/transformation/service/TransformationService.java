@@ -62,6 +62,7 @@ import org.talend.dataprep.exception.error.CommonErrorCodes;
 import org.talend.dataprep.exception.error.TransformationErrorCodes;
 import org.talend.dataprep.exception.json.JsonErrorCodeDescription;
 import org.talend.dataprep.format.export.ExportFormat;
+import org.talend.dataprep.http.InternalFormat;
 import org.talend.dataprep.metrics.Timed;
 import org.talend.dataprep.metrics.VolumeMetered;
 import org.talend.dataprep.quality.AnalyzerService;
@@ -80,6 +81,7 @@ import org.talend.dataprep.transformation.api.transformer.configuration.Configur
 import org.talend.dataprep.transformation.api.transformer.configuration.PreviewConfiguration;
 import org.talend.dataprep.transformation.api.transformer.suggestion.Suggestion;
 import org.talend.dataprep.transformation.api.transformer.suggestion.SuggestionEngine;
+import org.talend.dataprep.transformation.cache.CacheFormat;
 import org.talend.dataprep.transformation.cache.CacheKeyGenerator;
 import org.talend.dataprep.transformation.cache.TransformationMetadataCacheKey;
 import org.talend.dataprep.transformation.pipeline.ActionRegistry;
@@ -152,6 +154,12 @@ public class TransformationService extends BaseTransformationService {
     @Autowired
     private CacheKeyGenerator cacheKeyGenerator;
 
+    @Autowired
+    private CacheFormat cacheFormat;
+
+    @Autowired
+    private InternalFormat internalFormat;
+
     @Autowired
     private ContentCache contentCache;
 
@@ -276,11 +284,11 @@ public class TransformationService extends BaseTransformationService {
             }
         } else {
             final DataSetGet dataSetGet = context.getBean(DataSetGet.class, parameters.getDatasetId(), false, true);
-            contentToAggregate = dataSetGet.execute();
+            contentToAggregate = dataSetGet.inInternalFormat().execute();
         }
 
         // apply the aggregation
-        try (JsonParser parser = mapper.getFactory().createParser(contentToAggregate)) {
+        try (JsonParser parser = internalFormat.createParser(contentToAggregate)) {
             final DataSet dataSet = mapper.readerFor(DataSet.class).readValue(parser);
             return aggregationService.aggregate(parameters, dataSet);
         } catch (IOException e) {
@@ -342,10 +350,10 @@ public class TransformationService extends BaseTransformationService {
 
         try(final InputStream metadata = contentCache.get(metadataKey);
             final InputStream content = contentCache.get(contentKey);
-            final JsonParser contentParser = mapper.getFactory().createParser(content)) {
+            final JsonParser contentParser = cacheFormat.createParser(content)) {
 
             // build metadata
-            final RowMetadata rowMetadata = mapper.readerFor(RowMetadata.class).readValue(metadata);
+            final RowMetadata rowMetadata = cacheFormat.read(metadata, RowMetadata.class);
             final DataSetMetadata dataSetMetadata = new DataSetMetadata();
             dataSetMetadata.setRowMetadata(rowMetadata);
 
@@ -367,13 +375,25 @@ public class TransformationService extends BaseTransformationService {
     }
 
     private void executeDiffOnDataset(final PreviewParameters previewParameters, final OutputStream output) {
+        // only get the records within the previewed tdp ids (tdp ids start at 1), other ones are filtered out anyway
+        final List<Long> tdpIds = PreviewConfiguration.parseIndexes(previewParameters.getTdpIds());
+        long offset = 0;
+        long limit = -1;
+        if (tdpIds != null && !tdpIds.isEmpty()) {
+            final long minTdpId = tdpIds.stream().mapToLong(Long::longValue).min().getAsLong();
+            final long maxTdpId = tdpIds.stream().mapToLong(Long::longValue).max().getAsLong();
+            offset = Math.max(minTdpId - 1, 0);
+            limit = Math.max(maxTdpId - offset, 0);
+        }
+
         // because of dataset records streaming, the dataset content must be within an auto closeable block
-        final DataSetGet dataSetGet = context.getBean(DataSetGet.class, previewParameters.getDataSetId(), false, true);
+        final DataSetGet dataSetGet = context.getBean(DataSetGet.class, previewParameters.getDataSetId(), false, true,
+                offset, limit);
 
         boolean identityReleased = false;
         securityProxy.asTechnicalUser();
-        try (final InputStream dataSetContent = dataSetGet.execute(); //
-             final JsonParser parser = mapper.getFactory().createParser(dataSetContent)) {
+        try (final InputStream dataSetContent = dataSetGet.inInternalFormat().execute(); //
+             final JsonParser parser = internalFormat.createParser(dataSetContent)) {
 
             securityProxy.releaseIdentity();
             identityReleased = true;
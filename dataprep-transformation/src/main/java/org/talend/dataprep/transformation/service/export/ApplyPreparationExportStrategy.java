@@ -18,7 +18,6 @@ import static org.talend.dataprep.transformation.api.transformer.configuration.C
 import java.io.InputStream;
 import java.io.OutputStream;
 
-import org.apache.commons.io.output.TeeOutputStream;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -88,8 +87,8 @@ public class ApplyPreparationExportStrategy extends StandardExportStrategy {
 
         // get the dataset content (in an auto-closable block to make sure it is properly closed)
         final DataSetGet dataSetGet = applicationContext.getBean(DataSetGet.class, dataSetId, false, true);
-        try (final InputStream datasetContent = dataSetGet.execute();
-             final JsonParser parser = mapper.getFactory().createParser(datasetContent)) {
+        try (final InputStream datasetContent = dataSetGet.inInternalFormat().execute();
+             final JsonParser parser = internalFormat.createParser(datasetContent)) {
             // head is not allowed as step id
             final String version = getCleanStepId(preparation, stepId);
 
@@ -99,7 +98,7 @@ public class ApplyPreparationExportStrategy extends StandardExportStrategy {
             // get the actions to apply (no preparation ==> dataset export ==> no actions)
             final String actions = getActions(preparationId, version);
 
-            // create tee to broadcast to cache + service output
+            // transformation output is sent to service output and to cache
             final TransformationCacheKey key = cacheKeyGenerator.generateContentKey(
                     dataSetId,
                     preparationId,
@@ -109,7 +108,7 @@ public class ApplyPreparationExportStrategy extends StandardExportStrategy {
             );
             LOGGER.debug("Cache key: " + key.getKey());
             LOGGER.debug("Cache key details: " + key.toString());
-            try (final TeeOutputStream tee = new TeeOutputStream(outputStream, contentCache.put(key, ContentCache.TimeToLive.DEFAULT))) {
+            try (final OutputStream cacheEntry = contentCache.put(key, ContentCache.TimeToLive.DEFAULT)) {
                 final Configuration configuration = Configuration.builder() //
                         .args(parameters.getArguments()) //
                         .outFilter(rm -> filterService.build(parameters.getFilter(), rm)) //
@@ -119,10 +118,11 @@ public class ApplyPreparationExportStrategy extends StandardExportStrategy {
                         .preparationId(preparationId) //
                         .stepId(version) //
                         .volume(SMALL) //
-                        .output(tee) //
+                        .output(outputStream) //
+                        .cacheOutput(cacheEntry) //
                         .build();
                 factory.get(configuration).transform(dataSet, configuration);
-                tee.flush();
+                outputStream.flush();
             } catch (Throwable e) { // NOSONAR
                 contentCache.evict(key);
                 throw e;
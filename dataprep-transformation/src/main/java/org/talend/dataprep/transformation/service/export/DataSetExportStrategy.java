@@ -62,8 +62,8 @@ public class DataSetExportStrategy extends StandardExportStrategy {
             final String datasetId = parameters.getDatasetId();
             final DataSetGet dataSetGet = applicationContext.getBean(DataSetGet.class, datasetId, false, true);
             final DataSetGetMetadata dataSetGetMetadata = applicationContext.getBean(DataSetGetMetadata.class, datasetId);
-            try (InputStream datasetContent = dataSetGet.execute()) {
-                try (JsonParser parser = mapper.getFactory().createParser(datasetContent)) {
+            try (InputStream datasetContent = dataSetGet.inInternalFormat().execute()) {
+                try (JsonParser parser = internalFormat.createParser(datasetContent)) {
                     // Create dataset
                     final DataSet dataSet = mapper.readerFor(DataSet.class).readValue(parser);
                     dataSet.setMetadata(dataSetGetMetadata.execute());
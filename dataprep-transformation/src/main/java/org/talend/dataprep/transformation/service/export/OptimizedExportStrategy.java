@@ -14,11 +14,11 @@
 package org.talend.dataprep.transformation.service.export;
 
 import com.fasterxml.jackson.core.JsonParser;
-import org.apache.commons.io.output.TeeOutputStream;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.talend.dataprep.api.dataset.DataSet;
@@ -30,6 +30,7 @@ import org.talend.dataprep.exception.TDPException;
 import org.talend.dataprep.exception.error.TransformationErrorCodes;
 import org.talend.dataprep.format.export.ExportFormat;
 import org.talend.dataprep.transformation.api.transformer.configuration.Configuration;
+import org.talend.dataprep.transformation.cache.CacheFormat;
 import org.talend.dataprep.transformation.cache.CacheKeyGenerator;
 import org.talend.dataprep.transformation.cache.TransformationCacheKey;
 import org.talend.dataprep.transformation.cache.TransformationMetadataCacheKey;
@@ -39,11 +40,12 @@ import org.talend.dataprep.transformation.service.ExportUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * A {@link ExportStrategy strategy} to export a preparation (using its default data set), using any information
- * available in cache (metadata and content).
+ * available in cache (metadata and content): only the actions after the nearest step cached are replayed.
  */
 @Component
 public class OptimizedExportStrategy extends StandardExportStrategy {
@@ -53,6 +55,13 @@ public class OptimizedExportStrategy extends StandardExportStrategy {
     @Autowired
     private CacheKeyGenerator cacheKeyGenerator;
 
+    @Autowired
+    private CacheFormat cacheFormat;
+
+    /** Materialize in cache the content of every N-th step of a preparation when replaying actions (0 to disable). */
+    @Value("${transformation.cache.checkpoint.interval:0}")
+    private int checkpointInterval;
+
     @Override
     public int order() {
         return 0; // Ensure this is the first strategy tried.
@@ -91,48 +100,84 @@ public class OptimizedExportStrategy extends StandardExportStrategy {
         }
         final String preparationId = parameters.getPreparationId();
         final String dataSetId = optimizedPreparationInput.getDataSetId();
-        final TransformationCacheKey transformationCacheKey = optimizedPreparationInput.getTransformationCacheKey();
-        final DataSetMetadata metadata = optimizedPreparationInput.getMetadata();
-        final String previousVersion = optimizedPreparationInput.getPreviousVersion();
         final String version = optimizedPreparationInput.getVersion();
-        final ExportFormat format = getFormat(parameters.getExportType());
 
+        // Materialize intermediate steps (if any) so later exports have less actions to replay
+        String previousVersion = optimizedPreparationInput.getPreviousVersion();
+        TransformationCacheKey previousKey = optimizedPreparationInput.getTransformationCacheKey();
+        DataSetMetadata previousMetadata = optimizedPreparationInput.getMetadata();
+        for (String checkpoint : optimizedPreparationInput.getCheckpoints()) {
+            final TransformationCacheKey checkpointKey = cacheKeyGenerator.generateContentKey(dataSetId, preparationId,
+                    checkpoint, parameters.getExportType(), parameters.getFrom());
+            LOGGER.debug("Checkpoint for preparation {} @ step #{}", preparationId, checkpoint);
+            transform(parameters, previousKey, previousMetadata, previousVersion, checkpoint, checkpointKey, null);
+            previousMetadata = readMetadata(preparationId, checkpoint, parameters.getFrom());
+            if (previousMetadata == null) {
+                throw new TDPException(TransformationErrorCodes.UNABLE_TO_TRANSFORM_DATASET);
+            }
+            previousVersion = checkpoint;
+            previousKey = checkpointKey;
+        }
+
+        // transformation output is sent to service output and to cache
+        final TransformationCacheKey key = cacheKeyGenerator.generateContentKey(
+                dataSetId,
+                preparationId,
+                version,
+                parameters.getExportType(),
+                parameters.getFrom()
+        );
+        transform(parameters, previousKey, previousMetadata, previousVersion, version, key, outputStream);
+    }
+
+    /**
+     * Applies the actions between <code>sourceVersion</code> and <code>version</code> on content cached for
+     * <code>sourceVersion</code>.
+     *
+     * @param parameters The export parameters.
+     * @param sourceKey The cache key of the content to start from.
+     * @param sourceMetadata The metadata of the content to start from.
+     * @param sourceVersion The step of the content to start from.
+     * @param version The step to compute.
+     * @param key The cache key where to write the content of <code>version</code>.
+     * @param outputStream Where to write the export, or <code>null</code> to only fill cache.
+     */
+    private void transform(ExportParameters parameters, TransformationCacheKey sourceKey, DataSetMetadata sourceMetadata,
+            String sourceVersion, String version, TransformationCacheKey key, OutputStream outputStream) {
+        final String preparationId = parameters.getPreparationId();
         // Get content from previous step
-        try (JsonParser parser = mapper.getFactory().createParser(contentCache.get(transformationCacheKey))) {
+        try (JsonParser parser = cacheFormat.createParser(contentCache.get(sourceKey))) {
             // Create dataset
             final DataSet dataSet = mapper.readerFor(DataSet.class).readValue(parser);
-            dataSet.setMetadata(metadata);
+            dataSet.setMetadata(sourceMetadata);
 
             // get the actions to apply (no preparation ==> dataset export ==> no actions)
-            final String actions = getActions(preparationId, previousVersion, version);
-
-            LOGGER.debug("Running optimized strategy for preparation {} @ step #{}", preparationId, version);
-
-            // create tee to broadcast to cache + service output
-            final TransformationCacheKey key = cacheKeyGenerator.generateContentKey(
-                    dataSetId,
-                    preparationId,
-                    version,
-                    parameters.getExportType(),
-                    parameters.getFrom()
-            );
+            final String actions = getActions(preparationId, sourceVersion, version);
+
+            LOGGER.debug("Running optimized strategy for preparation {} from step #{} to step #{}", preparationId,
+                    sourceVersion, version);
             LOGGER.debug("Cache key: " + key.getKey());
             LOGGER.debug("Cache key details: " + key.toString());
 
-            try (final TeeOutputStream tee = new TeeOutputStream(outputStream, contentCache.put(key, ContentCache.TimeToLive.DEFAULT))) {
-                final Configuration configuration = Configuration.builder() //
-                        .args(parameters.getArguments()) //
-                        .outFilter(rm -> filterService.build(parameters.getFilter(), rm)) //
+            try (final OutputStream cacheEntry = contentCache.put(key, ContentCache.TimeToLive.DEFAULT)) {
+                final Configuration.Builder builder = Configuration.builder() //
                         .sourceType(parameters.getFrom())
-                        .format(format.getName()) //
                         .actions(actions) //
                         .preparationId(preparationId) //
                         .stepId(version) //
                         .volume(Configuration.Volume.SMALL) //
-                        .output(tee) //
-                        .build();
+                        .cacheOutput(cacheEntry);
+                if (outputStream != null) {
+                    builder.args(parameters.getArguments()) //
+                            .outFilter(rm -> filterService.build(parameters.getFilter(), rm)) //
+                            .format(getFormat(parameters.getExportType()).getName()) //
+                            .output(outputStream);
+                }
+                final Configuration configuration = builder.build();
                 factory.get(configuration).transform(dataSet, configuration);
-                tee.flush();
+                if (outputStream != null) {
+                    outputStream.flush();
+                }
             } catch (Throwable e) { // NOSONAR
                 contentCache.evict(key);
                 throw e;
@@ -144,6 +189,20 @@ public class OptimizedExportStrategy extends StandardExportStrategy {
         }
     }
 
+    /**
+     * @return The metadata cached for the preparation at given step, or <code>null</code> if not cached.
+     */
+    private DataSetMetadata readMetadata(String preparationId, String stepId, ExportParameters.SourceType sourceType)
+            throws IOException {
+        final TransformationMetadataCacheKey metadataKey = cacheKeyGenerator.generateMetadataKey(preparationId, stepId, sourceType);
+        try (InputStream input = contentCache.get(metadataKey)) {
+            if (input == null) {
+                return null;
+            }
+            return cacheFormat.read(input, DataSetMetadata.class);
+        }
+    }
+
     /**
      * A utility class to both extract information to run optimized strategy <b>and</b> check if there's enough information
      * to use the strategy.
@@ -170,6 +229,8 @@ public class OptimizedExportStrategy extends StandardExportStrategy {
 
         private String previousVersion;
 
+        private final List<String> checkpoints = new ArrayList<>();
+
         private OptimizedPreparationInput(ExportParameters parameters) {
             this.stepId = parameters.getStepId();
             this.preparationId = parameters.getPreparationId();
@@ -216,55 +277,72 @@ public class OptimizedExportStrategy extends StandardExportStrategy {
             return previousVersion;
         }
 
+        /**
+         * @return The steps between previous version and version to materialize in cache (in order).
+         */
+        private List<String> getCheckpoints() {
+            return checkpoints;
+        }
+
         // Extract information or returns null is not applicable.
         private OptimizedPreparationInput invoke() throws IOException {
             if (preparation == null) {
                 // Not applicable (need preparation to work on).
                 return null;
             }
-            // head is not allowed as step id
-            version = stepId;
-            previousVersion = rootStep.getId();
             final List<String> steps = preparation.getSteps();
             if (steps.size() <= 2) {
                 LOGGER.debug("Not enough steps ({}) in preparation.", steps.size());
                 return null;
             }
-            if (StringUtils.equals("head", stepId) || StringUtils.isEmpty(stepId)) {
-                version = steps.get(steps.size() - 1);
-                previousVersion = steps.get(steps.size() - 2);
-            }
-            // Get metadata of previous step
-            final TransformationMetadataCacheKey transformationMetadataCacheKey = cacheKeyGenerator.generateMetadataKey(preparationId, previousVersion, sourceType);
-            if (!contentCache.has(transformationMetadataCacheKey)) {
-                LOGGER.debug("No metadata cached for previous version '{}' (key for lookup: '{}')", previousVersion,
-                        transformationMetadataCacheKey.getKey());
+            // head is not allowed as step id
+            version = getCleanStepId(preparation, stepId);
+            final int versionIndex = steps.indexOf(version);
+            if (versionIndex < 0) {
+                LOGGER.debug("Step '{}' is not in preparation '{}'.", version, preparationId);
                 return null;
             }
-            try (InputStream input = contentCache.get(transformationMetadataCacheKey)) {
-                metadata = mapper.readerFor(DataSetMetadata.class).readValue(input);
-            }
-            transformationCacheKey = cacheKeyGenerator.generateContentKey(
-                    dataSetId,
-                    preparationId,
-                    previousVersion,
-                    formatName,
-                    sourceType
-            );
-            LOGGER.debug("Previous content cache key: " + transformationCacheKey.getKey());
-            LOGGER.debug("Previous content cache key details: " + transformationCacheKey.toString());
-            final InputStream inputStream = contentCache.get(transformationCacheKey);
-            try {
-                if (inputStream == null) {
-                    LOGGER.debug("No content cached for previous version '{}'", previousVersion);
-                    return null;
+            // Look for the nearest previous step with both metadata and content in cache
+            for (int i = versionIndex - 1; i >= 0; i--) {
+                final String candidate = steps.get(i);
+                final TransformationMetadataCacheKey transformationMetadataCacheKey = cacheKeyGenerator.generateMetadataKey(preparationId, candidate, sourceType);
+                if (!contentCache.has(transformationMetadataCacheKey)) {
+                    LOGGER.debug("No metadata cached for version '{}' (key for lookup: '{}')", candidate,
+                            transformationMetadataCacheKey.getKey());
+                    continue;
+                }
+                final TransformationCacheKey candidateCacheKey = cacheKeyGenerator.generateContentKey(
+                        dataSetId,
+                        preparationId,
+                        candidate,
+                        formatName,
+                        sourceType
+                );
+                if (!contentCache.has(candidateCacheKey)) {
+                    LOGGER.debug("No content cached for version '{}' (key for lookup: '{}')", candidate,
+                            candidateCacheKey.getKey());
+                    continue;
+                }
+                metadata = readMetadata(preparationId, candidate, sourceType);
+                if (metadata == null) {
+                    continue; // evicted meanwhile
                 }
-            } finally {
-                if (inputStream != null) {
-                    inputStream.close();
+                previousVersion = candidate;
+                transformationCacheKey = candidateCacheKey;
+                LOGGER.debug("Previous content cache key: " + transformationCacheKey.getKey());
+                LOGGER.debug("Previous content cache key details: " + transformationCacheKey.toString());
+                // Checkpoints are on absolute step positions so exports to different steps share them
+                if (checkpointInterval > 0) {
+                    for (int checkpoint = i + 1; checkpoint < versionIndex; checkpoint++) {
+                        if (checkpoint % checkpointInterval == 0) {
+                            checkpoints.add(steps.get(checkpoint));
+                        }
+                    }
                 }
+                return this;
             }
-            return this;
+            LOGGER.debug("No previous version of '{}' in cache.", version);
+            return null;
         }
     }
 
@@ -18,7 +18,6 @@ import static org.talend.dataprep.api.export.ExportParameters.SourceType.HEAD;
 import java.io.InputStream;
 import java.io.OutputStream;
 
-import org.apache.commons.io.output.TeeOutputStream;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,8 +94,8 @@ public class PreparationExportStrategy extends StandardExportStrategy {
         securityProxy.asTechnicalUser(); // Allow get dataset and get dataset metadata access whatever share status is
         final DataSetGet dataSetGet = applicationContext.getBean(DataSetGet.class, dataSetId, false, true);
         final DataSetGetMetadata dataSetGetMetadata = applicationContext.getBean(DataSetGetMetadata.class, dataSetId);
-        try (InputStream datasetContent = dataSetGet.execute()) {
-            try (JsonParser parser = mapper.getFactory().createParser(datasetContent)) {
+        try (InputStream datasetContent = dataSetGet.inInternalFormat().execute()) {
+            try (JsonParser parser = internalFormat.createParser(datasetContent)) {
                 // head is not allowed as step id
                 final String version = getCleanStepId(preparation, stepId);
 
@@ -121,8 +120,7 @@ public class PreparationExportStrategy extends StandardExportStrategy {
                 LOGGER.debug("Cache key: " + key.getKey());
                 LOGGER.debug("Cache key details: " + key.toString());
 
-                try (final TeeOutputStream tee = new TeeOutputStream(outputStream,
-                        contentCache.put(key, ContentCache.TimeToLive.DEFAULT))) {
+                try (final OutputStream cacheEntry = contentCache.put(key, ContentCache.TimeToLive.DEFAULT)) {
                     final Configuration configuration = Configuration.builder() //
                             .args(parameters.getArguments()) //
                             .outFilter(rm -> filterService.build(parameters.getFilter(), rm)) //
@@ -132,10 +130,11 @@ public class PreparationExportStrategy extends StandardExportStrategy {
                             .preparationId(preparationId) //
                             .stepId(version) //
                             .volume(Configuration.Volume.SMALL) //
-                            .output(tee) //
+                            .output(outputStream) //
+                            .cacheOutput(cacheEntry) //
                             .build();
                     factory.get(configuration).transform(dataSet, configuration);
-                    tee.flush();
+                    outputStream.flush();
                 } catch (Throwable e) { // NOSONAR
                     contentCache.evict(key);
                     throw e;
@@ -0,0 +1,106 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.transformation.api.transformer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.talend.dataprep.api.export.ExportParameters.SourceType.HEAD;
+import static org.talend.dataprep.transformation.format.JsonFormat.JSON;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.talend.dataprep.api.dataset.DataSet;
+import org.talend.dataprep.api.dataset.DataSetMetadata;
+import org.talend.dataprep.cache.ContentCache;
+import org.talend.dataprep.transformation.TransformationBaseTest;
+import org.talend.dataprep.transformation.api.transformer.configuration.Configuration;
+import org.talend.dataprep.transformation.cache.CacheFormat;
+import org.talend.dataprep.transformation.cache.CacheKeyGenerator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Checks that content materialized in cache for an intermediate step (a checkpoint) gives the same rows as a direct
+ * transformation when the remaining actions are replayed from it.
+ */
+public class CheckpointTransformationTest extends TransformationBaseTest {
+
+    private static final String UPPERCASE_FIRSTNAME = "{\"action\": \"uppercase\", \"parameters\": {\"column_id\": \"1\", \"scope\": \"column\"}}";
+
+    private static final String LOWERCASE_CITY = "{\"action\": \"lowercase\", \"parameters\": {\"column_id\": \"6\", \"scope\": \"column\"}}";
+
+    @Autowired
+    private TransformerFactory factory;
+
+    @Autowired
+    private ContentCache contentCache;
+
+    @Autowired
+    private CacheKeyGenerator cacheKeyGenerator;
+
+    @Autowired
+    private CacheFormat cacheFormat;
+
+    @Test
+    public void rows_replayed_from_checkpoint_should_match_direct_run() throws Exception {
+        // given
+        final ByteArrayOutputStream direct = new ByteArrayOutputStream();
+        transform(readDataSet(), configuration(UPPERCASE_FIRSTNAME, LOWERCASE_CITY).output(direct).format(JSON));
+
+        // when (checkpoint after first action, as done for export, then replay of second action)
+        final ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        transform(readDataSet(), configuration(UPPERCASE_FIRSTNAME).cacheOutput(checkpoint).stepId("checkpoint"));
+        final DataSet checkpointContent;
+        try (JsonParser parser = cacheFormat.createParser(new ByteArrayInputStream(checkpoint.toByteArray()))) {
+            checkpointContent = mapper.readerFor(DataSet.class).readValue(parser);
+        }
+        try (InputStream metadata = contentCache.get(cacheKeyGenerator.generateMetadataKey("prep-1", "checkpoint", HEAD))) {
+            assertNotNull(metadata);
+            checkpointContent.setMetadata(cacheFormat.read(metadata, DataSetMetadata.class));
+        }
+        final ByteArrayOutputStream replayed = new ByteArrayOutputStream();
+        transform(checkpointContent, configuration(LOWERCASE_CITY).output(replayed).format(JSON));
+
+        // then
+        final JsonNode expected = mapper.readTree(direct.toByteArray());
+        final JsonNode actual = mapper.readTree(replayed.toByteArray());
+        assertEquals(expected.get("records"), actual.get("records"));
+        assertEquals("CLARK", expected.get("records").get(0).get("1").asText());
+        assertEquals("smallville", expected.get("records").get(0).get("6").asText());
+    }
+
+    private Configuration.Builder configuration(String... actions) {
+        return Configuration.builder() //
+                .actions("{\"actions\": [" + String.join(",", actions) + "]}") //
+                .preparationId("prep-1") //
+                .sourceType(HEAD);
+    }
+
+    private void transform(DataSet dataSet, Configuration.Builder builder) {
+        final Configuration configuration = builder.build();
+        factory.get(configuration).transform(dataSet, configuration);
+    }
+
+    private DataSet readDataSet() throws Exception {
+        try (JsonParser parser = mapper.getFactory()
+                .createParser(CheckpointTransformationTest.class.getResourceAsStream("../../format/export_dataset.json"))) {
+            return mapper.readerFor(DataSet.class).readValue(parser);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+// ============================================================================
+//
+// Copyright (C) 2006-2016 Talend Inc. - www.talend.com
+//
+// This source code is available under agreement available at
+// https://github.com/Talend/data-prep/blob/master/LICENSE
+//
+// You should have received a copy of the agreement
+// along with this program; if not, write to Talend SA
+// 9 rue Pages 92150 Suresnes, France
+//
+// ============================================================================
+
+package org.talend.dataprep.transformation.service;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.talend.dataprep.api.export.ExportParameters.SourceType.HEAD;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.springframework.test.context.TestPropertySource;
+import org.talend.dataprep.transformation.preview.api.PreviewParameters;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.restassured.http.ContentType;
+
+/**
+ * Diff integration tests on a range of TDP ids, with data set content read from small columnar blocks.
+ */
+@TestPropertySource(properties = { "dataset.content.store=columnar", "dataset.content.store.columnar.block.size=100" })
+public class DiffRangeTests extends TransformationServiceBaseTests {
+
+    @Test
+    public void should_preview_range_past_first_block() throws Exception {
+        // given
+        final String dataSetId = createDataset("../aggregation/aggregation_dataset.csv", "range4preview", "text/csv");
+
+        // when
+        final JsonNode unranged = preview(dataSetId, null);
+        final JsonNode ranged = preview(dataSetId, "[150,152,160]");
+
+        // then
+        final List<JsonNode> expected = new ArrayList<>();
+        for (JsonNode record : unranged) {
+            final long tdpId = record.get("tdpId").asLong();
+            if (tdpId >= 150 && tdpId <= 160) {
+                expected.add(record);
+            }
+        }
+        assertThat(expected.size(), is(11));
+        assertThat(ranged.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(ranged.get(i).get("tdpId").asLong(), is(expected.get(i).get("tdpId").asLong()));
+            assertThat(ranged.get(i), is(expected.get(i)));
+        }
+    }
+
+    private JsonNode preview(String dataSetId, String tdpIds) throws IOException {
+        final PreviewParameters input = new PreviewParameters( //
+                "{\"actions\": []}", //
+                IOUtils.toString(this.getClass().getResourceAsStream("../preview/uppercase.json")), //
+                dataSetId, //
+                null, //
+                tdpIds, //
+                HEAD);
+        final String response = given() //
+                .contentType(ContentType.JSON) //
+                .body(mapper.writer().writeValueAsString(input)) //
+                .when().expect().statusCode(200).log().ifError() //
+                .post("/transform/preview") //
+                .asString();
+        return mapper.readTree(response).get("records");
+    }
+}
@@ -13,6 +13,7 @@
 
 package org.talend.dataprep.transformation.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jayway.restassured.http.ContentType;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
@@ -25,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
 import static org.talend.dataprep.api.export.ExportParameters.SourceType.HEAD;
@@ -94,6 +96,36 @@ public class DiffTests extends TransformationServiceBaseTests {
         assertThat(response, sameJSONAsFile(expected));
     }
 
+    @Test
+    public void should_detect_invalid_values_changed_by_shared_actions() throws Exception {
+        // given (shared action makes some values of nbCommands invalid, preview action is filtered on these values)
+        PreviewParameters input = new PreviewParameters( //
+                IOUtils.toString(this.getClass().getResourceAsStream("../preview/replace_nbcommands.json")), //
+                IOUtils.toString(this.getClass().getResourceAsStream("../preview/replace_nbcommands_uppercase_invalid.json")), //
+                createDataset("../preview/input.csv", "input4preview", "text/csv"), //
+                null, //
+                null, //
+                HEAD
+        );
+
+        // when
+        final String response = given() //
+                .contentType(ContentType.JSON) //
+                .body(mapper.writer().writeValueAsString(input)) //
+                .when().expect().statusCode(200).log().ifError() //
+                .post("/transform/preview") //
+                .asString();
+
+        // then
+        final JsonNode records = mapper.readTree(response).get("records");
+        assertThat(records.size(), is(6));
+        for (JsonNode record : records) {
+            final boolean invalid = "none".equals(record.get("0008").asText());
+            final String lastname = record.get("0002").asText();
+            assertThat(lastname.equals(lastname.toUpperCase()), is(invalid));
+        }
+    }
+
     @Test
     public void should_return_created_columns() throws Exception {
         // given
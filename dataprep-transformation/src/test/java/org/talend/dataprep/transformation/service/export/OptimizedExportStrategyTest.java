@@ -22,6 +22,7 @@ import org.talend.dataprep.api.preparation.Step;
 import org.talend.dataprep.cache.ContentCache;
 import org.talend.dataprep.exception.TDPException;
 import org.talend.dataprep.preparation.store.PreparationRepository;
+import org.talend.dataprep.transformation.cache.CacheFormat;
 import org.talend.dataprep.transformation.cache.CacheKeyGenerator;
 import org.talend.dataprep.transformation.cache.TransformationCacheKey;
 import org.talend.dataprep.transformation.service.TransformationServiceBaseTests;
@@ -51,6 +52,9 @@ public class OptimizedExportStrategyTest extends TransformationServiceBaseTests
     @Autowired
     CacheKeyGenerator cacheKeyGenerator;
 
+    @Autowired
+    CacheFormat cacheFormat;
+
     @Test
     public void testAcceptNullParameters() throws Exception {
         assertFalse(optimizedExportStrategy.accept(null));
@@ -121,8 +125,7 @@ public class OptimizedExportStrategyTest extends TransformationServiceBaseTests
         final Preparation preparationDetails = getPreparation(preparation);
         for (String step : preparationDetails.getSteps()) {
             try (OutputStream content = contentCache.put(cacheKeyGenerator.generateMetadataKey(preparation, step, HEAD), ContentCache.TimeToLive.DEFAULT)) {
-                content.write("{}".getBytes());
-                content.flush();
+                cacheFormat.write(content, mapper.readTree("{}"));
             }
         }
 
@@ -146,8 +149,7 @@ public class OptimizedExportStrategyTest extends TransformationServiceBaseTests
         final Preparation preparationDetails = getPreparation(preparation);
         for (String step : preparationDetails.getSteps()) {
             try (OutputStream content = contentCache.put(cacheKeyGenerator.generateMetadataKey(preparation, step, HEAD), ContentCache.TimeToLive.DEFAULT)) {
-                content.write("{}".getBytes());
-                content.flush();
+                cacheFormat.write(content, mapper.readTree("{}"));
             }
 
             final TransformationCacheKey key = cacheKeyGenerator.generateContentKey(
@@ -158,8 +160,7 @@ public class OptimizedExportStrategyTest extends TransformationServiceBaseTests
                     HEAD
             );
             try (OutputStream content = contentCache.put(key, ContentCache.TimeToLive.DEFAULT)) {
-                content.write("{}".getBytes());
-                content.flush();
+                cacheFormat.write(content, mapper.readTree("{}"));
             }
         }
 
@@ -173,6 +174,42 @@ public class OptimizedExportStrategyTest extends TransformationServiceBaseTests
         assertTrue(optimizedExportStrategy.accept(exportParameters));
     }
 
+    @Test
+    public void testAcceptOK_nearestCachedStep() throws Exception {
+        // Given
+        final String datasetId = "1234";
+        final String format = "";
+        final String preparation = createEmptyPreparationFromDataset(datasetId, "test");
+        applyAction(preparation, "[{}]");
+        applyAction(preparation, "[{}]");
+        applyAction(preparation, "[{}]");
+
+        // only first step is cached (not the one right before head)
+        final String step = getPreparation(preparation).getSteps().get(1);
+        try (OutputStream content = contentCache.put(cacheKeyGenerator.generateMetadataKey(preparation, step, HEAD), ContentCache.TimeToLive.DEFAULT)) {
+            cacheFormat.write(content, mapper.readTree("{}"));
+        }
+        final TransformationCacheKey key = cacheKeyGenerator.generateContentKey(
+                datasetId,
+                preparation,
+                step,
+                format,
+                HEAD
+        );
+        try (OutputStream content = contentCache.put(key, ContentCache.TimeToLive.DEFAULT)) {
+            cacheFormat.write(content, mapper.readTree("{}"));
+        }
+
+        ExportParameters exportParameters = new ExportParameters();
+        exportParameters.setPreparationId(preparation);
+        exportParameters.setDatasetId(datasetId);
+        exportParameters.setExportType(format);
+        exportParameters.setFrom(HEAD);
+
+        // Then
+        assertTrue(optimizedExportStrategy.accept(exportParameters));
+    }
+
     @Test
     public void testExecute() throws Exception {
         // Given
@@ -185,8 +222,7 @@ public class OptimizedExportStrategyTest extends TransformationServiceBaseTests
         final Preparation preparationDetails = getPreparation(preparation);
         for (String step : preparationDetails.getSteps()) {
             try (OutputStream content = contentCache.put(cacheKeyGenerator.generateMetadataKey(preparation, step, HEAD), ContentCache.TimeToLive.DEFAULT)) {
-                content.write("{}".getBytes());
-                content.flush();
+                cacheFormat.write(content, mapper.readTree("{}"));
             }
 
             final TransformationCacheKey key = cacheKeyGenerator.generateContentKey(
@@ -197,8 +233,7 @@ public class OptimizedExportStrategyTest extends TransformationServiceBaseTests
                     HEAD
             );
             try (OutputStream content = contentCache.put(key, ContentCache.TimeToLive.DEFAULT)) {
-                content.write("{\"records\": [{\"0000\": \"a\"}]}".getBytes());
-                content.flush();
+                cacheFormat.write(content, mapper.readTree("{\"records\": [{\"0000\": \"a\"}]}"));
             }
         }
 